@@ -0,0 +1,191 @@
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+
+import content.CascadeClassifier;
+import content.VisualFeatureDetection;
+import id3.DecisionTree;
+import link.LinkAnalysis;
+
+/**
+ * A runner class that will run once. It will build the decision tree with the
+ * visual features and link analysis attributes of the training set, then
+ * classify the test set with the cascade classifier, which only parses a page
+ * when the tree needs one of its visual features.
+ * @author Nick Rummel
+ *
+ */
+public class RunCascade
+{
+	/**
+	 * Stores each HTML file's path.
+	 */
+	private static String[] htmlFilePaths;
+
+	/**
+	 * Stores whether each HTML file is an article or not.
+	 */
+	private static boolean[] htmlIsArticle;
+
+	/**
+	 * Stores the URL to each HTML
+	 */
+	private static String[] htmlURL;
+
+	/**
+	 * Stores the folder path to the HTML files.
+	 */
+	private final static String DATASETPATH = "dataset\\";
+
+	/**
+	 * The number of HTML files being used overall.
+	 */
+	private final static int ENTRIES = 330;
+
+	/**
+	 * The number of HTML files being used for training.
+	 */
+	private final static int TRAININGSETSIZE = 300;
+
+	/**
+	 * The number of visual features attributes being tested.
+	 */
+	private final static int VFCOUNT = 8;
+
+	/**
+	 * The number of link analysis attributes being tested.
+	 */
+	private final static int LACOUNT = 6;
+
+	/**
+	 * An array of all visual feature and link analysis descriptions for the
+	 * decision tree.
+	 */
+	private final static String[] ALLDESCRIPTIONS =
+	{ "Article Author Exists?", "Article Category Exists?", "Article Comment Link Exists?", "Article Content Exists?",
+			"Article Publication Date Exists?", "Article Related News Link Exists?", "Article Source Exists?",
+			"Article Title Exists?", "Link Does Not Contain Reserve Word?", "Link Does Not End With Slash?",
+			"Link Has Date?", "Link Has Four Slashes?", "Link Has ID Number?", "Link Has Longer Length?" };
+
+	/**
+	 * Main method
+	 * @param args Arguments
+	 */
+	public static void main(String[] args)
+	{
+		htmlFilePaths = new String[ENTRIES];
+		htmlIsArticle = new boolean[ENTRIES];
+		htmlURL = new String[ENTRIES];
+
+		// read in data set file path, actual article value, and article link
+		File dataset = new File("dataset\\ready.csv");
+		try
+		{
+			BufferedReader br = new BufferedReader(new FileReader(dataset));
+			for (int i = 0; i < ENTRIES; i++)
+			{
+				String line = br.readLine();
+				String[] tokens = line.split(",");
+				htmlFilePaths[i] = tokens[1];
+				htmlIsArticle[i] = Integer.parseInt(tokens[2]) != 0;
+				htmlURL[i] = tokens[3];
+			}
+			br.close();
+		}
+		catch (FileNotFoundException e)
+		{
+			e.printStackTrace();
+		}
+		catch (IOException e)
+		{
+			e.printStackTrace();
+		}
+
+		ArrayList<Integer> trainingSet = RunLAOnly.chooseRandomTrainingSet(TRAININGSETSIZE);
+		ArrayList<Integer> testingSet = RunLAOnly.createTestSetList(trainingSet);
+
+		// build the VF+LA tree from every attribute of the training set
+		System.out.println("Testing Training Set...");
+		boolean[][] trainingData = new boolean[VFCOUNT + LACOUNT][trainingSet.size()];
+		boolean[] actualData = new boolean[trainingSet.size()];
+		for (int i = 0; i < trainingSet.size(); i++)
+		{
+			int j = trainingSet.get(i);
+			boolean[] attributes = allAttributes(j);
+			for (int k = 0; k < attributes.length; k++)
+			{
+				trainingData[k][i] = attributes[k];
+			}
+			actualData[i] = htmlIsArticle[j - 1];
+		}
+		DecisionTree vfdAndLaTree = new DecisionTree(null);
+		vfdAndLaTree.buildTree(actualData, trainingData, ALLDESCRIPTIONS);
+		System.out.println("\nVF & LA Tree");
+		vfdAndLaTree.printTree();
+
+		// classify the test set, parsing a page only when the tree needs it
+		CascadeClassifier cascade = new CascadeClassifier(vfdAndLaTree);
+		int correctCount = 0;
+		long start = System.nanoTime();
+		System.out.print("\nResults,");
+		for (int i = 0; i < testingSet.size(); i++)
+		{
+			int j = testingSet.get(i);
+			boolean correct = cascade.isArticle(htmlURL[j - 1], DATASETPATH + htmlFilePaths[j - 1]) == htmlIsArticle[j
+					- 1];
+			if (correct)
+			{
+				correctCount++;
+			}
+			System.out.print(correct + ",");
+		}
+		long elapsed = System.nanoTime() - start;
+		System.out.print("\n\n");
+
+		double correctPercent = (((double) correctCount) / testingSet.size()) * 100.0;
+		System.out.println("Pages: " + cascade.getPageCount());
+		System.out.println("Pages Parsed: " + cascade.getParsedCount());
+		System.out.println("Pages Skipped: " + cascade.getSkippedCount());
+		System.out.println("Visual Features Checked: " + cascade.getVisualFeatureCount() + " of "
+				+ (VFCOUNT * cascade.getPageCount()));
+		System.out.println("Milliseconds Per Page: " + (elapsed / 1e6 / testingSet.size()));
+		System.out.println("Correct %: " + correctPercent);
+		System.out.println("Incorrect %: " + (100.0 - correctPercent));
+	}
+
+	/**
+	 * Runs an HTML file and its URL through visual feature detection and link
+	 * analysis.
+	 * @param j the index of the HTML file, starting at 1
+	 * @return whether each attribute exists, in the order of ALLDESCRIPTIONS
+	 */
+	public static boolean[] allAttributes(int j)
+	{
+		VisualFeatureDetection vfd = new VisualFeatureDetection(DATASETPATH + htmlFilePaths[j - 1]);
+		LinkAnalysis la = new LinkAnalysis(htmlURL[j - 1]);
+		boolean[] result = new boolean[VFCOUNT + LACOUNT];
+		// find all eight visual features in one walk of the page
+		int features = vfd.articleFeatureMask();
+		result[0] = (features & VisualFeatureDetection.AUTHORFEATURE) != 0;
+		result[1] = (features & VisualFeatureDetection.CATEGORYFEATURE) != 0;
+		result[2] = (features & VisualFeatureDetection.COMMENTLINKFEATURE) != 0;
+		result[3] = (features & VisualFeatureDetection.CONTENTFEATURE) != 0;
+		result[4] = (features & VisualFeatureDetection.PUBLICATIONDATEFEATURE) != 0;
+		result[5] = (features & VisualFeatureDetection.RELATEDNEWSLINKSFEATURE) != 0;
+		result[6] = (features & VisualFeatureDetection.SOURCEFEATURE) != 0;
+		result[7] = (features & VisualFeatureDetection.TITLEFEATURE) != 0;
+
+		// find all six link features in one pass over the URL
+		int linkFeatures = la.linkFeatureMask();
+		result[8] = (linkFeatures & LinkAnalysis.NORESERVEDWORDFEATURE) != 0;
+		result[9] = (linkFeatures & LinkAnalysis.NOENDSLASHFEATURE) != 0;
+		result[10] = (linkFeatures & LinkAnalysis.DATEFEATURE) != 0;
+		result[11] = (linkFeatures & LinkAnalysis.FOURSLASHESFEATURE) != 0;
+		result[12] = (linkFeatures & LinkAnalysis.IDNUMBERFEATURE) != 0;
+		result[13] = (linkFeatures & LinkAnalysis.LONGERLENGTHFEATURE) != 0;
+		return result;
+	}
+}
@@ -571,21 +571,25 @@ public class RunCnnVsAll
 
 			VisualFeatureDetection vfd = new VisualFeatureDetection(DATASETPATH + htmlFilePaths[j - 1]);
 			LinkAnalysis la = new LinkAnalysis(htmlURL[j - 1]);
-			resultingData[0][i] = vfd.articleAuthorExists();
-			resultingData[1][i] = vfd.articleCategoryExists();
-			resultingData[2][i] = vfd.articleCommentLinkExists();
-			resultingData[3][i] = vfd.articleContentExists();
-			resultingData[4][i] = vfd.articlePublicationDateExists();
-			resultingData[5][i] = vfd.articleRelatedNewsLinksExists();
-			resultingData[6][i] = vfd.articleSourceExists();
-			resultingData[7][i] = vfd.articleTitleExists();
-
-			resultingData[8][i] = la.linkDoesNotContainReservedWord();
-			resultingData[9][i] = la.linkDoesNotEndWithSlash();
-			resultingData[10][i] = la.linkHasDate();
-			resultingData[11][i] = la.linkHasFourSlashes();
-			resultingData[12][i] = la.linkHasIDNumber();
-			resultingData[13][i] = la.linkHasLongerLength();
+			// find all eight visual features in one walk of the page
+			int features = vfd.articleFeatureMask();
+			resultingData[0][i] = (features & VisualFeatureDetection.AUTHORFEATURE) != 0;
+			resultingData[1][i] = (features & VisualFeatureDetection.CATEGORYFEATURE) != 0;
+			resultingData[2][i] = (features & VisualFeatureDetection.COMMENTLINKFEATURE) != 0;
+			resultingData[3][i] = (features & VisualFeatureDetection.CONTENTFEATURE) != 0;
+			resultingData[4][i] = (features & VisualFeatureDetection.PUBLICATIONDATEFEATURE) != 0;
+			resultingData[5][i] = (features & VisualFeatureDetection.RELATEDNEWSLINKSFEATURE) != 0;
+			resultingData[6][i] = (features & VisualFeatureDetection.SOURCEFEATURE) != 0;
+			resultingData[7][i] = (features & VisualFeatureDetection.TITLEFEATURE) != 0;
+
+			// find all six link features in one pass over the URL
+			int linkFeatures = la.linkFeatureMask();
+			resultingData[8][i] = (linkFeatures & LinkAnalysis.NORESERVEDWORDFEATURE) != 0;
+			resultingData[9][i] = (linkFeatures & LinkAnalysis.NOENDSLASHFEATURE) != 0;
+			resultingData[10][i] = (linkFeatures & LinkAnalysis.DATEFEATURE) != 0;
+			resultingData[11][i] = (linkFeatures & LinkAnalysis.FOURSLASHESFEATURE) != 0;
+			resultingData[12][i] = (linkFeatures & LinkAnalysis.IDNUMBERFEATURE) != 0;
+			resultingData[13][i] = (linkFeatures & LinkAnalysis.LONGERLENGTHFEATURE) != 0;
 		}
 		return resultingData;
 	}
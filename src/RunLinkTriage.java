@@ -0,0 +1,117 @@
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import id3.DecisionTree;
+import link.LinkAnalysis;
+import link.LinkTreeClassifier;
+import link.UrlStreamReader;
+
+/**
+ * A runner class that triages URLs before any HTML is fetched. It builds the
+ * decision tree using only the link analysis attributes of every entry in the
+ * data set with DecisionTree.buildTree, then streams a sitemap XML file or a
+ * list of URLs (either may be gzip compressed) through the tree, writing each
+ * article/non-article decision to a file as soon as it is made.
+ * @author Nick Rummel
+ *
+ */
+public class RunLinkTriage
+{
+	/**
+	 * The number of HTML files in the data set.
+	 */
+	private final static int ENTRIES = 330;
+
+	/**
+	 * The number of link analysis attributes.
+	 */
+	private final static int LACOUNT = 6;
+
+	/**
+	 * Main method
+	 * @param args the sitemap or URL list to read, then the file to write the
+	 *            decisions to
+	 */
+	public static void main(String[] args)
+	{
+		if (args.length < 2)
+		{
+			System.out.println("Usage: RunLinkTriage <sitemap or URL list> <output file>");
+			return;
+		}
+
+		DecisionTree laOnlyTree = buildLinkTree();
+		System.out.println("LA Only Tree");
+		laOnlyTree.printTree();
+
+		LinkTreeClassifier classifier = new LinkTreeClassifier(laOnlyTree);
+		long start = System.nanoTime();
+		try
+		{
+			UrlStreamReader in = UrlStreamReader.open(new File(args[0]));
+			Writer out = new BufferedWriter(
+					new OutputStreamWriter(new FileOutputStream(args[1]), StandardCharsets.UTF_8));
+			classifier.classifyAll(in, out);
+			in.close();
+			out.close();
+		}
+		catch (IOException e)
+		{
+			e.printStackTrace();
+		}
+		double seconds = (System.nanoTime() - start) / 1e9;
+		System.out.println("\nURLs: " + classifier.getUrlCount());
+		System.out.println("Articles: " + classifier.getArticleCount());
+		System.out.println("Seconds: " + seconds);
+	}
+
+	/**
+	 * Builds the decision tree from the link analysis attributes of every
+	 * entry in the data set. No HTML is read.
+	 * @return the link-only decision tree
+	 */
+	public static DecisionTree buildLinkTree()
+	{
+		boolean[] htmlIsArticle = new boolean[ENTRIES];
+		boolean[][] laOnlyData = new boolean[LACOUNT][ENTRIES];
+
+		// read in the actual article value and article link of each entry
+		File dataset = new File("dataset\\ready.csv");
+		try
+		{
+			BufferedReader br = new BufferedReader(new FileReader(dataset));
+			for (int i = 0; i < ENTRIES; i++)
+			{
+				String line = br.readLine();
+				String[] tokens = line.split(",");
+				htmlIsArticle[i] = Integer.parseInt(tokens[2]) != 0;
+
+				// find all six link features in one pass over the URL
+				int linkFeatures = new LinkAnalysis(tokens[3]).linkFeatureMask();
+				laOnlyData[0][i] = (linkFeatures & LinkAnalysis.NORESERVEDWORDFEATURE) != 0;
+				laOnlyData[1][i] = (linkFeatures & LinkAnalysis.NOENDSLASHFEATURE) != 0;
+				laOnlyData[2][i] = (linkFeatures & LinkAnalysis.DATEFEATURE) != 0;
+				laOnlyData[3][i] = (linkFeatures & LinkAnalysis.FOURSLASHESFEATURE) != 0;
+				laOnlyData[4][i] = (linkFeatures & LinkAnalysis.IDNUMBERFEATURE) != 0;
+				laOnlyData[5][i] = (linkFeatures & LinkAnalysis.LONGERLENGTHFEATURE) != 0;
+			}
+			br.close();
+		}
+		catch (IOException e)
+		{
+			e.printStackTrace();
+		}
+
+		// perform ID3 information gain calculations for the link attributes
+		DecisionTree laOnlyTree = new DecisionTree(null);
+		laOnlyTree.buildTree(htmlIsArticle, laOnlyData, LinkTreeClassifier.DESCRIPTIONS);
+		return laOnlyTree;
+	}
+}
@@ -0,0 +1,241 @@
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+
+import content.VisualFeatureDetection;
+import id3.DecisionTree;
+import id3.TreeNode;
+import link.UrlTemplateTrie;
+
+/**
+ * A runner class that will run once. It will learn the per-host URL templates
+ * of the training set, then classify the test set from the templates alone,
+ * only running visual feature detection (through a decision tree built with
+ * the visual features of the training set) for the URLs whose host or
+ * template was not learned.
+ * @author Nick Rummel
+ *
+ */
+public class RunTemplateTrie
+{
+	/**
+	 * Stores each HTML file's path.
+	 */
+	private static String[] htmlFilePaths;
+
+	/**
+	 * Stores whether each HTML file is an article or not.
+	 */
+	private static boolean[] htmlIsArticle;
+
+	/**
+	 * Stores the URL to each HTML
+	 */
+	private static String[] htmlURL;
+
+	/**
+	 * Stores the folder path to the HTML files.
+	 */
+	private final static String DATASETPATH = "dataset\\";
+
+	/**
+	 * The number of HTML files being used overall.
+	 */
+	private final static int ENTRIES = 330;
+
+	/**
+	 * The number of HTML files being used for training.
+	 */
+	private final static int TRAININGSETSIZE = 300;
+
+	/**
+	 * The number of visual features attributes being tested.
+	 */
+	private final static int VFCOUNT = 8;
+
+	/**
+	 * An array of the visual feature descriptions for the decision tree.
+	 */
+	private final static String[] VFDESCRIPTIONS =
+	{ "Article Author Exists?", "Article Category Exists?", "Article Comment Link Exists?", "Article Content Exists?",
+			"Article Publication Date Exists?", "Article Related News Link Exists?", "Article Source Exists?",
+			"Article Title Exists?" };
+
+	/**
+	 * Main method
+	 * @param args Arguments
+	 */
+	public static void main(String[] args)
+	{
+		htmlFilePaths = new String[ENTRIES];
+		htmlIsArticle = new boolean[ENTRIES];
+		htmlURL = new String[ENTRIES];
+
+		// read in data set file path, actual article value, and article link
+		File dataset = new File("dataset\\ready.csv");
+		try
+		{
+			BufferedReader br = new BufferedReader(new FileReader(dataset));
+			for (int i = 0; i < ENTRIES; i++)
+			{
+				String line = br.readLine();
+				String[] tokens = line.split(",");
+				htmlFilePaths[i] = tokens[1];
+				htmlIsArticle[i] = Integer.parseInt(tokens[2]) != 0;
+				htmlURL[i] = tokens[3];
+			}
+			br.close();
+		}
+		catch (FileNotFoundException e)
+		{
+			e.printStackTrace();
+		}
+		catch (IOException e)
+		{
+			e.printStackTrace();
+		}
+
+		ArrayList<Integer> trainingSet = RunLAOnly.chooseRandomTrainingSet(TRAININGSETSIZE);
+		ArrayList<Integer> testingSet = RunLAOnly.createTestSetList(trainingSet);
+
+		// learn the templates of the training set
+		UrlTemplateTrie trie = new UrlTemplateTrie();
+		for (int i = 0; i < trainingSet.size(); i++)
+		{
+			int j = trainingSet.get(i);
+			trie.learn(htmlURL[j - 1], htmlIsArticle[j - 1]);
+		}
+		System.out.println("Trie Nodes: " + trie.size());
+
+		// classify the test set from the templates, saving the URLs that need
+		// visual feature detection
+		int[] results = new int[testingSet.size()];
+		ArrayList<Integer> unknown = new ArrayList<Integer>();
+		long start = System.nanoTime();
+		for (int i = 0; i < testingSet.size(); i++)
+		{
+			results[i] = trie.classify(htmlURL[testingSet.get(i) - 1]);
+			if (results[i] == UrlTemplateTrie.UNKNOWN)
+			{
+				unknown.add(i);
+			}
+		}
+		long elapsed = System.nanoTime() - start;
+
+		// fall back to visual feature detection, only if a URL needs it
+		if (unknown.size() > 0)
+		{
+			System.out.println("Testing Training Set...");
+			DecisionTree vfOnlyTree = buildVisualTree(trainingSet);
+			System.out.println("\nVF Only Tree");
+			vfOnlyTree.printTree();
+			for (int i = 0; i < unknown.size(); i++)
+			{
+				int k = unknown.get(i);
+				boolean article = decide(vfOnlyTree.getRoot(), visualFeatures(testingSet.get(k)));
+				results[k] = article ? UrlTemplateTrie.ARTICLE : UrlTemplateTrie.NOTARTICLE;
+			}
+		}
+
+		// count the correct answers
+		int correctCount = 0;
+		System.out.print("\nResults,");
+		for (int i = 0; i < testingSet.size(); i++)
+		{
+			boolean correct = (results[i] == UrlTemplateTrie.ARTICLE) == htmlIsArticle[testingSet.get(i) - 1];
+			if (correct)
+			{
+				correctCount++;
+			}
+			System.out.print(correct + ",");
+		}
+		System.out.print("\n\n");
+
+		double correctPercent = (((double) correctCount) / testingSet.size()) * 100.0;
+		System.out.println("Classified By Template: " + (testingSet.size() - unknown.size()));
+		System.out.println("Classified By Visual Features: " + unknown.size());
+		System.out.println("Microseconds Per Template Lookup: " + (elapsed / 1000.0 / testingSet.size()));
+		System.out.println("Correct %: " + correctPercent);
+		System.out.println("Incorrect %: " + (100.0 - correctPercent));
+	}
+
+	/**
+	 * Builds the decision tree from the visual features of the training set.
+	 * @param trainingSet the indices of HTML files for the training set
+	 * @return the visual feature decision tree
+	 */
+	public static DecisionTree buildVisualTree(ArrayList<Integer> trainingSet)
+	{
+		boolean[][] vfOnlyData = new boolean[VFCOUNT][trainingSet.size()];
+		boolean[] actualData = new boolean[trainingSet.size()];
+		for (int i = 0; i < trainingSet.size(); i++)
+		{
+			int j = trainingSet.get(i);
+			boolean[] features = visualFeatures(j);
+			for (int k = 0; k < VFCOUNT; k++)
+			{
+				vfOnlyData[k][i] = features[k];
+			}
+			actualData[i] = htmlIsArticle[j - 1];
+		}
+
+		DecisionTree vfOnlyTree = new DecisionTree(null);
+		vfOnlyTree.buildTree(actualData, vfOnlyData, VFDESCRIPTIONS);
+		return vfOnlyTree;
+	}
+
+	/**
+	 * Runs an HTML file through visual feature detection.
+	 * @param j the index of the HTML file, starting at 1
+	 * @return whether each visual feature exists, in the order of
+	 *         VFDESCRIPTIONS
+	 */
+	public static boolean[] visualFeatures(int j)
+	{
+		VisualFeatureDetection vfd = new VisualFeatureDetection(DATASETPATH + htmlFilePaths[j - 1]);
+		// find all eight visual features in one walk of the page
+		int features = vfd.articleFeatureMask();
+		boolean[] result = new boolean[VFCOUNT];
+		result[0] = (features & VisualFeatureDetection.AUTHORFEATURE) != 0;
+		result[1] = (features & VisualFeatureDetection.CATEGORYFEATURE) != 0;
+		result[2] = (features & VisualFeatureDetection.COMMENTLINKFEATURE) != 0;
+		result[3] = (features & VisualFeatureDetection.CONTENTFEATURE) != 0;
+		result[4] = (features & VisualFeatureDetection.PUBLICATIONDATEFEATURE) != 0;
+		result[5] = (features & VisualFeatureDetection.RELATEDNEWSLINKSFEATURE) != 0;
+		result[6] = (features & VisualFeatureDetection.SOURCEFEATURE) != 0;
+		result[7] = (features & VisualFeatureDetection.TITLEFEATURE) != 0;
+		return result;
+	}
+
+	/**
+	 * Traverses the tree using the description of each node and whether the
+	 * visual feature is true (yes) or false (no).
+	 * @param curNode the root of the decision tree
+	 * @param features whether each visual feature exists
+	 * @return true if the tree decides the page is an article, otherwise false
+	 */
+	public static boolean decide(TreeNode curNode, boolean[] features)
+	{
+		while (curNode.getYesBranch() != null && curNode.getNoBranch() != null)
+		{
+			int loc = RunLAOnly.indexOfDescription(curNode.getNodeDescription(), VFDESCRIPTIONS);
+			curNode = features[loc] ? curNode.getYesBranch() : curNode.getNoBranch();
+		}
+
+		// always yes means the file is an article
+		if (curNode.getNodeDescription().equals("Always Yes"))
+		{
+			return true;
+		}
+		// always no means the file is not an article
+		else if (curNode.getNodeDescription().equals("Always No"))
+		{
+			return false;
+		}
+		// makes the last decision before arriving at the yes or no conclusion
+		return features[RunLAOnly.indexOfDescription(curNode.getNodeDescription(), VFDESCRIPTIONS)];
+	}
+}
@@ -0,0 +1,173 @@
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import id3.DecisionTree;
+import id3.TreeNode;
+
+/**
+ * A runner class that times building a decision tree from synthetic data
+ * with the sequential builder, the parallel builder and the level-wise
+ * builder, with and without a pool, and checks that all of the trees are the
+ * same. With at least DecisionTree.SCANTHRESHOLD attributes, the builders
+ * given a pool also calculate the gains of chunks of attributes at the same
+ * time. Each row's attributes are random, and whether it is an article
+ * depends on the first few attributes with some noise, so the tree grows deep
+ * enough to have many branches to build.
+ * @author Nick Rummel
+ *
+ */
+public class RunTreeBuildTiming
+{
+	/**
+	 * The number of rows used when none is given.
+	 */
+	private final static int ROWS = 2000000;
+
+	/**
+	 * The number of attributes used when none is given.
+	 */
+	private final static int ATTRIBUTES = 16;
+
+	/**
+	 * The percent of rows whose article value is random.
+	 */
+	private final static int NOISEPERCENT = 5;
+
+	/**
+	 * The number of times each builder is timed, keeping the fastest.
+	 */
+	private final static int RUNS = 3;
+
+	/**
+	 * Main method
+	 * @param args the number of rows, the number of attributes, the fork
+	 *            threshold and the number of threads, all optional
+	 */
+	public static void main(String[] args)
+	{
+		int rows = args.length > 0 ? Integer.parseInt(args[0]) : ROWS;
+		int attributes = args.length > 1 ? Integer.parseInt(args[1]) : ATTRIBUTES;
+		int threshold = args.length > 2 ? Integer.parseInt(args[2]) : DecisionTree.FORKTHRESHOLD;
+		int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+		boolean[] actualData = new boolean[rows];
+		boolean[][] data = new boolean[attributes][rows];
+		String[] descriptions = new String[attributes];
+		createData(actualData, data, descriptions, new Random(499));
+
+		DecisionTree sequential = new DecisionTree(null);
+		long sequentialNanos = Long.MAX_VALUE;
+		for (int r = 0; r < RUNS; r++)
+		{
+			long start = System.nanoTime();
+			sequential.buildTree(actualData, data, descriptions);
+			sequentialNanos = Math.min(sequentialNanos, System.nanoTime() - start);
+		}
+
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		DecisionTree parallel = new DecisionTree(null);
+		long parallelNanos = Long.MAX_VALUE;
+		for (int r = 0; r < RUNS; r++)
+		{
+			long start = System.nanoTime();
+			parallel.buildTree(actualData, data, descriptions, pool, threshold);
+			parallelNanos = Math.min(parallelNanos, System.nanoTime() - start);
+		}
+
+		DecisionTree levelWise = new DecisionTree(null);
+		long levelWiseNanos = Long.MAX_VALUE;
+		for (int r = 0; r < RUNS; r++)
+		{
+			long start = System.nanoTime();
+			levelWise.buildTreeLevelWise(actualData, data, descriptions);
+			levelWiseNanos = Math.min(levelWiseNanos, System.nanoTime() - start);
+		}
+
+		DecisionTree parallelLevelWise = new DecisionTree(null);
+		long parallelLevelWiseNanos = Long.MAX_VALUE;
+		for (int r = 0; r < RUNS; r++)
+		{
+			long start = System.nanoTime();
+			parallelLevelWise.buildTreeLevelWise(actualData, data, descriptions, pool);
+			parallelLevelWiseNanos = Math.min(parallelLevelWiseNanos, System.nanoTime() - start);
+		}
+		pool.shutdown();
+
+		System.out.println("Rows: " + rows);
+		System.out.println("Attributes: " + attributes);
+		System.out.println("Threads: " + threads);
+		System.out.println("Fork Threshold: " + threshold);
+		System.out.println("Nodes: " + countNodes(sequential.getRoot()));
+		System.out.println("Same Tree: " + (sameTree(sequential.getRoot(), parallel.getRoot())
+				&& sameTree(sequential.getRoot(), levelWise.getRoot())
+				&& sameTree(sequential.getRoot(), parallelLevelWise.getRoot())));
+		System.out.println("Sequential Milliseconds: " + (sequentialNanos / 1e6));
+		System.out.println("Parallel Milliseconds: " + (parallelNanos / 1e6));
+		System.out.println("Level-Wise Milliseconds: " + (levelWiseNanos / 1e6));
+		System.out.println("Parallel Level-Wise Milliseconds: " + (parallelLevelWiseNanos / 1e6));
+		System.out.println("Speedup: " + ((double) sequentialNanos / parallelNanos));
+	}
+
+	/**
+	 * Fills in the synthetic data. A row is an article if it has the first
+	 * attribute and not the second, or has the third and fourth, except for
+	 * NOISEPERCENT of the rows, which are random.
+	 * @param actualData the article value of each row
+	 * @param data the attributes of each row
+	 * @param descriptions the description of each attribute
+	 * @param random the random numbers
+	 */
+	public static void createData(boolean[] actualData, boolean[][] data, String[] descriptions, Random random)
+	{
+		for (int j = 0; j < data.length; j++)
+		{
+			descriptions[j] = "Attribute " + (j + 1);
+			for (int i = 0; i < actualData.length; i++)
+			{
+				data[j][i] = random.nextBoolean();
+			}
+		}
+		for (int i = 0; i < actualData.length; i++)
+		{
+			if (random.nextInt(100) < NOISEPERCENT || data.length < 4)
+			{
+				actualData[i] = random.nextBoolean();
+			}
+			else
+			{
+				actualData[i] = (data[0][i] && !data[1][i]) || (data[2][i] && data[3][i]);
+			}
+		}
+	}
+
+	/**
+	 * Counts the nodes of a tree.
+	 * @param node the root of the tree
+	 * @return the number of nodes
+	 */
+	public static int countNodes(TreeNode node)
+	{
+		if (node == null)
+		{
+			return 0;
+		}
+		return 1 + countNodes(node.getYesBranch()) + countNodes(node.getNoBranch());
+	}
+
+	/**
+	 * Checks that two trees have the same IDs and descriptions in the same
+	 * places.
+	 * @param a the root of one tree
+	 * @param b the root of the other tree
+	 * @return true if the trees are the same, otherwise false
+	 */
+	public static boolean sameTree(TreeNode a, TreeNode b)
+	{
+		if (a == null || b == null)
+		{
+			return a == b;
+		}
+		return a.getNodeId() == b.getNodeId() && a.getNodeDescription().equals(b.getNodeDescription())
+				&& sameTree(a.getYesBranch(), b.getYesBranch()) && sameTree(a.getNoBranch(), b.getNoBranch());
+	}
+}
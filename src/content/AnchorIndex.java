@@ -0,0 +1,126 @@
+package content;
+
+import org.jsoup.nodes.Element;
+
+/**
+ * The class containing the anchor index of a web page. In one pass over the
+ * elements in document order, it records whether each element is inside an
+ * anchor (a tag) and whether it has an anchor as a child. The hyper link rules
+ * can then check an element with a bit test instead of comparing it against
+ * every anchor on the page.
+ * @author Nick Rummel
+ *
+ */
+public class AnchorIndex
+{
+	/**
+	 * A constant for the bit that is set when an element has an anchor as a
+	 * parent node (at any level).
+	 */
+	protected static final byte INSIDEANCHOR = 1;
+
+	/**
+	 * A constant for the bit that is set when an element has an anchor as a
+	 * child node.
+	 */
+	protected static final byte ANCHORCHILD = 2;
+
+	/**
+	 * An instance variable that contains the document order index used to
+	 * find each element's ordinal.
+	 */
+	protected DocumentOrderIndex order;
+
+	/**
+	 * An instance variable that contains the anchor bits for each element at
+	 * the index of its ordinal.
+	 */
+	protected byte[] flags;
+
+	/**
+	 * Constructor of class that sets the anchor bits of every element.
+	 * @param order the document order index of the page
+	 */
+	public AnchorIndex(DocumentOrderIndex order)
+	{
+		this.order = order;
+		int size = order.size();
+		flags = new byte[size];
+
+		// the stack holds the ordinals of the current element's parents, so
+		// the top of the stack is the parent of the current element
+		int[] parents = new int[size];
+		int top = -1;
+		for (int i = 0; i < size; i++)
+		{
+			// remove the elements that do not contain the current element
+			while (top > -1 && order.lastDescendantOf(parents[top]) < i)
+			{
+				top--;
+			}
+			if (top > -1)
+			{
+				int parent = parents[top];
+				boolean parentIsAnchor = isAnchor(order.elementAt(parent));
+				// the element is inside an anchor if its parent is one or the
+				// parent is inside one
+				if (parentIsAnchor || (flags[parent] & INSIDEANCHOR) != 0)
+				{
+					flags[i] |= INSIDEANCHOR;
+				}
+				// the parent has an anchor child if this element is one
+				if (isAnchor(order.elementAt(i)))
+				{
+					flags[parent] |= ANCHORCHILD;
+				}
+			}
+			top++;
+			parents[top] = i;
+		}
+	}
+
+	/**
+	 * Checks if an element is an anchor (a tag).
+	 * @param element the Element node to check
+	 * @return true if the element is an anchor, otherwise false
+	 */
+	private boolean isAnchor(Element element)
+	{
+		return element.tagName().equalsIgnoreCase("a");
+	}
+
+	/**
+	 * Determines if an element has an anchor as a parent node at any level.
+	 * @param element the Element node to check
+	 * @return true if the element is inside an anchor, otherwise false
+	 */
+	public boolean isInsideAnchor(Element element)
+	{
+		int ordinal = order.ordinalOf(element);
+		return ordinal > -1 && (flags[ordinal] & INSIDEANCHOR) != 0;
+	}
+
+	/**
+	 * Determines if an element has an anchor as a child node.
+	 * @param element the Element node to check
+	 * @return true if one of the element's children is an anchor, otherwise
+	 *         false
+	 */
+	public boolean hasAnchorChild(Element element)
+	{
+		int ordinal = order.ordinalOf(element);
+		return ordinal > -1 && (flags[ordinal] & ANCHORCHILD) != 0;
+	}
+
+	/**
+	 * Determines if an element's text is hyper linked, meaning that it is
+	 * inside an anchor or has an anchor as a child.
+	 * @param element the Element node to check
+	 * @return true if the element is hyper linked, otherwise false
+	 */
+	public boolean isHyperLinked(Element element)
+	{
+		int ordinal = order.ordinalOf(element);
+		return ordinal > -1 && flags[ordinal] != 0;
+	}
+}
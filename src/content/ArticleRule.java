@@ -0,0 +1,55 @@
+package content;
+
+import org.jsoup.nodes.Element;
+
+/**
+ * The class containing a single rule of an article feature, such as the title's
+ * font size or the publication date's format. A rule only answers whether one
+ * element passes it, so the rules of a feature can be checked in any order by a
+ * RuleChain.
+ * @author Nick Rummel
+ *
+ */
+public abstract class ArticleRule
+{
+	/**
+	 * An instance variable that contains the name of the rule.
+	 */
+	protected String name;
+
+	/**
+	 * Constructor of class that sets the name of the rule.
+	 * @param name the name of the rule
+	 */
+	public ArticleRule(String name)
+	{
+		this.name = name;
+	}
+
+	/**
+	 * Getter method for the name of the rule.
+	 * @return the name of the rule
+	 */
+	public String getName()
+	{
+		return name;
+	}
+
+	/**
+	 * Checks the rule against a single element.
+	 * @param vfd the visual feature detection of the page the element is from
+	 * @param textSet The current Element node to check
+	 * @return true if the element passes the rule, otherwise false
+	 */
+	public abstract boolean matches(VisualFeatureDetection vfd, Element textSet);
+
+	/**
+	 * Returns the name of the rule.
+	 * @return the name of the rule
+	 */
+	@Override
+	public String toString()
+	{
+		return name;
+	}
+}
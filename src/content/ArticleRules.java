@@ -0,0 +1,359 @@
+package content;
+
+import org.jsoup.nodes.Element;
+
+/**
+ * The class containing the rules of each article feature. The rules are kept
+ * as data so each page's RuleChain can check them in the order that rejects
+ * that page's elements the fastest. Each rule calls the feature's detection
+ * method on the VisualFeatureDetection it is given, so a subclass that
+ * overrides a detection method is still used. The rules keep no state, so
+ * every page shares them.
+ * @author Nick Rummel
+ *
+ */
+public class ArticleRules
+{
+	/**
+	 * A constant for the rules of the title.
+	 */
+	public static final ArticleRule[] TITLE =
+	{
+		new ArticleRule("title font size")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articleTitleFontSizeDetection(textSet);
+			}
+		},
+		new ArticleRule("title font color")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articleTitleFontColorDetection(textSet);
+			}
+		},
+		new ArticleRule("title top half of page")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articleTitleTopHalfOfPageDetection(textSet);
+			}
+		},
+		new ArticleRule("title page down")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articleTitlePageDownDetection(textSet);
+			}
+		},
+		new ArticleRule("title text length")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articleTitleTextLengthDetection(textSet);
+			}
+		},
+		new ArticleRule("title hyper link")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articleTitleHyperLinkDetection(textSet);
+			}
+		} };
+
+	/**
+	 * A constant for the rules of the publication date.
+	 */
+	public static final ArticleRule[] PUBLICATIONDATE =
+	{
+		new ArticleRule("publication date font size")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articlePublicationDateFontSizeDetection(textSet);
+			}
+		},
+		new ArticleRule("publication date font color")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articlePublicationDateFontColorDetection(textSet);
+			}
+		},
+		new ArticleRule("publication date text length")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articlePublicationDateTextLengthDetection(textSet);
+			}
+		},
+		new ArticleRule("publication date format")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articlePublicationDateFormatDetection(textSet);
+			}
+		},
+		new ArticleRule("publication date hyper link")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articlePublicationDateHyperLinkDetection(textSet);
+			}
+		} };
+
+	/**
+	 * A constant for the rules of the author.
+	 */
+	public static final ArticleRule[] AUTHOR =
+	{
+		new ArticleRule("author font size")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articleAuthorFontSizeDetection(textSet);
+			}
+		},
+		new ArticleRule("author text length")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articleAuthorTextLengthDetection(textSet);
+			}
+		},
+		new ArticleRule("author frequent word")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articleAuthorFrequentWordDetection(textSet);
+			}
+		} };
+
+	/**
+	 * A constant for the rules of the comment link.
+	 */
+	public static final ArticleRule[] COMMENTLINK =
+	{
+		new ArticleRule("comment link font size")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articleCommentLinkFontSizeDetection(textSet);
+			}
+		},
+		new ArticleRule("comment link text length")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articleCommentLinkTextLengthDetection(textSet);
+			}
+		},
+		new ArticleRule("comment link frequent word")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articleCommentLinkFrequentWordDetection(textSet);
+			}
+		},
+		new ArticleRule("comment link hyper link")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articleCommentLinkHyperLinkDetection(textSet);
+			}
+		} };
+
+	/**
+	 * A constant for the rules of the source.
+	 */
+	public static final ArticleRule[] SOURCE =
+	{
+		new ArticleRule("source font size")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articleSourceFontSizeDetection(textSet);
+			}
+		},
+		new ArticleRule("source font color")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articleSourceFontColorDetection(textSet);
+			}
+		},
+		new ArticleRule("source frequent word")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articleSourceFrequentWordDetection(textSet);
+			}
+		},
+		new ArticleRule("source text length")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articleSourceTextLengthDetection(textSet);
+			}
+		} };
+
+	/**
+	 * A constant for the rules of the content.
+	 */
+	public static final ArticleRule[] CONTENT =
+	{
+		new ArticleRule("content font size")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articleContentFontSizeDetection(textSet);
+			}
+		},
+		new ArticleRule("content font color")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articleContentFontColorDetection(textSet);
+			}
+		},
+		new ArticleRule("content page down")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articleContentPageDownDetection(textSet);
+			}
+		},
+		new ArticleRule("content text length")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articleContentTextLengthDetection(textSet);
+			}
+		} };
+
+	/**
+	 * A constant for the rules of the category.
+	 */
+	public static final ArticleRule[] CATEGORY =
+	{
+		new ArticleRule("category font size")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articleCategoryFontSizeDetection(textSet);
+			}
+		},
+		new ArticleRule("category top half of page")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articleCategoryTopHalfOfPageDetection(textSet);
+			}
+		},
+		new ArticleRule("category page down")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articleCategoryPageDownDetection(textSet);
+			}
+		},
+		new ArticleRule("category text length")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articleCategoryTextLengthDetection(textSet);
+			}
+		},
+		new ArticleRule("category frequent word")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articleCategoryFrequentWordDetection(textSet);
+			}
+		} };
+
+	/**
+	 * A constant for the rules of the related news links.
+	 */
+	public static final ArticleRule[] RELATEDNEWSLINKS =
+	{
+		new ArticleRule("related news links font size")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articleRelatedNewsLinksFontSizeDetection(textSet);
+			}
+		},
+		new ArticleRule("related news links font color")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articleRelatedNewsLinksFontColorDetection(textSet);
+			}
+		},
+		new ArticleRule("related news links bottom half of page")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articleRelatedNewsLinksBottomHalfOfPageDetection(textSet);
+			}
+		},
+		new ArticleRule("related news links hyper link")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articleRelatedNewsLinksHyperLinkDetection(textSet);
+			}
+		},
+		new ArticleRule("related news links frequent word")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return vfd.articleRelatedNewsLinksFrequentWordDetection(textSet);
+			}
+		} };
+
+	/**
+	 * Private constructor, since the class only contains the rule chains.
+	 */
+	private ArticleRules()
+	{
+	}
+}
@@ -0,0 +1,238 @@
+package content;
+
+import id3.DecisionTree;
+import id3.TreeNode;
+import link.LinkAnalysis;
+import link.LinkTreeClassifier;
+
+/**
+ * The class containing the cascade classifier. It walks a decision tree built
+ * from the visual features and link analysis attributes. The link features,
+ * which only need the URL, are found first. The HTML file is only parsed, and
+ * each visual feature is only found, when the walk reaches a node that needs
+ * it, so a page that the URL settles is never parsed. Counters show how often
+ * parsing was skipped.
+ * @author Nick Rummel
+ */
+public class CascadeClassifier
+{
+	/**
+	 * A constant for the descriptions of the visual features, in the order the
+	 * runners use them.
+	 */
+	public static final String[] DESCRIPTIONS =
+	{ "Article Author Exists?", "Article Category Exists?", "Article Comment Link Exists?", "Article Content Exists?",
+			"Article Publication Date Exists?", "Article Related News Link Exists?", "Article Source Exists?",
+			"Article Title Exists?" };
+
+	/**
+	 * A constant for the feature bit of each description.
+	 */
+	private static final int[] FEATURES =
+	{ VisualFeatureDetection.AUTHORFEATURE, VisualFeatureDetection.CATEGORYFEATURE,
+			VisualFeatureDetection.COMMENTLINKFEATURE, VisualFeatureDetection.CONTENTFEATURE,
+			VisualFeatureDetection.PUBLICATIONDATEFEATURE, VisualFeatureDetection.RELATEDNEWSLINKSFEATURE,
+			VisualFeatureDetection.SOURCEFEATURE, VisualFeatureDetection.TITLEFEATURE };
+
+	/**
+	 * Instance variable that contains the decision tree.
+	 */
+	protected DecisionTree tree;
+
+	/**
+	 * Instance variable that contains the path of the page's HTML file.
+	 */
+	protected String htmlPath;
+
+	/**
+	 * Instance variable that contains the link features of the page's URL.
+	 */
+	protected int linkFeatures;
+
+	/**
+	 * Instance variable that contains the visual feature detection of the
+	 * page, or null if the page has not been parsed.
+	 */
+	protected VisualFeatureDetection vfd;
+
+	/**
+	 * Instance variable that contains the visual features that have been
+	 * checked for the page.
+	 */
+	protected int visualChecked;
+
+	/**
+	 * Instance variable that contains the visual features that were found on
+	 * the page.
+	 */
+	protected int visualFound;
+
+	/**
+	 * Instance variable that contains the number of pages classified.
+	 */
+	protected int pageCount;
+
+	/**
+	 * Instance variable that contains the number of pages that were parsed.
+	 */
+	protected int parsedCount;
+
+	/**
+	 * Instance variable that contains the number of visual features checked
+	 * over all pages.
+	 */
+	protected int visualFeatureCount;
+
+	/**
+	 * Constructor of class that saves the decision tree.
+	 * @param tree a decision tree built from the visual features and link
+	 *            analysis attributes
+	 */
+	public CascadeClassifier(DecisionTree tree)
+	{
+		this.tree = tree;
+	}
+
+	/**
+	 * Classifies a page, parsing its HTML file only if the tree needs a visual
+	 * feature.
+	 * @param url the URL of the page
+	 * @param htmlPath the path of the page's HTML file
+	 * @return true if the page is classified as an article, otherwise false
+	 * @throws IllegalArgumentException if the tree uses an attribute that is
+	 *             not a visual feature or link attribute
+	 */
+	public boolean isArticle(String url, String htmlPath)
+	{
+		this.htmlPath = htmlPath;
+		linkFeatures = new LinkAnalysis(url).linkFeatureMask();
+		vfd = null;
+		visualChecked = 0;
+		visualFound = 0;
+		pageCount++;
+
+		TreeNode curNode = tree.getRoot();
+		while (curNode.getYesBranch() != null && curNode.getNoBranch() != null)
+		{
+			if (hasAttribute(curNode))
+			{
+				curNode = curNode.getYesBranch();
+			}
+			else
+			{
+				curNode = curNode.getNoBranch();
+			}
+		}
+
+		// always yes means an article and always no means not an article
+		if (curNode.getNodeDescription().equals("Always Yes"))
+		{
+			return true;
+		}
+		else if (curNode.getNodeDescription().equals("Always No"))
+		{
+			return false;
+		}
+		// makes the last decision before arriving at the yes or no conclusion
+		return hasAttribute(curNode);
+	}
+
+	/**
+	 * Getter method for whether the last page classified was parsed.
+	 * @return true if the page's HTML file was parsed, otherwise false
+	 */
+	public boolean wasParsed()
+	{
+		return vfd != null;
+	}
+
+	/**
+	 * Getter method for the number of visual features checked for the last
+	 * page classified.
+	 * @return the number of visual features
+	 */
+	public int getVisualFeaturesChecked()
+	{
+		return Integer.bitCount(visualChecked);
+	}
+
+	/**
+	 * Getter method for the number of pages classified.
+	 * @return the number of pages
+	 */
+	public int getPageCount()
+	{
+		return pageCount;
+	}
+
+	/**
+	 * Getter method for the number of pages that were parsed.
+	 * @return the number of pages
+	 */
+	public int getParsedCount()
+	{
+		return parsedCount;
+	}
+
+	/**
+	 * Getter method for the number of pages that were classified without
+	 * being parsed.
+	 * @return the number of pages
+	 */
+	public int getSkippedCount()
+	{
+		return pageCount - parsedCount;
+	}
+
+	/**
+	 * Getter method for the number of visual features checked over all pages.
+	 * @return the number of visual features
+	 */
+	public int getVisualFeatureCount()
+	{
+		return visualFeatureCount;
+	}
+
+	/**
+	 * Checks if the page has the attribute of a tree node. A link attribute is
+	 * read from the URL's features. A visual feature is found the first time
+	 * it is needed, parsing the page first if it has not been parsed.
+	 * @param node the node
+	 * @return true if the page has the attribute, otherwise false
+	 * @throws IllegalArgumentException if the node is not a visual feature or
+	 *             link attribute
+	 */
+	private boolean hasAttribute(TreeNode node)
+	{
+		String desc = node.getNodeDescription();
+		int linkFeature = LinkTreeClassifier.featureOf(desc);
+		if (linkFeature != 0)
+		{
+			return (linkFeatures & linkFeature) != 0;
+		}
+		int visualFeature = 0;
+		for (int i = 0; i < DESCRIPTIONS.length && visualFeature == 0; i++)
+		{
+			if (DESCRIPTIONS[i].equals(desc))
+			{
+				visualFeature = FEATURES[i];
+			}
+		}
+		if (visualFeature == 0)
+		{
+			throw new IllegalArgumentException("Not an attribute: " + desc);
+		}
+		if ((visualChecked & visualFeature) == 0)
+		{
+			if (vfd == null)
+			{
+				vfd = new VisualFeatureDetection(htmlPath);
+				parsedCount++;
+			}
+			visualFound |= vfd.articleFeatureMask(visualFeature);
+			visualChecked |= visualFeature;
+			visualFeatureCount++;
+		}
+		return (visualFound & visualFeature) != 0;
+	}
+}
@@ -0,0 +1,115 @@
+package content;
+
+/**
+ * The class containing the computed style cache of a web page. The font size
+ * (in pixels) and font color (as a packed RGB int) of each element are saved
+ * the first time they are calculated, so every article feature rule reads the
+ * same values without parsing the element's style again. Elements are looked
+ * up by their ordinal from the DocumentOrderIndex.
+ * @author Nick Rummel
+ *
+ */
+public class ComputedStyleCache
+{
+	/**
+	 * A constant for the bit that is set once an element's font size is saved.
+	 */
+	protected static final byte FONTSIZE = 1;
+
+	/**
+	 * A constant for the bit that is set once an element's font color is
+	 * saved.
+	 */
+	protected static final byte FONTCOLOR = 2;
+
+	/**
+	 * An instance variable that contains the font size of each element in
+	 * pixels.
+	 */
+	protected double[] fontSizes;
+
+	/**
+	 * An instance variable that contains the font color of each element as a
+	 * packed RGB int (0xRRGGBB).
+	 */
+	protected int[] fontColors;
+
+	/**
+	 * An instance variable that contains the bits for which styles have been
+	 * saved for each element.
+	 */
+	protected byte[] saved;
+
+	/**
+	 * Constructor of class that creates an empty cache.
+	 * @param size the number of elements in the document
+	 */
+	public ComputedStyleCache(int size)
+	{
+		fontSizes = new double[size];
+		fontColors = new int[size];
+		saved = new byte[size];
+	}
+
+	/**
+	 * Checks if the font size of an element has been saved.
+	 * @param ordinal the element's ordinal
+	 * @return true if the font size is saved, otherwise false
+	 */
+	public boolean hasFontSize(int ordinal)
+	{
+		return (saved[ordinal] & FONTSIZE) != 0;
+	}
+
+	/**
+	 * Getter method for the saved font size of an element.
+	 * @param ordinal the element's ordinal
+	 * @return the font size in pixels
+	 */
+	public double getFontSize(int ordinal)
+	{
+		return fontSizes[ordinal];
+	}
+
+	/**
+	 * Setter method for the font size of an element.
+	 * @param ordinal the element's ordinal
+	 * @param size the font size in pixels
+	 */
+	public void setFontSize(int ordinal, double size)
+	{
+		fontSizes[ordinal] = size;
+		saved[ordinal] |= FONTSIZE;
+	}
+
+	/**
+	 * Checks if the font color of an element has been saved.
+	 * @param ordinal the element's ordinal
+	 * @return true if the font color is saved, otherwise false
+	 */
+	public boolean hasFontColor(int ordinal)
+	{
+		return (saved[ordinal] & FONTCOLOR) != 0;
+	}
+
+	/**
+	 * Getter method for the saved font color of an element.
+	 * @param ordinal the element's ordinal
+	 * @return the font color as a packed RGB int
+	 */
+	public int getFontColor(int ordinal)
+	{
+		return fontColors[ordinal];
+	}
+
+	/**
+	 * Setter method for the font color of an element.
+	 * @param ordinal the element's ordinal
+	 * @param rgb the font color as a packed RGB int
+	 */
+	public void setFontColor(int ordinal, int rgb)
+	{
+		fontColors[ordinal] = rgb;
+		saved[ordinal] |= FONTCOLOR;
+	}
+}
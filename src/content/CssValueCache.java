@@ -0,0 +1,102 @@
+package content;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The class containing the CSS value cache of a web page. Many elements on a
+ * page share the same in-line style, so the font size and color read from each
+ * style are saved by the style's text. Only the most recently used CAPACITY
+ * styles are kept, so a page with many different styles does not use a lot of
+ * memory.
+ * @author Nick Rummel
+ *
+ */
+public class CssValueCache
+{
+	/**
+	 * A constant for the most styles saved for font sizes and for colors.
+	 */
+	public static final int CAPACITY = 256;
+
+	/**
+	 * An instance variable that contains the font size read from each style.
+	 */
+	protected Map<String, Double> fontSizes;
+
+	/**
+	 * An instance variable that contains the color read from each style.
+	 */
+	protected Map<String, Integer> colors;
+
+	/**
+	 * An instance variable that contains the size of 1em in pixels that the
+	 * font sizes are read with.
+	 */
+	protected double pixelSize;
+
+	/**
+	 * Constructor of class that creates an empty cache.
+	 * @param pixelSize the size of 1em in pixels
+	 */
+	public CssValueCache(double pixelSize)
+	{
+		this.pixelSize = pixelSize;
+		fontSizes = createMap();
+		colors = createMap();
+	}
+
+	/**
+	 * Retrieves the font size of a style, reading it the first time the style
+	 * is seen.
+	 * @param style the in-line style, or the declared value from a style sheet
+	 * @return the font size, or CssValueParser.NOFONTSIZE if it could not be
+	 *         read
+	 */
+	public double getFontSize(String style)
+	{
+		Double size = fontSizes.get(style);
+		if (size == null)
+		{
+			size = Double.valueOf(CssValueParser.parseFontSize(style, pixelSize));
+			fontSizes.put(style, size);
+		}
+		return size.doubleValue();
+	}
+
+	/**
+	 * Retrieves the color of a style, reading it the first time the style is
+	 * seen.
+	 * @param style the in-line style, or the declared value from a style sheet
+	 * @return the color as a packed RGB int, or CssValueParser.NOCOLOR if no
+	 *         color could be read
+	 */
+	public int getColor(String style)
+	{
+		Integer color = colors.get(style);
+		if (color == null)
+		{
+			color = Integer.valueOf(CssValueParser.parseColor(style));
+			colors.put(style, color);
+		}
+		return color.intValue();
+	}
+
+	/**
+	 * Creates a map that keeps the most recently used CAPACITY entries.
+	 * @return the empty map
+	 */
+	private static <V> Map<String, V> createMap()
+	{
+		return new LinkedHashMap<String, V>(16, 0.75f, true)
+		{
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, V> eldest)
+			{
+				return size() > CAPACITY;
+			}
+		};
+	}
+}
@@ -0,0 +1,697 @@
+package content;
+
+/**
+ * The class containing the parser for the font size and color values of CSS
+ * styles. A style is read straight from its text in one scan, like the
+ * String.split("font-size") and String.split("color") tokens the values used
+ * to be read from, but nothing is copied out of the text and the results are
+ * primitives (the size in pixels and the color as a packed RGB int).
+ *
+ * The values are read the same way as before, including the number windows
+ * used for font sizes, but the numbers in them are read as CSS numbers (a
+ * sign, digits, and an optional point and digits) instead of by
+ * Double.parseDouble. So text that Java reads as a number but CSS does not,
+ * such as "NaN", "1e3", "2f" or "0x1p3", is now a value that could not be
+ * read, the same as a value that used to throw an exception.
+ * @author Nick Rummel
+ *
+ */
+public class CssValueParser
+{
+	/**
+	 * A constant for the font size returned when the size could not be read.
+	 */
+	public static final double NOFONTSIZE = -1.0;
+
+	/**
+	 * A constant for the color returned when no color could be read.
+	 */
+	public static final int NOCOLOR = -1;
+
+	/**
+	 * A constant for the style attribute that separates the font size tokens.
+	 */
+	private static final String FONTSIZE = "font-size";
+
+	/**
+	 * A constant for the style attribute that separates the color tokens.
+	 */
+	private static final String COLOR = "color";
+
+	/**
+	 * A constant for the value returned by parseInteger when the text is not an
+	 * integer.
+	 */
+	private static final long NOTINTEGER = Long.MIN_VALUE;
+
+	/**
+	 * A constant for the powers of ten that are exact as doubles.
+	 */
+	private static final double[] DOUBLEPOWERS =
+	{ 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18,
+			1e19, 1e20, 1e21, 1e22 };
+
+	/**
+	 * A constant for the most digits of a number that are read exactly, since
+	 * a whole number with this many digits is exact as a double.
+	 */
+	private static final int MAXEXACTDIGITS = 15;
+
+	/**
+	 * Private constructor, since the class only contains static methods.
+	 */
+	private CssValueParser()
+	{
+	}
+
+	/**
+	 * Reads the font size from a style. The style is split into tokens by
+	 * "font-size", and the size is read from the last token with a unit (em,
+	 * %, or px).
+	 * @param style the in-line style, or the declared value from a style sheet
+	 * @param pixelSize the size of 1em in pixels
+	 * @return the font size, or NOFONTSIZE if it could not be read
+	 */
+	public static double parseFontSize(CharSequence style, double pixelSize)
+	{
+		int length = style.length();
+		int tokenStart = 0;
+		int lastStart = -1;
+		int lastEnd = -1;
+		// find the last token with a unit
+		while (tokenStart >= 0)
+		{
+			int next = indexOf(style, FONTSIZE, tokenStart, length);
+			int tokenEnd = next < 0 ? length : next;
+			if (indexOf(style, "em", tokenStart, tokenEnd) >= 0 || indexOf(style, "%", tokenStart, tokenEnd) >= 0
+					|| indexOf(style, "px", tokenStart, tokenEnd) >= 0)
+			{
+				lastStart = tokenStart;
+				lastEnd = tokenEnd;
+			}
+			tokenStart = next < 0 ? -1 : next + FONTSIZE.length();
+		}
+		// no unit, so there is no number to read
+		if (lastStart < 0)
+		{
+			return NOFONTSIZE;
+		}
+
+		// the number starts after the ':' and is at most 4 characters long,
+		// so shrink the window until it has no unit letters left
+		int start = lastStart + 1;
+		int end;
+		if (lastEnd - lastStart >= 5)
+		{
+			end = lastStart + 5;
+			if (containsAny(style, start, end, "pe%"))
+			{
+				end = lastStart + 4;
+			}
+			if (containsAny(style, start, end, "pe%"))
+			{
+				end = lastStart + 3;
+			}
+			if (containsAny(style, start, end, "per%"))
+			{
+				end = lastStart + 2;
+			}
+		}
+		else if (lastEnd - lastStart == 4)
+		{
+			end = lastStart + 4;
+		}
+		else
+		{
+			// too short to have a number
+			return NOFONTSIZE;
+		}
+		start = trimStart(style, start, end);
+		end = trimEnd(style, start, end);
+
+		double size = NOFONTSIZE;
+		if (indexOf(style, "em", lastStart, lastEnd) >= 0)
+		{
+			if (isNumber(style, start, end))
+			{
+				size = parseNumber(style, start, end) * pixelSize;
+			}
+		}
+		else if (indexOf(style, "%", lastStart, lastEnd) >= 0)
+		{
+			// the last two characters are dropped
+			if (end - start >= 2 && isNumber(style, start, end - 2))
+			{
+				size = parseNumber(style, start, end - 2) / 100.0;
+			}
+		}
+		else
+		{
+			// drop the last character if it is not a number
+			if (end > start && style.charAt(end - 1) > '9')
+			{
+				end--;
+			}
+			if (isNumber(style, start, end))
+			{
+				size = parseNumber(style, start, end);
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Reads the color from a style. The style is split into tokens by "color",
+	 * and the color is read from the first token that has one. Tokens that end
+	 * with '-' are skipped, since the attribute is something else like
+	 * background-color.
+	 * @param style the in-line style, or the declared value from a style sheet
+	 * @return the color as a packed RGB int (0xRRGGBB), or NOCOLOR if no color
+	 *         could be read
+	 */
+	public static int parseColor(CharSequence style)
+	{
+		int length = style.length();
+		int tokenStart = 0;
+		while (tokenStart >= 0)
+		{
+			int next = indexOf(style, COLOR, tokenStart, length);
+			int tokenEnd = next < 0 ? length : next;
+			if (tokenEnd == tokenStart || style.charAt(tokenEnd - 1) != '-')
+			{
+				int color = parseColorToken(style, tokenStart, tokenEnd);
+				// exit early once color is found
+				if (color != NOCOLOR)
+				{
+					return color;
+				}
+			}
+			tokenStart = next < 0 ? -1 : next + COLOR.length();
+		}
+		return NOCOLOR;
+	}
+
+	/**
+	 * Reads the color from a single token as a hex code, rgba(), rgb(),
+	 * hsla(), hsl(), or an HTML color name.
+	 * @param style the style text
+	 * @param start the index of the first character of the token
+	 * @param end the index after the last character of the token
+	 * @return the color as a packed RGB int, or NOCOLOR if the token has no
+	 *         color
+	 */
+	private static int parseColorToken(CharSequence style, int start, int end)
+	{
+		int index;
+		if ((index = indexOf(style, "#", start, end)) >= 0)
+		{
+			return parseHexColor(style, index, end);
+		}
+		else if ((index = indexOf(style, "rgba", start, end)) >= 0)
+		{
+			return parseRgbColor(style, index + 5, end, true);
+		}
+		else if ((index = indexOf(style, "rgb", start, end)) >= 0)
+		{
+			return parseRgbColor(style, index + 4, end, false);
+		}
+		else if ((index = indexOf(style, "hsla", start, end)) >= 0)
+		{
+			return parseHslColor(style, index + 5, end, true);
+		}
+		else if ((index = indexOf(style, "hsl", start, end)) >= 0)
+		{
+			return parseHslColor(style, index + 4, end, false);
+		}
+		// pre-defined color as text i.e. red, blue, black, etc. (skipping the
+		// ':' character)
+		int nameEnd = start + 1;
+		while (nameEnd < end && style.charAt(nameEnd) != ';' && style.charAt(nameEnd) != '}'
+				&& style.charAt(nameEnd) != '\"')
+		{
+			nameEnd++;
+		}
+		if (nameEnd <= start + 1)
+		{
+			return NOCOLOR;
+		}
+		int nameStart = trimStart(style, start + 1, nameEnd);
+		nameEnd = trimEnd(style, nameStart, nameEnd);
+		int rgb = HtmlColorTable.lookup(style, nameStart, nameEnd);
+		if (rgb == HtmlColorTable.NOTFOUND)
+		{
+			return NOCOLOR;
+		}
+		return rgb;
+	}
+
+	/**
+	 * Reads a hex color code, which runs from the '#' until the end of the
+	 * token or a ';', ')', '"', or '}'. A three digit code has each digit
+	 * doubled.
+	 * @param style the style text
+	 * @param start the index of the '#'
+	 * @param end the index after the last character of the token
+	 * @return the color as a packed RGB int, or NOCOLOR if the code is not a
+	 *         number
+	 */
+	private static int parseHexColor(CharSequence style, int start, int end)
+	{
+		int hexEnd = start;
+		while (hexEnd < end && style.charAt(hexEnd) != ';' && style.charAt(hexEnd) != ')'
+				&& style.charAt(hexEnd) != '\"' && style.charAt(hexEnd) != '}')
+		{
+			hexEnd++;
+		}
+		int digits = hexEnd - start - 1;
+		if (digits == 3)
+		{
+			int value = 0;
+			for (int i = start + 1; i < hexEnd; i++)
+			{
+				int digit = Character.digit(style.charAt(i), 16);
+				if (digit < 0)
+				{
+					return NOCOLOR;
+				}
+				value = (value << 8) | (digit << 4) | digit;
+			}
+			return value;
+		}
+		if (digits < 1)
+		{
+			return NOCOLOR;
+		}
+		long value = 0;
+		for (int i = start + 1; i < hexEnd; i++)
+		{
+			int digit = Character.digit(style.charAt(i), 16);
+			// the code must fit in an int
+			if (digit < 0 || (value = value * 16 + digit) > Integer.MAX_VALUE)
+			{
+				return NOCOLOR;
+			}
+		}
+		return (int) value & 0xFFFFFF;
+	}
+
+	/**
+	 * Reads the red, green, and blue values of rgb() or rgba(). Each value is
+	 * read when the comma after it is reached. For rgb(), the blue value is
+	 * also read when the next character is a number.
+	 * @param style the style text
+	 * @param start the index after the '('
+	 * @param end the index after the last character of the token
+	 * @param alpha true for rgba(), false for rgb()
+	 * @return the color as a packed RGB int, or NOCOLOR if a value is not a
+	 *         number between 0 and 255
+	 */
+	private static int parseRgbColor(CharSequence style, int start, int end, boolean alpha)
+	{
+		int red = 0;
+		int green = 0;
+		int blue = 0;
+		int count = 1;
+		int numStart = start;
+		int index = start;
+		while (index < end && style.charAt(index) != ';' && style.charAt(index) != ')'
+				&& style.charAt(index) != '\"' && count <= 3)
+		{
+			boolean separator = style.charAt(index) == ',';
+			if (!separator && !alpha && count == 3)
+			{
+				// the next character is past the end of the token
+				if (index + 1 >= end)
+				{
+					return NOCOLOR;
+				}
+				separator = style.charAt(index + 1) <= '9' && style.charAt(index + 1) >= '0';
+			}
+			if (separator)
+			{
+				// rgb() only reads a value once it has characters
+				if (alpha || numStart < index)
+				{
+					long value = parseInteger(style, numStart, index);
+					if (value == NOTINTEGER || value < 0 || value > 255)
+					{
+						return NOCOLOR;
+					}
+					if (count == 1)
+					{
+						red = (int) value;
+					}
+					else if (count == 2)
+					{
+						green = (int) value;
+					}
+					else
+					{
+						blue = (int) value;
+					}
+				}
+				numStart = index + 1;
+				count++;
+			}
+			index++;
+		}
+		return (red << 16) | (green << 8) | blue;
+	}
+
+	/**
+	 * Reads the hue, saturation, and lightness values of hsl() or hsla(). Each
+	 * value is read when the comma after it is reached, and the last character
+	 * (the '%') of the saturation and lightness is dropped. For hsla(), the
+	 * lightness is also read when the next character is a number or '%'. The
+	 * values are converted to RGB as hue, saturation, and brightness.
+	 * @param style the style text
+	 * @param start the index after the '('
+	 * @param end the index after the last character of the token
+	 * @param alpha true for hsla(), false for hsl()
+	 * @return the color as a packed RGB int, or NOCOLOR if a value is not a
+	 *         number
+	 */
+	private static int parseHslColor(CharSequence style, int start, int end, boolean alpha)
+	{
+		float hue = 0;
+		float saturation = 0;
+		float lightness = 0;
+		int count = 1;
+		int numStart = start;
+		int index = start;
+		while (index < end && style.charAt(index) != ';' && style.charAt(index) != ')'
+				&& style.charAt(index) != '\"' && count <= 3)
+		{
+			boolean separator = style.charAt(index) == ',';
+			if (!separator && alpha && count == 3)
+			{
+				// the next character is past the end of the token
+				if (index + 1 >= end)
+				{
+					return NOCOLOR;
+				}
+				char next = style.charAt(index + 1);
+				separator = next == '%' || (next <= '9' && next >= '0');
+			}
+			if (separator)
+			{
+				int valueStart = trimStart(style, numStart, index);
+				int valueEnd = trimEnd(style, valueStart, index);
+				if (count > 1)
+				{
+					// drop the last character, counting from the untrimmed
+					// value
+					int cut = index - numStart - 1;
+					if (cut < 0 || cut > valueEnd - valueStart)
+					{
+						return NOCOLOR;
+					}
+					valueEnd = valueStart + cut;
+				}
+				if (!isNumber(style, valueStart, valueEnd))
+				{
+					return NOCOLOR;
+				}
+				float value = (float) parseNumber(style, valueStart, valueEnd);
+				if (count == 1)
+				{
+					hue = value;
+				}
+				else if (count == 2)
+				{
+					saturation = value / 100;
+				}
+				else
+				{
+					lightness = value / 100;
+				}
+				numStart = index + 1;
+				count++;
+			}
+			index++;
+		}
+		return PackedColor.hsbToRgb(hue, saturation, lightness);
+	}
+
+	/**
+	 * Reads an integer the same way as Integer.parseInt(text.trim()).
+	 * @param text the text containing the integer
+	 * @param start the index of the first character
+	 * @param end the index after the last character
+	 * @return the integer, or NOTINTEGER if the text is not an integer
+	 */
+	private static long parseInteger(CharSequence text, int start, int end)
+	{
+		start = trimStart(text, start, end);
+		end = trimEnd(text, start, end);
+		boolean negative = false;
+		if (start < end && (text.charAt(start) == '-' || text.charAt(start) == '+'))
+		{
+			negative = text.charAt(start) == '-';
+			start++;
+		}
+		if (start >= end)
+		{
+			return NOTINTEGER;
+		}
+		long value = 0;
+		for (int i = start; i < end; i++)
+		{
+			int digit = Character.digit(text.charAt(i), 10);
+			if (digit < 0)
+			{
+				return NOTINTEGER;
+			}
+			value = value * 10 + digit;
+			// the integer must fit in an int
+			if (value > (long) Integer.MAX_VALUE + 1)
+			{
+				return NOTINTEGER;
+			}
+		}
+		if (negative)
+		{
+			return -value;
+		}
+		if (value > Integer.MAX_VALUE)
+		{
+			return NOTINTEGER;
+		}
+		return value;
+	}
+
+	/**
+	 * Checks if text is a CSS number: an optional sign, then digits with an
+	 * optional decimal point followed by more digits (such as "12", "-1.5" or
+	 * ".5"), with optional surrounding white space.
+	 * @param text the text to check
+	 * @param start the index of the first character
+	 * @param end the index after the last character
+	 * @return true if the text is a number, otherwise false
+	 */
+	static boolean isNumber(CharSequence text, int start, int end)
+	{
+		start = trimStart(text, start, end);
+		end = trimEnd(text, start, end);
+		int i = start;
+		if (i < end && (text.charAt(i) == '+' || text.charAt(i) == '-'))
+		{
+			i++;
+		}
+		int digits = 0;
+		while (i < end && isDigit(text.charAt(i)))
+		{
+			digits++;
+			i++;
+		}
+		if (i < end && text.charAt(i) == '.')
+		{
+			// a point must be followed by a digit
+			i++;
+			int fractionDigits = 0;
+			while (i < end && isDigit(text.charAt(i)))
+			{
+				fractionDigits++;
+				i++;
+			}
+			if (fractionDigits == 0)
+			{
+				return false;
+			}
+			digits += fractionDigits;
+		}
+		return digits > 0 && i == end;
+	}
+
+	/**
+	 * Reads a CSS number without copying the text. A number with up to
+	 * MAXEXACTDIGITS digits is exact as a whole number, and dividing it by an
+	 * exact power of ten rounds only once, so it is the same as
+	 * Double.parseDouble. Digits past that are only used for their place.
+	 * @param text the text containing a number, checked with isNumber
+	 * @param start the index of the first character
+	 * @param end the index after the last character
+	 * @return the number
+	 */
+	static double parseNumber(CharSequence text, int start, int end)
+	{
+		start = trimStart(text, start, end);
+		end = trimEnd(text, start, end);
+		int i = start;
+		boolean negative = false;
+		if (text.charAt(i) == '+' || text.charAt(i) == '-')
+		{
+			negative = text.charAt(i) == '-';
+			i++;
+		}
+		long mantissa = 0;
+		int digits = 0;
+		// the power of ten the mantissa is multiplied by
+		int power = 0;
+		boolean point = false;
+		for (; i < end; i++)
+		{
+			char c = text.charAt(i);
+			if (c == '.')
+			{
+				point = true;
+			}
+			else if (digits < MAXEXACTDIGITS)
+			{
+				mantissa = mantissa * 10 + (c - '0');
+				// leading zeros do not use up the exact digits
+				if (mantissa > 0)
+				{
+					digits++;
+				}
+				if (point)
+				{
+					power--;
+				}
+			}
+			else if (!point)
+			{
+				power++;
+			}
+		}
+		double value = mantissa;
+		if (power > 0)
+		{
+			value *= power < DOUBLEPOWERS.length ? DOUBLEPOWERS[power] : Math.pow(10, power);
+		}
+		else if (power < 0)
+		{
+			value /= -power < DOUBLEPOWERS.length ? DOUBLEPOWERS[-power] : Math.pow(10, -power);
+		}
+		return negative ? -value : value;
+	}
+
+	/**
+	 * Finds the first place a String is in part of a text.
+	 * @param text the text to search
+	 * @param target the String to find
+	 * @param start the index to start searching from
+	 * @param end the index to stop searching at
+	 * @return the index where target starts, or -1 if it is not found
+	 */
+	static int indexOf(CharSequence text, String target, int start, int end)
+	{
+		int last = end - target.length();
+		for (int i = start; i <= last; i++)
+		{
+			if (regionEquals(text, i, i + target.length(), target))
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Checks if part of a text is the same as a String.
+	 * @param text the text to check
+	 * @param start the index of the first character
+	 * @param end the index after the last character
+	 * @param target the String to compare to
+	 * @return true if they are the same, otherwise false
+	 */
+	private static boolean regionEquals(CharSequence text, int start, int end, String target)
+	{
+		if (end - start != target.length())
+		{
+			return false;
+		}
+		for (int i = 0; i < target.length(); i++)
+		{
+			if (text.charAt(start + i) != target.charAt(i))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks if part of a text has any of the given characters.
+	 * @param text the text to check
+	 * @param start the index of the first character
+	 * @param end the index after the last character
+	 * @param characters the characters to look for
+	 * @return true if any of the characters are found, otherwise false
+	 */
+	private static boolean containsAny(CharSequence text, int start, int end, String characters)
+	{
+		for (int i = start; i < end; i++)
+		{
+			if (characters.indexOf(text.charAt(i)) >= 0)
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Skips the white space at the start of part of a text, the same as
+	 * String.trim.
+	 * @param text the text
+	 * @param start the index of the first character
+	 * @param end the index after the last character
+	 * @return the index of the first character that is not white space
+	 */
+	private static int trimStart(CharSequence text, int start, int end)
+	{
+		while (start < end && text.charAt(start) <= ' ')
+		{
+			start++;
+		}
+		return start;
+	}
+
+	/**
+	 * Skips the white space at the end of part of a text, the same as
+	 * String.trim.
+	 * @param text the text
+	 * @param start the index of the first character
+	 * @param end the index after the last character
+	 * @return the index after the last character that is not white space
+	 */
+	private static int trimEnd(CharSequence text, int start, int end)
+	{
+		while (end > start && text.charAt(end - 1) <= ' ')
+		{
+			end--;
+		}
+		return end;
+	}
+
+	/**
+	 * Checks if a character is an ASCII digit.
+	 * @param c the character
+	 * @return true if the character is between '0' and '9'
+	 */
+	private static boolean isDigit(char c)
+	{
+		return c >= '0' && c <= '9';
+	}
+}
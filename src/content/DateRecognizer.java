@@ -0,0 +1,347 @@
+package content;
+
+import java.util.Arrays;
+
+/**
+ * The class containing the publication date recognizer. The text is scanned
+ * once, from left to right, without creating any objects. Words are matched
+ * against a trie of month names, and numbers are run through a finite state
+ * machine for numeric dates. Both are built once, when the class is loaded.
+ * The recognizer finds these formats anywhere in the text:
+ * <ul>
+ * <li>month dd, yyyy (ie. "Jan 5, 2018" or "January 05, 2018")</li>
+ * <li>month dd (ie. "Sept. 5")</li>
+ * <li>dd month (ie. "5 July" or "05 Jul 2018")</li>
+ * <li>mm/dd/yyyy and mm-dd-yyyy, with a 2 to 4 digit year</li>
+ * <li>yyyy-mm-dd and yyyy/mm/dd</li>
+ * <li>ISO timestamps (ie. "2018-07-05T14:30:00Z")</li>
+ * </ul>
+ * Month names may be abbreviated (with or without a period) and must start
+ * with a capital letter.
+ * @author Nick Rummel
+ *
+ */
+public class DateRecognizer
+{
+	/**
+	 * A constant for the full name of each month of the year.
+	 */
+	private static final String[] MONTHNAMES =
+	{ "january", "february", "march", "april", "may", "june", "july", "august", "september", "october",
+			"november", "december" };
+
+	/**
+	 * A constant for the state that no date can be reached from.
+	 */
+	private static final int DEAD = -1;
+
+	/**
+	 * Constants for the character classes of the numeric date machine.
+	 */
+	private static final int DIGIT = 0, SLASH = 1, DASH = 2, TIME = 3, COLON = 4, LETTER = 5, OTHER = 6;
+
+	/**
+	 * A constant for the state where a timestamp has been read, so the rest of
+	 * the text does not need to be checked.
+	 */
+	private static final int TIMESTAMP = 23;
+
+	/**
+	 * A constant for the transitions of the numeric date machine. Each row is
+	 * a state and each column is a character class. A separator only moves
+	 * ahead when it is the same as the first separator of the date, which is
+	 * checked while scanning.
+	 * <ul>
+	 * <li>0: start; 1-4: digits of the first number</li>
+	 * <li>5-12: dd/dd/yyyy, where 10-12 have a 2 to 4 digit year</li>
+	 * <li>13-18: yyyy-mm-dd, where 17-18 have a 1 or 2 digit day</li>
+	 * <li>19-23: the time after yyyy-mm-ddT, where 23 has read hh:m</li>
+	 * </ul>
+	 */
+	private static final int[][] NUMERICSTATES =
+	{
+			// DIGIT, SLASH, DASH, TIME, COLON, LETTER, OTHER
+			{ 1, DEAD, DEAD, DEAD, DEAD, DEAD, DEAD }, // 0
+			{ 2, 5, 5, DEAD, DEAD, DEAD, DEAD }, // 1
+			{ 3, 5, 5, DEAD, DEAD, DEAD, DEAD }, // 2
+			{ 4, DEAD, DEAD, DEAD, DEAD, DEAD, DEAD }, // 3
+			{ DEAD, 13, 13, DEAD, DEAD, DEAD, DEAD }, // 4
+			{ 6, DEAD, DEAD, DEAD, DEAD, DEAD, DEAD }, // 5
+			{ 7, 8, 8, DEAD, DEAD, DEAD, DEAD }, // 6
+			{ DEAD, 8, 8, DEAD, DEAD, DEAD, DEAD }, // 7
+			{ 9, DEAD, DEAD, DEAD, DEAD, DEAD, DEAD }, // 8
+			{ 10, DEAD, DEAD, DEAD, DEAD, DEAD, DEAD }, // 9
+			{ 11, DEAD, DEAD, DEAD, DEAD, DEAD, DEAD }, // 10
+			{ 12, DEAD, DEAD, DEAD, DEAD, DEAD, DEAD }, // 11
+			{ DEAD, DEAD, DEAD, DEAD, DEAD, DEAD, DEAD }, // 12
+			{ 14, DEAD, DEAD, DEAD, DEAD, DEAD, DEAD }, // 13
+			{ 15, 16, 16, DEAD, DEAD, DEAD, DEAD }, // 14
+			{ DEAD, 16, 16, DEAD, DEAD, DEAD, DEAD }, // 15
+			{ 17, DEAD, DEAD, DEAD, DEAD, DEAD, DEAD }, // 16
+			{ 18, DEAD, DEAD, 19, DEAD, DEAD, DEAD }, // 17
+			{ DEAD, DEAD, DEAD, 19, DEAD, DEAD, DEAD }, // 18
+			{ 20, DEAD, DEAD, DEAD, DEAD, DEAD, DEAD }, // 19
+			{ 21, DEAD, DEAD, DEAD, DEAD, DEAD, DEAD }, // 20
+			{ DEAD, DEAD, DEAD, DEAD, 22, DEAD, DEAD }, // 21
+			{ TIMESTAMP, DEAD, DEAD, DEAD, DEAD, DEAD, DEAD }, // 22
+			{ TIMESTAMP, TIMESTAMP, TIMESTAMP, TIMESTAMP, TIMESTAMP, TIMESTAMP, TIMESTAMP } // 23
+	};
+
+	/**
+	 * A constant for the states where a whole numeric date has been read.
+	 */
+	private static final boolean[] NUMERICACCEPT = new boolean[NUMERICSTATES.length];
+
+	/**
+	 * A constant for the transitions of the month name trie. Each row is a
+	 * node and each column is a letter from 'a' to 'z'.
+	 */
+	private static final int[][] MONTHSTATES;
+
+	/**
+	 * A constant for the nodes of the trie that end a month name.
+	 */
+	private static final boolean[] MONTHACCEPT;
+
+	static
+	{
+		NUMERICACCEPT[10] = true;
+		NUMERICACCEPT[11] = true;
+		NUMERICACCEPT[12] = true;
+		NUMERICACCEPT[17] = true;
+		NUMERICACCEPT[18] = true;
+		NUMERICACCEPT[TIMESTAMP] = true;
+
+		// the trie has at most one node per letter of the names
+		int maxNodes = 2;
+		for (int i = 0; i < MONTHNAMES.length; i++)
+		{
+			maxNodes += MONTHNAMES[i].length();
+		}
+		int[][] states = new int[maxNodes][26];
+		boolean[] accept = new boolean[maxNodes];
+		for (int i = 0; i < maxNodes; i++)
+		{
+			Arrays.fill(states[i], DEAD);
+		}
+		int nodes = 1;
+		for (int i = 0; i < MONTHNAMES.length; i++)
+		{
+			String name = MONTHNAMES[i];
+			int node = 0;
+			for (int j = 0; j < name.length(); j++)
+			{
+				int letter = name.charAt(j) - 'a';
+				if (states[node][letter] == DEAD)
+				{
+					states[node][letter] = nodes++;
+				}
+				node = states[node][letter];
+				// the three letter abbreviation and the full name are months
+				if (j == 2 || j == name.length() - 1)
+				{
+					accept[node] = true;
+				}
+			}
+		}
+		// "Sept" is also used as an abbreviation
+		accept[states[states[states[states[0]['s' - 'a']]['e' - 'a']]['p' - 'a']]['t' - 'a']] = true;
+		MONTHSTATES = states;
+		MONTHACCEPT = accept;
+	}
+
+	/**
+	 * Private constructor, since the class only has static methods.
+	 */
+	private DateRecognizer()
+	{
+	}
+
+	/**
+	 * Checks if a text contains a date.
+	 * @param text the text to check
+	 * @return true if the text contains a date, otherwise false
+	 */
+	public static boolean matches(CharSequence text)
+	{
+		return matches(text, 0, text.length());
+	}
+
+	/**
+	 * Checks if part of a text contains a date.
+	 * @param text the text to check
+	 * @param start the index of the first character to check
+	 * @param end the index after the last character to check
+	 * @return true if the text contains a date, otherwise false
+	 */
+	public static boolean matches(CharSequence text, int start, int end)
+	{
+		// the index after a 1 or 2 digit number, for "dd month"
+		int dayEnd = -1;
+		int index = start;
+		while (index < end)
+		{
+			char c = text.charAt(index);
+			if (isLetter(c))
+			{
+				int wordEnd = matchMonth(text, index, end);
+				if (wordEnd < 0)
+				{
+					// skip the rest of the word
+					index++;
+					while (index < end && isLetter(text.charAt(index)))
+					{
+						index++;
+					}
+					continue;
+				}
+				// dd month
+				if (dayEnd >= 0 && dayEnd + 1 == index && text.charAt(dayEnd) == ' ')
+				{
+					return true;
+				}
+				// month dd, with an optional period after an abbreviation
+				int next = wordEnd;
+				if (next < end && text.charAt(next) == '.')
+				{
+					next++;
+				}
+				if (next + 1 < end && text.charAt(next) == ' ' && isDigit(text.charAt(next + 1)))
+				{
+					return true;
+				}
+				index = wordEnd;
+			}
+			else if (isDigit(c))
+			{
+				// a number is only the start of a date if it is not part of a
+				// longer number or word
+				boolean boundary = index == start || classOf(text.charAt(index - 1)) == OTHER;
+				int numberEnd = index;
+				int state = 0;
+				char separator = 0;
+				while (numberEnd < end && state != DEAD && state != TIMESTAMP)
+				{
+					char d = text.charAt(numberEnd);
+					int charClass = classOf(d);
+					if (charClass == OTHER)
+					{
+						break;
+					}
+					if (charClass == SLASH || charClass == DASH)
+					{
+						// both separators of a date must be the same
+						if (separator == 0)
+						{
+							separator = d;
+						}
+						else if (separator != d)
+						{
+							state = DEAD;
+							break;
+						}
+					}
+					state = NUMERICSTATES[state][charClass];
+					numberEnd++;
+				}
+				// the date must end before a letter, which makes the state dead
+				if (boundary && state != DEAD && NUMERICACCEPT[state])
+				{
+					return true;
+				}
+				// skip the rest of the number
+				while (numberEnd < end && classOf(text.charAt(numberEnd)) != OTHER)
+				{
+					numberEnd++;
+				}
+				dayEnd = boundary && (state == 1 || state == 2) ? numberEnd : -1;
+				index = numberEnd;
+			}
+			else
+			{
+				index++;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Matches the word at the start of a text against the month names. The
+	 * word must start with a capital letter, and the rest of the word is
+	 * matched without case.
+	 * @param text the text containing the word
+	 * @param start the index of the first letter of the word
+	 * @param end the index after the last character of the text
+	 * @return the index after the word if it is a month name, otherwise -1
+	 */
+	private static int matchMonth(CharSequence text, int start, int end)
+	{
+		char first = text.charAt(start);
+		if (first < 'A' || first > 'Z' || (start > 0 && isLetter(text.charAt(start - 1))))
+		{
+			return -1;
+		}
+		int node = 0;
+		int index = start;
+		while (index < end && isLetter(text.charAt(index)))
+		{
+			node = MONTHSTATES[node][(text.charAt(index) | 0x20) - 'a'];
+			if (node == DEAD)
+			{
+				return -1;
+			}
+			index++;
+		}
+		return MONTHACCEPT[node] ? index : -1;
+	}
+
+	/**
+	 * Finds the character class of a character for the numeric date machine.
+	 * @param c the character
+	 * @return the character class
+	 */
+	private static int classOf(char c)
+	{
+		if (isDigit(c))
+		{
+			return DIGIT;
+		}
+		if (c == '/')
+		{
+			return SLASH;
+		}
+		if (c == '-')
+		{
+			return DASH;
+		}
+		if (c == 'T')
+		{
+			return TIME;
+		}
+		if (c == ':')
+		{
+			return COLON;
+		}
+		return isLetter(c) ? LETTER : OTHER;
+	}
+
+	/**
+	 * Checks if a character is an ASCII letter.
+	 * @param c the character
+	 * @return true if the character is from 'a' to 'z' or 'A' to 'Z'
+	 */
+	private static boolean isLetter(char c)
+	{
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+	}
+
+	/**
+	 * Checks if a character is an ASCII digit.
+	 * @param c the character
+	 * @return true if the character is from '0' to '9'
+	 */
+	private static boolean isDigit(char c)
+	{
+		return c >= '0' && c <= '9';
+	}
+}
@@ -0,0 +1,192 @@
+package content;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.select.NodeTraversor;
+import org.jsoup.select.NodeVisitor;
+
+/**
+ * The class containing the document order index of a web page. Every element
+ * is given its position (ordinal) in a preorder walk of the DOM tree, which is
+ * done only once. The elements under the body are a continuous range of
+ * ordinals, so an element's location in the body and the total number of body
+ * nodes can be found in constant time.
+ * @author Nick Rummel
+ *
+ */
+public class DocumentOrderIndex
+{
+	/**
+	 * An instance variable that maps each element to its ordinal.
+	 */
+	protected IdentityHashMap<Element, Integer> ordinals;
+
+	/**
+	 * An instance variable that contains each element at the index of its
+	 * ordinal.
+	 */
+	protected Element[] elements;
+
+	/**
+	 * An instance variable that contains the ordinal of the last element under
+	 * each element (the element's own ordinal if it has no children).
+	 */
+	protected int[] lastDescendant;
+
+	/**
+	 * An instance variable that contains the ordinal of the body, or -1 if the
+	 * document has no body.
+	 */
+	protected int bodyOrdinal;
+
+	/**
+	 * An instance variable that contains the number of elements under the
+	 * body.
+	 */
+	protected int bodyNodeCount;
+
+	/**
+	 * Constructor of class that walks the document once to number each
+	 * element.
+	 * @param doc the parsed HTML as a Document
+	 */
+	public DocumentOrderIndex(Document doc)
+	{
+		ordinals = new IdentityHashMap<Element, Integer>();
+		elements = new Element[64];
+		lastDescendant = new int[64];
+
+		NodeTraversor.traverse(new NodeVisitor()
+		{
+			private int count = 0;
+
+			public void head(Node node, int depth)
+			{
+				if (node instanceof Element)
+				{
+					// grow the arrays if they are full
+					if (count == elements.length)
+					{
+						elements = Arrays.copyOf(elements, count * 2);
+						lastDescendant = Arrays.copyOf(lastDescendant, count * 2);
+					}
+					ordinals.put((Element) node, count);
+					elements[count] = (Element) node;
+					count++;
+				}
+			}
+
+			public void tail(Node node, int depth)
+			{
+				if (node instanceof Element)
+				{
+					// every element under this one has been numbered
+					lastDescendant[ordinals.get(node)] = count - 1;
+				}
+			}
+		}, doc);
+
+		elements = Arrays.copyOf(elements, ordinals.size());
+		lastDescendant = Arrays.copyOf(lastDescendant, ordinals.size());
+
+		bodyOrdinal = ordinalOf(doc.body());
+		if (bodyOrdinal > -1)
+		{
+			bodyNodeCount = lastDescendant[bodyOrdinal] - bodyOrdinal;
+		}
+		else
+		{
+			bodyNodeCount = 0;
+		}
+	}
+
+	/**
+	 * Getter method for the number of elements in the document.
+	 * @return the number of elements as an int
+	 */
+	public int size()
+	{
+		return elements.length;
+	}
+
+	/**
+	 * Finds the ordinal of an element.
+	 * @param element the Element node to find
+	 * @return the element's ordinal, or -1 if the element is not in the
+	 *         document
+	 */
+	public int ordinalOf(Element element)
+	{
+		Integer ordinal = ordinals.get(element);
+		if (ordinal == null)
+		{
+			return -1;
+		}
+		return ordinal.intValue();
+	}
+
+	/**
+	 * Retrieves the element with the given ordinal.
+	 * @param ordinal the element's ordinal
+	 * @return the Element node
+	 */
+	public Element elementAt(int ordinal)
+	{
+		return elements[ordinal];
+	}
+
+	/**
+	 * Retrieves the ordinal of the last element under the given element.
+	 * @param ordinal the element's ordinal
+	 * @return the ordinal of the last element under it, or the same ordinal if
+	 *         the element has no children
+	 */
+	public int lastDescendantOf(int ordinal)
+	{
+		return lastDescendant[ordinal];
+	}
+
+	/**
+	 * Getter method for the number of elements under the body.
+	 * @return the number of body nodes as an int
+	 */
+	public int getBodyNodeCount()
+	{
+		return bodyNodeCount;
+	}
+
+	/**
+	 * Finds the location of an element in the list of all elements under the
+	 * body (in document order, not counting the body itself).
+	 * @param element the Element node to find
+	 * @return the element's location, or -1 if the element is not under the
+	 *         body
+	 */
+	public int bodyPositionOf(Element element)
+	{
+		int ordinal = ordinalOf(element);
+		if (bodyOrdinal > -1 && ordinal > bodyOrdinal && ordinal <= lastDescendant[bodyOrdinal])
+		{
+			return ordinal - bodyOrdinal - 1;
+		}
+		return -1;
+	}
+
+	/**
+	 * Determines if an element is in the top half of the web page. The
+	 * element's location under the body is divided by the total number of body
+	 * nodes to get a percentage.
+	 * @param element the given element node
+	 * @return true if the percentage < 50%, false if >= 50%
+	 */
+	public boolean isInTopHalfOfBody(Element element)
+	{
+		// calculate percentage
+		double result = ((double) bodyPositionOf(element)) / ((double) bodyNodeCount);
+		return result < 0.5;
+	}
+}
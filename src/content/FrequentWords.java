@@ -0,0 +1,100 @@
+package content;
+
+/**
+ * The class containing the frequent words of the article features. All of the
+ * word lists are built into one shared WordAutomaton, so an element's lower
+ * case text is scanned once to find every feature that has one of its
+ * frequent words in the text. Each word is given the feature bit from
+ * VisualFeatureDetection (AUTHORFEATURE, CATEGORYFEATURE, etc.).
+ * @author Nick Rummel
+ *
+ */
+public class FrequentWords
+{
+	/**
+	 * A constant for the frequent words of the author.
+	 */
+	public static final String[] AUTHORWORDS =
+	{ "by", "author" };
+
+	/**
+	 * A constant for the frequent words of the comment link.
+	 */
+	public static final String[] COMMENTLINKWORDS =
+	{ "comment" };
+
+	/**
+	 * A constant for the frequent words of the source.
+	 */
+	public static final String[] SOURCEWORDS =
+	{ "from", "source" };
+
+	/**
+	 * A constant for the frequent words of the category. These do not need to
+	 * stand by themselves.
+	 */
+	public static final String[] CATEGORYWORDS =
+	{ "->", ">", "|" };
+
+	/**
+	 * A constant for the frequent words of the related news links.
+	 */
+	public static final String[] RELATEDNEWSLINKSWORDS =
+	{ "related news", "related links" };
+
+	/**
+	 * A constant for the automaton built from all of the word lists.
+	 */
+	public static final WordAutomaton WORDS = buildWords();
+
+	/**
+	 * Private constructor, since the class only has constants.
+	 */
+	private FrequentWords()
+	{
+	}
+
+	/**
+	 * Finds which features have one of their frequent words in a text.
+	 * @param lowerCaseText the text in lower case
+	 * @return the feature bits of the features that have a word in the text
+	 */
+	public static int scan(CharSequence lowerCaseText)
+	{
+		return WORDS.scan(lowerCaseText);
+	}
+
+	/**
+	 * Builds the automaton from all of the word lists.
+	 * @return the automaton
+	 */
+	private static WordAutomaton buildWords()
+	{
+		String[][] lists =
+		{ AUTHORWORDS, COMMENTLINKWORDS, SOURCEWORDS, CATEGORYWORDS, RELATEDNEWSLINKSWORDS };
+		int[] listFeatures =
+		{ VisualFeatureDetection.AUTHORFEATURE, VisualFeatureDetection.COMMENTLINKFEATURE,
+				VisualFeatureDetection.SOURCEFEATURE, VisualFeatureDetection.CATEGORYFEATURE,
+				VisualFeatureDetection.RELATEDNEWSLINKSFEATURE };
+		int count = 0;
+		for (int i = 0; i < lists.length; i++)
+		{
+			count += lists[i].length;
+		}
+		String[] words = new String[count];
+		int[] features = new int[count];
+		boolean[] wholeWords = new boolean[count];
+		int index = 0;
+		for (int i = 0; i < lists.length; i++)
+		{
+			for (int j = 0; j < lists[i].length; j++)
+			{
+				words[index] = lists[i][j];
+				features[index] = listFeatures[i];
+				wholeWords[index] = lists[i] != CATEGORYWORDS;
+				index++;
+			}
+		}
+		return new WordAutomaton(words, features, wholeWords);
+	}
+}
@@ -0,0 +1,225 @@
+package content;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.Scanner;
+
+/**
+ * The class containing the table of HTML color names. The CSV file of color
+ * names and hex values is read only once, the first time a color name is
+ * looked up, and the table is never changed after that, so every page and
+ * thread shares it without locking. The names are kept in an open addressing
+ * hash table, so a name can be looked up straight from the text of a style
+ * without copying it. Names are matched without case, the same as
+ * String.equalsIgnoreCase.
+ * @author Nick Rummel
+ *
+ */
+public class HtmlColorTable
+{
+	/**
+	 * A constant for the path of the CSV file with the HTML color names and
+	 * hex values.
+	 */
+	public static final String COLORFILE = "data\\colorsHTML.csv";
+
+	/**
+	 * A constant for the value returned when a color name is not in the table.
+	 */
+	public static final int NOTFOUND = -1;
+
+	/**
+	 * The class that holds the table, so the file is read when the table is
+	 * first used and the JVM makes sure it is only read once.
+	 */
+	private static class Holder
+	{
+		/**
+		 * A constant for the color table.
+		 */
+		static final HtmlColorTable TABLE = readColors();
+	}
+
+	/**
+	 * An instance variable that contains the folded color name in each slot of
+	 * the hash table, or null if the slot is empty.
+	 */
+	private final String[] names;
+
+	/**
+	 * An instance variable that contains the packed RGB int (0xRRGGBB) of the
+	 * color in each slot of the hash table.
+	 */
+	private final int[] values;
+
+	/**
+	 * An instance variable that contains the number of colors in the table.
+	 */
+	private final int size;
+
+	/**
+	 * Private constructor that builds the hash table from the colors read from
+	 * the file. The table is at least twice as big as the number of colors, so
+	 * a lookup only checks a few slots.
+	 * @param colorNames the folded color names
+	 * @param colorValues the packed RGB int of each color
+	 */
+	private HtmlColorTable(ArrayList<String> colorNames, ArrayList<Integer> colorValues)
+	{
+		int capacity = 16;
+		while (capacity < colorNames.size() * 2)
+		{
+			capacity *= 2;
+		}
+		names = new String[capacity];
+		values = new int[capacity];
+		int count = 0;
+		for (int i = 0; i < colorNames.size(); i++)
+		{
+			String name = colorNames.get(i);
+			int slot = findSlot(name, 0, name.length());
+			// keep the first color if a name is in the file more than once
+			if (names[slot] == null)
+			{
+				names[slot] = name;
+				values[slot] = colorValues.get(i).intValue();
+				count++;
+			}
+		}
+		size = count;
+	}
+
+	/**
+	 * Looks up the packed RGB value of an HTML color name.
+	 * @param name the color name, in any case
+	 * @return the color as a packed RGB int, or NOTFOUND if the name is not an
+	 *         HTML color
+	 */
+	public static int lookup(String name)
+	{
+		return lookup(name, 0, name.length());
+	}
+
+	/**
+	 * Looks up the packed RGB value of an HTML color name that is part of a
+	 * longer piece of text, without copying the name out of the text.
+	 * @param text the text containing the color name
+	 * @param start the index of the first character of the name
+	 * @param end the index after the last character of the name
+	 * @return the color as a packed RGB int, or NOTFOUND if the name is not an
+	 *         HTML color
+	 */
+	public static int lookup(CharSequence text, int start, int end)
+	{
+		HtmlColorTable table = Holder.TABLE;
+		int slot = table.findSlot(text, start, end);
+		if (table.names[slot] == null)
+		{
+			return NOTFOUND;
+		}
+		return table.values[slot];
+	}
+
+	/**
+	 * Getter method for the number of colors in the table.
+	 * @return the number of HTML color names
+	 */
+	public static int size()
+	{
+		return Holder.TABLE.size;
+	}
+
+	/**
+	 * Finds the slot of a name in the hash table. The slot either has the name
+	 * or is the empty slot where the name would go.
+	 * @param text the text containing the name
+	 * @param start the index of the first character of the name
+	 * @param end the index after the last character of the name
+	 * @return the index of the slot
+	 */
+	private int findSlot(CharSequence text, int start, int end)
+	{
+		int hash = 0;
+		for (int i = start; i < end; i++)
+		{
+			hash = 31 * hash + foldCase(text.charAt(i));
+		}
+		// spread the high bits, since the table is small
+		hash ^= hash >>> 16;
+		int mask = names.length - 1;
+		int slot = hash & mask;
+		while (names[slot] != null && !matches(names[slot], text, start, end))
+		{
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	/**
+	 * Checks if a folded name is the same as part of a text, ignoring case.
+	 * @param name the folded name from the table
+	 * @param text the text containing the name to check
+	 * @param start the index of the first character of the name to check
+	 * @param end the index after the last character of the name to check
+	 * @return true if the names are the same, otherwise false
+	 */
+	private static boolean matches(String name, CharSequence text, int start, int end)
+	{
+		if (name.length() != end - start)
+		{
+			return false;
+		}
+		for (int i = 0; i < name.length(); i++)
+		{
+			if (name.charAt(i) != foldCase(text.charAt(start + i)))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Reads the color names and hex values from the CSV file.
+	 * @return the color table
+	 */
+	private static HtmlColorTable readColors()
+	{
+		ArrayList<String> colorNames = new ArrayList<String>();
+		ArrayList<Integer> colorValues = new ArrayList<Integer>();
+		try
+		{
+			Scanner csvReader = new Scanner(new File(COLORFILE));
+			while (csvReader.hasNextLine())
+			{
+				String[] tokens = csvReader.nextLine().split(",");
+				char[] name = tokens[0].toCharArray();
+				for (int i = 0; i < name.length; i++)
+				{
+					name[i] = foldCase(name[i]);
+				}
+				colorNames.add(new String(name));
+				colorValues.add(Integer.valueOf(Integer.decode(tokens[1]).intValue() & 0xFFFFFF));
+			}
+			csvReader.close();
+		}
+		catch (FileNotFoundException e)
+		{
+			e.printStackTrace();
+		}
+		return new HtmlColorTable(colorNames, colorValues);
+	}
+
+	/**
+	 * Folds the case of a character the same way String.equalsIgnoreCase
+	 * compares characters, so two names match exactly when they are equal
+	 * ignoring case.
+	 * @param c the character to fold
+	 * @return the folded character
+	 */
+	private static char foldCase(char c)
+	{
+		return Character.toLowerCase(Character.toUpperCase(c));
+	}
+}
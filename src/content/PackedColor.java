@@ -0,0 +1,198 @@
+package content;
+
+/**
+ * The class containing the color model used to compare font colors. A color
+ * is kept as a packed RGB int (0xRRGGBB) instead of a java.awt.Color, so
+ * checking a color does not create any objects and the AWT classes are never
+ * loaded.
+ * @author Nick Rummel
+ *
+ */
+public class PackedColor
+{
+	/**
+	 * A constant for the packed RGB value of black.
+	 */
+	public static final int BLACK = 0x000000;
+
+	/**
+	 * A constant for the largest difference between two colors, which is the
+	 * sum of the largest difference of each of red, green, and blue.
+	 */
+	public static final int MAXDISTANCE = 765;
+
+	/**
+	 * Private constructor, since the class only has static methods.
+	 */
+	private PackedColor()
+	{
+	}
+
+	/**
+	 * Packs red, green, and blue values into one int.
+	 * @param red the red value from 0 to 255
+	 * @param green the green value from 0 to 255
+	 * @param blue the blue value from 0 to 255
+	 * @return the color as a packed RGB int
+	 */
+	public static int rgb(int red, int green, int blue)
+	{
+		return ((red & 0xFF) << 16) | ((green & 0xFF) << 8) | (blue & 0xFF);
+	}
+
+	/**
+	 * Getter method for the red value of a color.
+	 * @param rgb the color as a packed RGB int
+	 * @return the red value from 0 to 255
+	 */
+	public static int red(int rgb)
+	{
+		return (rgb >> 16) & 0xFF;
+	}
+
+	/**
+	 * Getter method for the green value of a color.
+	 * @param rgb the color as a packed RGB int
+	 * @return the green value from 0 to 255
+	 */
+	public static int green(int rgb)
+	{
+		return (rgb >> 8) & 0xFF;
+	}
+
+	/**
+	 * Getter method for the blue value of a color.
+	 * @param rgb the color as a packed RGB int
+	 * @return the blue value from 0 to 255
+	 */
+	public static int blue(int rgb)
+	{
+		return rgb & 0xFF;
+	}
+
+	/**
+	 * Reads a color code the same way as Color.decode, such as "#0000FF" or
+	 * "0x0000FF".
+	 * @param code the color code
+	 * @return the color as a packed RGB int
+	 * @throws NumberFormatException if the code is not a number
+	 */
+	public static int decode(String code)
+	{
+		return Integer.decode(code).intValue() & 0xFFFFFF;
+	}
+
+	/**
+	 * Converts a color from hue, saturation, and brightness to RGB. The result
+	 * is the same as Color.HSBtoRGB, including for values outside of 0 to 1.
+	 * @param hue the hue, where only the fraction is used
+	 * @param saturation the saturation from 0 to 1
+	 * @param brightness the brightness from 0 to 1
+	 * @return the color as a packed RGB int
+	 */
+	public static int hsbToRgb(float hue, float saturation, float brightness)
+	{
+		int red = 0;
+		int green = 0;
+		int blue = 0;
+		if (saturation == 0)
+		{
+			red = green = blue = (int) (brightness * 255.0f + 0.5f);
+		}
+		else
+		{
+			float sector = (hue - (float) Math.floor(hue)) * 6.0f;
+			float fraction = sector - (float) Math.floor(sector);
+			float p = brightness * (1.0f - saturation);
+			float q = brightness * (1.0f - saturation * fraction);
+			float t = brightness * (1.0f - (saturation * (1.0f - fraction)));
+			switch ((int) sector)
+			{
+			case 0:
+				red = (int) (brightness * 255.0f + 0.5f);
+				green = (int) (t * 255.0f + 0.5f);
+				blue = (int) (p * 255.0f + 0.5f);
+				break;
+			case 1:
+				red = (int) (q * 255.0f + 0.5f);
+				green = (int) (brightness * 255.0f + 0.5f);
+				blue = (int) (p * 255.0f + 0.5f);
+				break;
+			case 2:
+				red = (int) (p * 255.0f + 0.5f);
+				green = (int) (brightness * 255.0f + 0.5f);
+				blue = (int) (t * 255.0f + 0.5f);
+				break;
+			case 3:
+				red = (int) (p * 255.0f + 0.5f);
+				green = (int) (q * 255.0f + 0.5f);
+				blue = (int) (brightness * 255.0f + 0.5f);
+				break;
+			case 4:
+				red = (int) (t * 255.0f + 0.5f);
+				green = (int) (p * 255.0f + 0.5f);
+				blue = (int) (brightness * 255.0f + 0.5f);
+				break;
+			case 5:
+				red = (int) (brightness * 255.0f + 0.5f);
+				green = (int) (p * 255.0f + 0.5f);
+				blue = (int) (q * 255.0f + 0.5f);
+				break;
+			}
+		}
+		// values out of range spill into the other colors, the same as AWT
+		return ((red << 16) | (green << 8) | blue) & 0xFFFFFF;
+	}
+
+	/**
+	 * Converts a color from hue, saturation, and lightness to RGB. The color is
+	 * changed to hue, saturation, and brightness and then converted.
+	 * @param hue the hue, where only the fraction is used
+	 * @param saturation the saturation from 0 to 1
+	 * @param lightness the lightness from 0 to 1
+	 * @return the color as a packed RGB int
+	 */
+	public static int hslToRgb(float hue, float saturation, float lightness)
+	{
+		float brightness = lightness + saturation * Math.min(lightness, 1.0f - lightness);
+		float hsbSaturation = 0.0f;
+		if (brightness > 0)
+		{
+			hsbSaturation = 2.0f * (1.0f - lightness / brightness);
+		}
+		return hsbToRgb(hue, hsbSaturation, brightness);
+	}
+
+	/**
+	 * Finds the difference between two colors, which is the sum of the
+	 * difference in red, green, and blue.
+	 * @param first the first color as a packed RGB int
+	 * @param second the second color as a packed RGB int
+	 * @return the difference from 0 to MAXDISTANCE
+	 */
+	public static int distance(int first, int second)
+	{
+		return Math.abs(red(first) - red(second)) + Math.abs(green(first) - green(second))
+				+ Math.abs(blue(first) - blue(second));
+	}
+
+	/**
+	 * Checks to see if a color is similar to a baseline. A black baseline only
+	 * matches black.
+	 * @param baseline The color that determines what the test should be like
+	 * @param test The color to be tested against the baseline
+	 * @param threshold The level of deviation from the baseline from 0 to 765
+	 * @return true if color is in threshold, false if color is outside
+	 *         threshold
+	 */
+	public static boolean inRange(int baseline, int test, int threshold)
+	{
+		if (baseline == BLACK)
+		{
+			return test == BLACK;
+		}
+		// make sure threshold is between 0 and 765
+		int level = Math.max(0, Math.min(MAXDISTANCE, threshold));
+		return distance(baseline, test) <= level;
+	}
+}
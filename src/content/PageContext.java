@@ -0,0 +1,377 @@
+package content;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+
+/**
+ * The class containing the analysis context for a single web page. The HTML is
+ * parsed once, and everything derived from the DOM tree (the text elements and
+ * the style sheets) is computed on first use and shared by all of the article
+ * feature checks.
+ * @author Nick Rummel
+ *
+ */
+public class PageContext
+{
+	/**
+	 * An instance variable representing the parsed HTML of the web page. The
+	 * Document object is from JSoup's library.
+	 */
+	protected Document doc;
+
+	/**
+	 * An instance variable that contains all of the text elements of the page,
+	 * or null if they have not been retrieved yet.
+	 */
+	protected Elements textElements;
+
+	/**
+	 * An instance variable that contains the style tag from the HTML's head.
+	 */
+	protected Element headStyleSheet;
+
+	/**
+	 * An instance variable that contains the first style tag in the document.
+	 */
+	protected Element firstStyleSheet;
+
+	/**
+	 * Flag that is set to true once the style sheets have been looked up,
+	 * since either style sheet may be null.
+	 */
+	protected boolean styleSheetsFound;
+
+	/**
+	 * An instance variable that contains the visual line index of the page,
+	 * or null if it has not been built yet.
+	 */
+	protected VisualLineIndex lineIndex;
+
+	/**
+	 * An instance variable that contains the document order index of the page,
+	 * or null if it has not been built yet.
+	 */
+	protected DocumentOrderIndex orderIndex;
+
+	/**
+	 * An instance variable that contains the anchor index of the page, or null
+	 * if it has not been built yet.
+	 */
+	protected AnchorIndex anchorIndex;
+
+	/**
+	 * An instance variable that contains the style sheet index of the page, or
+	 * null if it has not been built yet.
+	 */
+	protected StyleSheetIndex styleSheetIndex;
+
+	/**
+	 * An instance variable that contains the computed style cache of the page,
+	 * or null if it has not been created yet.
+	 */
+	protected ComputedStyleCache computedStyleCache;
+
+	/**
+	 * An instance variable that contains the text table of the page, or null
+	 * if it has not been created yet.
+	 */
+	protected TextTable textTable;
+
+	/**
+	 * An instance variable that contains the text length index of the page,
+	 * or null if it has not been built yet.
+	 */
+	protected TextLengthIndex textLengthIndex;
+
+	/**
+	 * An instance variable that contains the CSS value cache of the page, or
+	 * null if it has not been created yet.
+	 */
+	protected CssValueCache cssValueCache;
+
+	/**
+	 * An instance variable that contains the rule chain of each feature's
+	 * rules, created the first time the rules are checked on the page.
+	 */
+	protected HashMap<ArticleRule[], RuleChain> ruleChains;
+
+	/**
+	 * Constructor of class that wraps an already parsed Document.
+	 * @param document the parsed HTML as a JSoup Document
+	 */
+	public PageContext(Document document)
+	{
+		doc = document;
+		textElements = null;
+		headStyleSheet = null;
+		firstStyleSheet = null;
+		styleSheetsFound = false;
+		lineIndex = null;
+		orderIndex = null;
+		anchorIndex = null;
+		styleSheetIndex = null;
+		computedStyleCache = null;
+		textTable = null;
+		textLengthIndex = null;
+		cssValueCache = null;
+	}
+
+	/**
+	 * Parses an HTML file and creates the context for it.
+	 * @param file the HTML file to be parsed
+	 * @param charset the character set of the file
+	 * @return the PageContext for the parsed file
+	 * @throws IOException if the file could not be read
+	 */
+	public static PageContext parse(File file, String charset) throws IOException
+	{
+		return new PageContext(Jsoup.parse(file, charset));
+	}
+
+	/**
+	 * Getter method for the Document instance variable.
+	 * @return the parsed HTML as a Document
+	 */
+	public Document getDocument()
+	{
+		return doc;
+	}
+
+	/**
+	 * Retrieves all the text elements (paragraph, span, time, div, and the six
+	 * heading tags). The list is only built once per page, so callers must not
+	 * modify it.
+	 * @return The Elements array list
+	 */
+	public Elements getTextElements()
+	{
+		if (textElements == null)
+		{
+			Elements allElements = new Elements();
+			// get all elements with paragraph tag
+			allElements.addAll(doc.getElementsByTag("p"));
+			// get all elements with a span tag
+			allElements.addAll(doc.getElementsByTag("span"));
+			// get all elements with a time tag
+			allElements.addAll(doc.getElementsByTag("time"));
+			// get all elements with div tags
+			allElements.addAll(doc.getElementsByTag("div"));
+			// get all elements with heading tags
+			for (int i = 1; i <= 6; i++)
+			{
+				allElements.addAll(doc.getElementsByTag("h" + i));
+			}
+			textElements = allElements;
+		}
+		return textElements;
+	}
+
+	/**
+	 * Retrieves the style tag from the HTML's head, which will contain internal
+	 * CSS information.
+	 * @return the Element node containing the style information, null if the
+	 *         style tag was not found
+	 */
+	public Element getHeadStyleSheet()
+	{
+		findStyleSheets();
+		return headStyleSheet;
+	}
+
+	/**
+	 * Retrieves the first style tag found anywhere in the document.
+	 * @return the first style Element, or null if the page has no style tags
+	 */
+	public Element getFirstStyleSheet()
+	{
+		findStyleSheets();
+		return firstStyleSheet;
+	}
+
+	/**
+	 * Retrieves the visual line index of the page, rendering the page into
+	 * lines the first time it is needed.
+	 * @return the VisualLineIndex of the page
+	 */
+	public VisualLineIndex getVisualLineIndex()
+	{
+		if (lineIndex == null)
+		{
+			lineIndex = new VisualLineIndex(doc);
+		}
+		return lineIndex;
+	}
+
+	/**
+	 * Retrieves the document order index of the page, numbering the elements
+	 * the first time it is needed.
+	 * @return the DocumentOrderIndex of the page
+	 */
+	public DocumentOrderIndex getDocumentOrderIndex()
+	{
+		if (orderIndex == null)
+		{
+			orderIndex = new DocumentOrderIndex(doc);
+		}
+		return orderIndex;
+	}
+
+	/**
+	 * Retrieves the anchor index of the page, building it the first time it is
+	 * needed.
+	 * @return the AnchorIndex of the page
+	 */
+	public AnchorIndex getAnchorIndex()
+	{
+		if (anchorIndex == null)
+		{
+			anchorIndex = new AnchorIndex(getDocumentOrderIndex());
+		}
+		return anchorIndex;
+	}
+
+	/**
+	 * Retrieves the style sheet index of the page, building it the first time
+	 * it is needed.
+	 * @return the StyleSheetIndex of the page
+	 */
+	public StyleSheetIndex getStyleSheetIndex()
+	{
+		if (styleSheetIndex == null)
+		{
+			styleSheetIndex = new StyleSheetIndex(getHeadStyleSheet(), getFirstStyleSheet());
+		}
+		return styleSheetIndex;
+	}
+
+	/**
+	 * Retrieves the computed style cache of the page, creating it the first
+	 * time it is needed.
+	 * @return the ComputedStyleCache of the page
+	 */
+	public ComputedStyleCache getComputedStyleCache()
+	{
+		if (computedStyleCache == null)
+		{
+			computedStyleCache = new ComputedStyleCache(getDocumentOrderIndex().size());
+		}
+		return computedStyleCache;
+	}
+
+	/**
+	 * Retrieves the text table of the page, creating it the first time it is
+	 * needed.
+	 * @return the TextTable of the page
+	 */
+	public TextTable getTextTable()
+	{
+		if (textTable == null)
+		{
+			textTable = new TextTable(getDocumentOrderIndex());
+		}
+		return textTable;
+	}
+
+	/**
+	 * Retrieves the text length index of the page, sorting the text elements
+	 * the first time it is needed.
+	 * @return the TextLengthIndex of the page
+	 */
+	public TextLengthIndex getTextLengthIndex()
+	{
+		if (textLengthIndex == null)
+		{
+			textLengthIndex = new TextLengthIndex(getTextElements(), getTextTable());
+		}
+		return textLengthIndex;
+	}
+
+	/**
+	 * Retrieves the CSS value cache of the page, creating it the first time it
+	 * is needed.
+	 * @param pixelSize the size of 1em in pixels, which is only used when the
+	 *            cache is created
+	 * @return the CssValueCache of the page
+	 */
+	public CssValueCache getCssValueCache(double pixelSize)
+	{
+		if (cssValueCache == null)
+		{
+			cssValueCache = new CssValueCache(pixelSize);
+		}
+		return cssValueCache;
+	}
+
+	/**
+	 * Retrieves the page's rule chain of a feature's rules, creating it the
+	 * first time the rules are checked. The chain learns the order of the
+	 * rules from this page's elements only.
+	 * @param rules the rules of the feature, such as ArticleRules.TITLE
+	 * @return the RuleChain of the rules for the page
+	 */
+	public RuleChain getRuleChain(ArticleRule[] rules)
+	{
+		if (ruleChains == null)
+		{
+			ruleChains = new HashMap<ArticleRule[], RuleChain>();
+		}
+		RuleChain chain = ruleChains.get(rules);
+		if (chain == null)
+		{
+			chain = new RuleChain(rules);
+			ruleChains.put(rules, chain);
+		}
+		return chain;
+	}
+
+	/**
+	 * Looks up both style sheets the first time either one is needed.
+	 */
+	private void findStyleSheets()
+	{
+		if (styleSheetsFound == false)
+		{
+			headStyleSheet = findHeadStyleSheet(doc.select("head"));
+			firstStyleSheet = doc.select("style").first();
+			styleSheetsFound = true;
+		}
+	}
+
+	/**
+	 * Checks the HTML's head for a style tag, which will contain internal CSS
+	 * information.
+	 * @param headNode the start of the head HTML tag
+	 * @return the Element node containing the style information, null if the
+	 *         style tag was not found
+	 */
+	public static Element findHeadStyleSheet(Elements headNode)
+	{
+		// variable will remain null if no CSS style is defined in the head
+		Element styleNode = null;
+		// get the tags under the head
+		for (int j = 0; j < headNode.size(); j++)
+		{
+			// check if the head node has any children
+			if (headNode.get(j).childNodeSize() > 0)
+			{
+				// check children for style tag
+				Elements children = headNode.get(j).children();
+				for (int k = 0; k < children.size(); k++)
+				{
+					if (children.get(k).tagName().equalsIgnoreCase("style"))
+					{
+						// style tag has been found, so save node for future
+						styleNode = children.get(k);
+					}
+				}
+			}
+		}
+		return styleNode;
+	}
+}
@@ -0,0 +1,285 @@
+package content;
+
+import org.jsoup.nodes.Element;
+
+/**
+ * The class containing the rule chain of an article feature. An element has the
+ * feature when it passes every rule of the chain, so the rules can be checked
+ * in any order without changing the outcome. The chain keeps how often each
+ * rule is checked, how often it passes, and a sample of how long it takes, and
+ * every REORDERINTERVAL checks it moves the cheapest and most selective rules
+ * to the front so that failing elements are rejected as early as possible.
+ *
+ * Each page's PageContext keeps its own chain of each feature, so the order
+ * and statistics only come from that page's elements and do not depend on
+ * which pages were checked before it. A chain is not locked, so it should only
+ * be used by the thread checking its page.
+ * @author Nick Rummel
+ *
+ */
+public class RuleChain
+{
+	/**
+	 * A constant for how often the time of a rule is measured. Only one in this
+	 * many checks of each rule is timed.
+	 */
+	public static final int SAMPLEINTERVAL = 8;
+
+	/**
+	 * A constant for the number of checks of the chain between each time the
+	 * rules are reordered.
+	 */
+	public static final int REORDERINTERVAL = 64;
+
+	/**
+	 * A constant for how much a new time measurement counts toward the average
+	 * cost of a rule. Older measurements fade out, so a slow first check (while
+	 * the code is still warming up) does not stay in the average.
+	 */
+	protected static final double COSTWEIGHT = 0.25;
+
+	/**
+	 * A constant for the smallest rejection rate used when ranking a rule, so a
+	 * rule that always passes is ranked by its cost instead of being infinite.
+	 */
+	protected static final double MINREJECTRATE = 0.01;
+
+	/**
+	 * An instance variable that contains the rules in the order they were
+	 * given.
+	 */
+	protected final ArticleRule[] rules;
+
+	/**
+	 * An instance variable that contains the indexes of the rules in the order
+	 * they are checked. A new array is made each time the rules are reordered.
+	 */
+	protected volatile int[] order;
+
+	/**
+	 * An instance variable that contains the number of times each rule was
+	 * checked.
+	 */
+	protected long[] evaluations;
+
+	/**
+	 * An instance variable that contains the number of times each rule passed.
+	 */
+	protected long[] passes;
+
+	/**
+	 * An instance variable that contains the number of times each rule was
+	 * timed.
+	 */
+	protected long[] samples;
+
+	/**
+	 * An instance variable that contains the weighted average time in
+	 * nanoseconds of the timed checks of each rule.
+	 */
+	protected double[] averageCosts;
+
+	/**
+	 * An instance variable that contains the number of times the chain was
+	 * checked.
+	 */
+	protected long chainEvaluations;
+
+	/**
+	 * Constructor of class that creates a chain checked in the order the rules
+	 * are given until statistics are gathered.
+	 * @param rules the rules of the feature
+	 */
+	public RuleChain(ArticleRule... rules)
+	{
+		this.rules = rules.clone();
+		order = new int[rules.length];
+		for (int i = 0; i < order.length; i++)
+		{
+			order[i] = i;
+		}
+		evaluations = new long[rules.length];
+		passes = new long[rules.length];
+		samples = new long[rules.length];
+		averageCosts = new double[rules.length];
+		chainEvaluations = 0;
+	}
+
+	/**
+	 * Checks all of the rules against a single element, stopping at the first
+	 * rule that fails.
+	 * @param vfd the visual feature detection of the page the element is from
+	 * @param textSet The current Element node to check
+	 * @return true if the element passes every rule, otherwise false
+	 */
+	public boolean matches(VisualFeatureDetection vfd, Element textSet)
+	{
+		int[] current = order;
+		boolean result = true;
+		for (int i = 0; i < current.length && result; i++)
+		{
+			int rule = current[i];
+			if (evaluations[rule]++ % SAMPLEINTERVAL == 0)
+			{
+				long start = System.nanoTime();
+				result = rules[rule].matches(vfd, textSet);
+				addSample(rule, System.nanoTime() - start);
+			}
+			else
+			{
+				result = rules[rule].matches(vfd, textSet);
+			}
+			if (result)
+			{
+				passes[rule]++;
+			}
+		}
+		if (++chainEvaluations % REORDERINTERVAL == 0)
+		{
+			reorder();
+		}
+		return result;
+	}
+
+	/**
+	 * Adds a time measurement to the average cost of a rule.
+	 * @param rule the index of the rule
+	 * @param nanos the time of the check in nanoseconds
+	 */
+	private void addSample(int rule, long nanos)
+	{
+		if (samples[rule] == 0)
+		{
+			averageCosts[rule] = nanos;
+		}
+		else
+		{
+			averageCosts[rule] += COSTWEIGHT * (nanos - averageCosts[rule]);
+		}
+		samples[rule]++;
+	}
+
+	/**
+	 * Sorts the rules by their rank, lowest first. A rule that has not been
+	 * timed yet is ranked 0 so it is checked early and its statistics are
+	 * gathered. Rules with the same rank keep the order they were given.
+	 */
+	public void reorder()
+	{
+		int[] sorted = new int[rules.length];
+		double[] ranks = new double[rules.length];
+		for (int i = 0; i < rules.length; i++)
+		{
+			ranks[i] = getRank(i);
+		}
+		// insertion sort, since a chain only has a few rules
+		for (int i = 0; i < rules.length; i++)
+		{
+			int j = i;
+			while (j > 0 && ranks[sorted[j - 1]] > ranks[i])
+			{
+				sorted[j] = sorted[j - 1];
+				j--;
+			}
+			sorted[j] = i;
+		}
+		order = sorted;
+	}
+
+	/**
+	 * Calculates the rank of a rule, which is its average cost divided by how
+	 * often it rejects an element. A cheap rule that rejects most elements has
+	 * the lowest rank.
+	 * @param rule the index of the rule
+	 * @return the rank of the rule
+	 */
+	private double getRank(int rule)
+	{
+		if (samples[rule] == 0)
+		{
+			return 0.0;
+		}
+		double rejectRate = 1.0 - (double) passes[rule] / (double) evaluations[rule];
+		return averageCosts[rule] / Math.max(rejectRate, MINREJECTRATE);
+	}
+
+	/**
+	 * Finds the index of a rule in the order the rules were given.
+	 * @param rule the rule to find
+	 * @return the index of the rule, or -1 if it is not in the chain
+	 */
+	private int indexOf(ArticleRule rule)
+	{
+		for (int i = 0; i < rules.length; i++)
+		{
+			if (rules[i] == rule)
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Getter method for the rules in the order they are currently checked.
+	 * @return the rules of the chain
+	 */
+	public ArticleRule[] getRuleOrder()
+	{
+		int[] current = order;
+		ArticleRule[] result = new ArticleRule[current.length];
+		for (int i = 0; i < current.length; i++)
+		{
+			result[i] = rules[current[i]];
+		}
+		return result;
+	}
+
+	/**
+	 * Getter method for the number of times a rule was checked.
+	 * @param rule the rule
+	 * @return the number of checks, or 0 if the rule is not in the chain
+	 */
+	public long getEvaluations(ArticleRule rule)
+	{
+		int i = indexOf(rule);
+		if (i < 0)
+		{
+			return 0;
+		}
+		return evaluations[i];
+	}
+
+	/**
+	 * Calculates how often a rule passed when it was checked.
+	 * @param rule the rule
+	 * @return the pass rate between 0 and 1, or 0 if the rule has not been
+	 *         checked
+	 */
+	public double getPassRate(ArticleRule rule)
+	{
+		int i = indexOf(rule);
+		if (i < 0 || evaluations[i] == 0)
+		{
+			return 0.0;
+		}
+		return (double) passes[i] / (double) evaluations[i];
+	}
+
+	/**
+	 * Getter method for the weighted average time of the timed checks of a
+	 * rule.
+	 * @param rule the rule
+	 * @return the average cost in nanoseconds, or 0 if the rule has not been
+	 *         timed
+	 */
+	public double getAverageCost(ArticleRule rule)
+	{
+		int i = indexOf(rule);
+		if (i < 0)
+		{
+			return 0.0;
+		}
+		return averageCosts[i];
+	}
+}
@@ -0,0 +1,184 @@
+package content;
+
+import java.util.HashMap;
+
+import org.jsoup.nodes.Element;
+
+/**
+ * The class containing the style sheet index of a web page. The internal CSS
+ * from the HTML's head is searched once for each tag and style attribute (such
+ * as font-size or color), and the declared value is saved. Looking up the style
+ * of an element is then a hash lookup instead of a search of the whole style
+ * sheet.
+ * @author Nick Rummel
+ *
+ */
+public class StyleSheetIndex
+{
+	/**
+	 * An instance variable that contains the style data from the HTML's head,
+	 * or null if the head has no style tag.
+	 */
+	protected String headData;
+
+	/**
+	 * An instance variable that contains the style data of the first style tag
+	 * in the document, which is where the declared values are read from.
+	 */
+	protected String firstData;
+
+	/**
+	 * An instance variable that saves whether a tag has a declaration for a
+	 * style attribute. The key is the tag followed by the attribute.
+	 */
+	protected HashMap<String, Boolean> declared;
+
+	/**
+	 * An instance variable that saves the declared value for a tag and style
+	 * attribute. The key is the tag followed by the attribute.
+	 */
+	protected HashMap<String, String> values;
+
+	/**
+	 * Constructor of class that saves the style data of the page.
+	 * @param headStyleSheet the style tag from the HTML's head, or null
+	 * @param firstStyleSheet the first style tag in the document, or null
+	 */
+	public StyleSheetIndex(Element headStyleSheet, Element firstStyleSheet)
+	{
+		if (headStyleSheet != null)
+		{
+			headData = headStyleSheet.data();
+		}
+		else
+		{
+			headData = null;
+		}
+		if (firstStyleSheet != null)
+		{
+			firstData = firstStyleSheet.data();
+		}
+		else
+		{
+			firstData = null;
+		}
+		declared = new HashMap<String, Boolean>();
+		values = new HashMap<String, String>();
+	}
+
+	/**
+	 * Checks if the head's style sheet has a declaration of the style attribute
+	 * for the tag.
+	 * @param tag the tag name (p, h1-h6, etc.)
+	 * @param attribute the style attribute, such as font-size or color
+	 * @return true if the tag has the attribute in the style sheet, otherwise
+	 *         false
+	 */
+	public boolean hasDeclaration(String tag, String attribute)
+	{
+		String key = tag + " " + attribute;
+		Boolean found = declared.get(key);
+		if (found == null)
+		{
+			found = Boolean.valueOf(headData != null && headData.contains(attribute)
+					&& styleDataContainsAttributeForTag(tag, headData, attribute));
+			declared.put(key, found);
+			if (found.booleanValue())
+			{
+				values.put(key, findDeclaredValue(tag, attribute));
+			}
+		}
+		return found.booleanValue();
+	}
+
+	/**
+	 * Retrieves the declared value of the style attribute for the tag. The
+	 * value is everything after the attribute name up to the next time the
+	 * attribute is named, which is what the extract methods expect.
+	 * @param tag the tag name (p, h1-h6, etc.)
+	 * @param attribute the style attribute, such as font-size or color
+	 * @return the declared value as a String, or null if the tag has no value
+	 *         for the attribute
+	 */
+	public String getDeclaration(String tag, String attribute)
+	{
+		if (hasDeclaration(tag, attribute))
+		{
+			return values.get(tag + " " + attribute);
+		}
+		return null;
+	}
+
+	/**
+	 * Finds the declared value from the first style tag in the document. The
+	 * style data is tokenized by the attribute, and the value is in the token
+	 * after the one with the tag.
+	 * @param tag the tag name (p, h1-h6, etc.)
+	 * @param attribute the style attribute, such as font-size or color
+	 * @return the token with the value, or null if it was not found
+	 */
+	private String findDeclaredValue(String tag, String attribute)
+	{
+		if (firstData == null)
+		{
+			return null;
+		}
+		String[] tokens = firstData.split(attribute);
+		for (int i = 0; i < tokens.length; i++)
+		{
+			// make sure the tag exists and the token is not the last in the
+			// array
+			if (styleDataContainsTag(tag, tokens[i]) && (i + 1) < tokens.length)
+			{
+				return tokens[i + 1];
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Checks for CSS styling inside of the head's style tag. The formatting is
+	 * usually tag {attribute: value;} or tag{attribute: value;}
+	 * @param tag The tag name (p, h1-h6, etc.)
+	 * @param data The style data as a String
+	 * @return true if the tag exists in the styling, false if the tag does not
+	 *         exist
+	 */
+	private boolean styleDataContainsTag(String tag, String data)
+	{
+		// check if it is in the format tag { or tag{
+		return data.contains(tag + " {") || data.contains(tag + "{");
+	}
+
+	/**
+	 * Checks for CSS styling inside of the head's style tag. The formatting is
+	 * usually tag {attribute: value;} or tag{attribute: value;}. Then, it
+	 * verifies that the tag has the correct attribute located on the same line.
+	 * @param tag The tag name (p, h1-h6, etc.)
+	 * @param data The style data as a String
+	 * @param attribute The style attribute to find in the style data
+	 * @return true if the tag and attribute are in the same rule, otherwise
+	 *         false
+	 */
+	private boolean styleDataContainsAttributeForTag(String tag, String data, String attribute)
+	{
+		boolean result = false;
+		// check if it is in the format tag { or tag{
+		if (styleDataContainsTag(tag, data))
+		{
+			// parse data using the ending curly brace '}'
+			String[] tokens = data.split("}");
+			for (int i = 0; i < tokens.length; i++)
+			{
+				// checks if the current token has the tag and attribute
+				if (tokens[i].contains(tag) && tokens[i].contains(attribute))
+				{
+					result = true;
+					break;
+				}
+			}
+		}
+
+		return result;
+	}
+}
@@ -0,0 +1,134 @@
+package content;
+
+import java.util.Arrays;
+
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+
+/**
+ * The class containing the text length index of a web page. The text elements
+ * are sorted once by the length of their text, so the candidates of a feature
+ * (the elements whose text length fits the feature's text length rule) are
+ * found with a binary search instead of checking every text element.
+ * @author Nick Rummel
+ *
+ */
+public class TextLengthIndex
+{
+	/**
+	 * An instance variable that contains the text elements of the page in the
+	 * order they were given.
+	 */
+	protected Elements textElements;
+
+	/**
+	 * An instance variable that contains the text length of each entry of the
+	 * sorted array, shortest first.
+	 */
+	protected int[] lengths;
+
+	/**
+	 * An instance variable that contains the position in textElements of each
+	 * entry of the sorted array.
+	 */
+	protected int[] positions;
+
+	/**
+	 * Constructor of class that sorts the text elements by text length.
+	 * @param textElements the text elements of the page
+	 * @param textTable the text table of the page
+	 */
+	public TextLengthIndex(Elements textElements, TextTable textTable)
+	{
+		this.textElements = textElements;
+		int size = textElements.size();
+		// pack the length in the high bits and the position in the low bits,
+		// so sorting the longs sorts by length and keeps equal lengths in
+		// page order
+		long[] packed = new long[size];
+		for (int i = 0; i < size; i++)
+		{
+			packed[i] = ((long) textTable.getLength(textElements.get(i)) << 32) | i;
+		}
+		Arrays.sort(packed);
+		lengths = new int[size];
+		positions = new int[size];
+		for (int i = 0; i < size; i++)
+		{
+			lengths[i] = (int) (packed[i] >>> 32);
+			positions[i] = (int) packed[i];
+		}
+	}
+
+	/**
+	 * Finds the text elements whose text is longer than min and shorter than
+	 * max, the same window as the text length rules use.
+	 * @param min the text must be longer than this
+	 * @param max the text must be shorter than this
+	 * @return the candidate elements in the order they were given
+	 */
+	public Elements getCandidates(int min, int max)
+	{
+		int start = firstLongerThan(min);
+		int end = firstLongerThan(max - 1);
+		Elements candidates = new Elements();
+		if (start < end)
+		{
+			// put the candidates back into page order
+			int[] found = Arrays.copyOfRange(positions, start, end);
+			Arrays.sort(found);
+			for (int i = 0; i < found.length; i++)
+			{
+				candidates.add(textElements.get(found[i]));
+			}
+		}
+		return candidates;
+	}
+
+	/**
+	 * Counts the text elements whose text is longer than min and shorter than
+	 * max.
+	 * @param min the text must be longer than this
+	 * @param max the text must be shorter than this
+	 * @return the number of candidate elements
+	 */
+	public int countCandidates(int min, int max)
+	{
+		return Math.max(0, firstLongerThan(max - 1) - firstLongerThan(min));
+	}
+
+	/**
+	 * Finds the first entry of the sorted array with a text length longer than
+	 * the given length using a binary search.
+	 * @param length the length to compare to
+	 * @return the index of the first longer entry, or the size of the array if
+	 *         there is none
+	 */
+	private int firstLongerThan(int length)
+	{
+		int low = 0;
+		int high = lengths.length;
+		while (low < high)
+		{
+			int middle = (low + high) >>> 1;
+			if (lengths[middle] > length)
+			{
+				high = middle;
+			}
+			else
+			{
+				low = middle + 1;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Getter method for the number of text elements in the index.
+	 * @return the number of text elements
+	 */
+	public int size()
+	{
+		return lengths.length;
+	}
+}
@@ -0,0 +1,301 @@
+package content;
+
+import java.util.Arrays;
+
+import org.jsoup.internal.StringUtil;
+import org.jsoup.nodes.CDataNode;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.select.NodeTraversor;
+import org.jsoup.select.NodeVisitor;
+
+/**
+ * The class containing the text table of a web page. The text of every element
+ * (without tags and attributes) is built in one walk of the page, the same way
+ * as Element.text(), so a large element's text is never built again for each
+ * of its ancestors or for each rule that reads it. The walk writes the whole
+ * page's text once, and since an element's text is always one piece of it
+ * (apart from a space that Element.text() trims), each element only keeps
+ * where its text starts and ends. The lower case text is made from the page's
+ * text at the same time, and the features whose frequent words an element has
+ * are saved the first time a rule needs them. Elements are looked up by their
+ * ordinal from the DocumentOrderIndex.
+ * @author Nick Rummel
+ *
+ */
+public class TextTable
+{
+	/**
+	 * An instance variable that contains the document order index of the page.
+	 */
+	protected DocumentOrderIndex orderIndex;
+
+	/**
+	 * An instance variable that contains the text of the whole page.
+	 */
+	protected String pageText;
+
+	/**
+	 * An instance variable that contains the lower case text of the whole
+	 * page, or null if the lower case of an element's text might not be the
+	 * same piece of it (when the page has a capital sigma, whose lower case
+	 * depends on the letters around it, or the lower case changes the length).
+	 */
+	protected String pageLowerCaseText;
+
+	/**
+	 * An instance variable that contains where the text of each element
+	 * starts in the page's text.
+	 */
+	protected int[] textStarts;
+
+	/**
+	 * An instance variable that contains where the text of each element ends
+	 * in the page's text.
+	 */
+	protected int[] textEnds;
+
+	/**
+	 * An instance variable that contains the text of each element, or null if
+	 * it has not been needed yet.
+	 */
+	protected String[] texts;
+
+	/**
+	 * An instance variable that contains the lower case text of each element,
+	 * or null if it has not been needed yet.
+	 */
+	protected String[] lowerCaseTexts;
+
+	/**
+	 * An instance variable that contains the frequent word feature bits of
+	 * each element, or -1 if the text has not been scanned yet.
+	 */
+	protected int[] wordFeatures;
+
+	/**
+	 * Constructor of class that builds the text of every element of the page.
+	 * @param orderIndex the document order index of the page
+	 */
+	public TextTable(DocumentOrderIndex orderIndex)
+	{
+		this.orderIndex = orderIndex;
+		int size = orderIndex.size();
+		textStarts = new int[size];
+		textEnds = new int[size];
+		texts = new String[size];
+		lowerCaseTexts = new String[size];
+		wordFeatures = new int[size];
+		Arrays.fill(wordFeatures, -1);
+
+		if (size > 0)
+		{
+			buildText(orderIndex.elementAt(0));
+		}
+		else
+		{
+			pageText = "";
+		}
+		String lower = pageText.toLowerCase();
+		if (lower.length() == pageText.length() && pageText.indexOf('\u03A3') < 0)
+		{
+			pageLowerCaseText = lower;
+		}
+	}
+
+	/**
+	 * Walks the page once, writing the text of every element the same way as
+	 * Element.text(): whitespace is collapsed (except under a tag that keeps
+	 * it, such as pre), and a space is added before a block or br element and
+	 * after a block element that is followed by text. Each element's text is
+	 * the part written between its start and end tags, trimmed.
+	 * @param root the first element of the page, in document order
+	 */
+	private void buildText(Element root)
+	{
+		final StringBuilder accum = new StringBuilder();
+		final int[] openOrdinals = new int[16];
+		NodeTraversor.traverse(new NodeVisitor()
+		{
+			private int count = 0;
+
+			private int[] open = openOrdinals;
+
+			public void head(Node node, int depth)
+			{
+				if (node instanceof TextNode)
+				{
+					TextNode textNode = (TextNode) node;
+					if (node instanceof CDataNode || preservesWhitespace(textNode.parent()))
+					{
+						accum.append(textNode.getWholeText());
+					}
+					else
+					{
+						StringUtil.appendNormalisedWhitespace(accum, textNode.getWholeText(),
+								endsWithSpace(accum));
+					}
+				}
+				else if (node instanceof Element)
+				{
+					Element element = (Element) node;
+					if (depth == open.length)
+					{
+						open = Arrays.copyOf(open, depth * 2);
+					}
+					open[depth] = count;
+					textStarts[count] = accum.length();
+					count++;
+					if (accum.length() > 0 && (element.isBlock() || element.normalName().equals("br"))
+							&& !endsWithSpace(accum))
+					{
+						accum.append(' ');
+					}
+				}
+			}
+
+			public void tail(Node node, int depth)
+			{
+				if (node instanceof Element)
+				{
+					if (((Element) node).isBlock() && node.nextSibling() instanceof TextNode
+							&& !endsWithSpace(accum))
+					{
+						accum.append(' ');
+					}
+					int ordinal = open[depth];
+					// trim the text the same way as String.trim()
+					int start = textStarts[ordinal];
+					int end = accum.length();
+					while (start < end && accum.charAt(start) <= ' ')
+					{
+						start++;
+					}
+					while (end > start && accum.charAt(end - 1) <= ' ')
+					{
+						end--;
+					}
+					textStarts[ordinal] = start;
+					textEnds[ordinal] = end;
+				}
+			}
+		}, root);
+		pageText = accum.toString();
+	}
+
+	/**
+	 * Checks if whitespace is kept in the text under an element, which is the
+	 * case if it or one of its five closest ancestors is a tag such as pre.
+	 * @param parent the parent of the text
+	 * @return true if the whitespace is kept, otherwise false
+	 */
+	private static boolean preservesWhitespace(Node parent)
+	{
+		if (!(parent instanceof Element))
+		{
+			return false;
+		}
+		Element element = (Element) parent;
+		for (int i = 0; i < 6 && element != null; i++)
+		{
+			if (element.tag().preserveWhitespace())
+			{
+				return true;
+			}
+			element = element.parent();
+		}
+		return false;
+	}
+
+	/**
+	 * Checks if text written so far ends with a space.
+	 * @param accum the text written so far
+	 * @return true if the last character is a space, otherwise false
+	 */
+	private static boolean endsWithSpace(StringBuilder accum)
+	{
+		return accum.length() > 0 && accum.charAt(accum.length() - 1) == ' ';
+	}
+
+	/**
+	 * Retrieves the text of an element, the same as Element.text().
+	 * @param element the element
+	 * @return the element's text
+	 */
+	public String getText(Element element)
+	{
+		int ordinal = orderIndex.ordinalOf(element);
+		// element is not from this page, so it can't be saved
+		if (ordinal < 0)
+		{
+			return element.text();
+		}
+		if (texts[ordinal] == null)
+		{
+			texts[ordinal] = pageText.substring(textStarts[ordinal], textEnds[ordinal]);
+		}
+		return texts[ordinal];
+	}
+
+	/**
+	 * Retrieves the text of an element in lower case.
+	 * @param element the element
+	 * @return the element's text in lower case
+	 */
+	public String getLowerCaseText(Element element)
+	{
+		int ordinal = orderIndex.ordinalOf(element);
+		if (ordinal < 0)
+		{
+			return element.text().toLowerCase();
+		}
+		if (lowerCaseTexts[ordinal] == null)
+		{
+			if (pageLowerCaseText != null)
+			{
+				lowerCaseTexts[ordinal] = pageLowerCaseText.substring(textStarts[ordinal], textEnds[ordinal]);
+			}
+			else
+			{
+				lowerCaseTexts[ordinal] = getText(element).toLowerCase();
+			}
+		}
+		return lowerCaseTexts[ordinal];
+	}
+
+	/**
+	 * Retrieves the length of an element's text, without building the text.
+	 * @param element the element
+	 * @return the number of characters in the element's text
+	 */
+	public int getLength(Element element)
+	{
+		int ordinal = orderIndex.ordinalOf(element);
+		if (ordinal < 0)
+		{
+			return element.text().length();
+		}
+		return textEnds[ordinal] - textStarts[ordinal];
+	}
+
+	/**
+	 * Retrieves the features that have one of their frequent words in an
+	 * element's lower case text. The text is only scanned the first time.
+	 * @param element the element
+	 * @return the feature bits from FrequentWords
+	 */
+	public int getWordFeatures(Element element)
+	{
+		int ordinal = orderIndex.ordinalOf(element);
+		if (ordinal < 0)
+		{
+			return FrequentWords.scan(getLowerCaseText(element));
+		}
+		if (wordFeatures[ordinal] < 0)
+		{
+			wordFeatures[ordinal] = FrequentWords.scan(getLowerCaseText(element));
+		}
+		return wordFeatures[ordinal];
+	}
+}
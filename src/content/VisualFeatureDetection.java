@@ -1,16 +1,11 @@
 package content;
 
-import java.awt.Color;
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Scanner;
 
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
-import org.jsoup.safety.Whitelist;
 import org.jsoup.select.Elements;
 
 /**
@@ -39,6 +34,12 @@ public class VisualFeatureDetection
 	 */
 	protected Document doc;
 
+	/**
+	 * An instance variable containing the analysis context of the parsed page.
+	 * It is shared by every feature check so the page is only parsed once.
+	 */
+	protected PageContext context;
+
 	/**
 	 * An instance variable that contains the default pixel size for the body of
 	 * HTML files.
@@ -62,23 +63,141 @@ public class VisualFeatureDetection
 	{ "p", "h1", "h2", "h3", "h4", "h5", "h6" };
 
 	/**
-	 * An instance variable that will contain all the HTML color names.
+	 * An instance variable that contains the text length window of the title.
+	 * The text must be longer than the first value and shorter than the second.
+	 */
+	protected final int[] TITLELENGTH =
+	{ 8, 50 };
+
+	/**
+	 * An instance variable that contains the text length window of the publication date.
+	 * The text must be longer than the first value and shorter than the second.
+	 */
+	protected final int[] PUBLICATIONDATELENGTH =
+	{ 0, 19 };
+
+	/**
+	 * An instance variable that contains the text length window of the author.
+	 * The text must be longer than the first value and shorter than the second.
+	 */
+	protected final int[] AUTHORLENGTH =
+	{ 3, 25 };
+
+	/**
+	 * An instance variable that contains the text length window of the comment link.
+	 * The text must be longer than the first value and shorter than the second.
+	 */
+	protected final int[] COMMENTLINKLENGTH =
+	{ 6, 15 };
+
+	/**
+	 * An instance variable that contains the text length window of the source.
+	 * The text must be longer than the first value and shorter than the second.
+	 */
+	protected final int[] SOURCELENGTH =
+	{ 4, 25 };
+
+	/**
+	 * An instance variable that contains the text length window of the content.
+	 * The text must be longer than the first value and shorter than the second.
+	 */
+	protected final int[] CONTENTLENGTH =
+	{ 20, 2000000000 };
+
+	/**
+	 * An instance variable that contains the text length window of the category.
+	 * The text must be longer than the first value and shorter than the second.
+	 */
+	protected final int[] CATEGORYLENGTH =
+	{ 8, 30 };
+
+	/**
+	 * An instance variable that contains the font colors of the title: black
+	 * and blue.
+	 */
+	protected final int[] TITLECOLORS =
+	{ 0x000000, 0x0000FF };
+
+	/**
+	 * An instance variable that contains the font colors of the publication
+	 * date: black, blue, and gray.
+	 */
+	protected final int[] PUBLICATIONDATECOLORS =
+	{ 0x000000, 0x0000FF, 0x808080 };
+
+	/**
+	 * An instance variable that contains the font colors of the source: black,
+	 * gray, and brown.
+	 */
+	protected final int[] SOURCECOLORS =
+	{ 0x000000, 0x808080, 0xA52A2A };
+
+	/**
+	 * An instance variable that contains the font colors of the content:
+	 * black.
+	 */
+	protected final int[] CONTENTCOLORS =
+	{ 0x000000 };
+
+	/**
+	 * An instance variable that contains the font colors of the related news
+	 * links: black and blue.
+	 */
+	protected final int[] RELATEDNEWSCOLORS =
+	{ 0x000000, 0x0000FF };
+
+	/**
+	 * Constant for the bit of the feature mask that is set when the article
+	 * author exists.
+	 */
+	public static final int AUTHORFEATURE = 1;
+
+	/**
+	 * Constant for the bit of the feature mask that is set when the article
+	 * category exists.
 	 */
-	protected ArrayList<String> htmlColorNames;
+	public static final int CATEGORYFEATURE = 2;
 
 	/**
-	 * An instance variable that will contain all the HTML color hex values,
-	 * where the index of each hex value corresponds with the color names in the
-	 * ArrayList htmlColorNames.
+	 * Constant for the bit of the feature mask that is set when the article
+	 * comment link exists.
 	 */
-	protected ArrayList<String> htmlColorHex;
+	public static final int COMMENTLINKFEATURE = 4;
 
 	/**
-	 * An instance variable that contains each month of the year as an
-	 * abbreviation.
+	 * Constant for the bit of the feature mask that is set when the article
+	 * content exists.
 	 */
-	protected final String[] MONTHABBR =
-	{ "Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec" };
+	public static final int CONTENTFEATURE = 8;
+
+	/**
+	 * Constant for the bit of the feature mask that is set when the article
+	 * publication date exists.
+	 */
+	public static final int PUBLICATIONDATEFEATURE = 16;
+
+	/**
+	 * Constant for the bit of the feature mask that is set when the article
+	 * related news links exist.
+	 */
+	public static final int RELATEDNEWSLINKSFEATURE = 32;
+
+	/**
+	 * Constant for the bit of the feature mask that is set when the article
+	 * source exists.
+	 */
+	public static final int SOURCEFEATURE = 64;
+
+	/**
+	 * Constant for the bit of the feature mask that is set when the article
+	 * title exists.
+	 */
+	public static final int TITLEFEATURE = 128;
+
+	/**
+	 * Constant for the feature mask with all eight features set.
+	 */
+	public static final int ALLFEATURES = 255;
 
 	/**
 	 * Constructor for class that will immediately update the DOM tree from file
@@ -87,20 +206,33 @@ public class VisualFeatureDetection
 	 */
 	public VisualFeatureDetection(String path)
 	{
+		// setting the path also parses the file into the DOM tree
 		setFilePath(path);
-		updateDOMTree();
-		htmlColorNames = new ArrayList<String>();
-		htmlColorHex = new ArrayList<String>();
-		readHtmlColorNamesAndHex();
+	}
 
+	/**
+	 * Constructor for class that uses an HTML document that has already been
+	 * parsed, so no file is read or parsed.
+	 * @param document The parsed HTML as a JSoup Document
+	 */
+	public VisualFeatureDetection(Document document)
+	{
+		file = null;
+		doc = document;
+		context = new PageContext(document);
 	}
 
 	/**
 	 * Getter method for file path instance variable
-	 * @return value of file path variable
+	 * @return value of file path variable, or null if the page was not loaded
+	 *         from a file
 	 */
 	public String getFilePath()
 	{
+		if (file == null)
+		{
+			return null;
+		}
 		return file.getPath();
 	}
 
@@ -125,43 +257,31 @@ public class VisualFeatureDetection
 	}
 
 	/**
-	 * Updates the Document instance variable by loading the current File
-	 * instance variable into JSoup's parse method. This allows for the document
-	 * to be opened and the HTML to be parsed immediately by JSoup.
+	 * Getter method for the page's analysis context.
+	 * @return the PageContext of the current page
 	 */
-	protected void updateDOMTree()
+	public PageContext getContext()
 	{
-		try
-		{
-			doc = Jsoup.parse(file, CHARSET);
-		}
-		catch (IOException e)
-		{
-			e.printStackTrace();
-		}
+		return context;
 	}
 
 	/**
-	 * Initializes both the htmlColorNames and htmlColorHex ArrayLists with the
-	 * values from the colorsHTML.csv file.
+	 * Updates the Document instance variable by loading the current File
+	 * instance variable into JSoup's parse method. This allows for the document
+	 * to be opened and the HTML to be parsed immediately by JSoup. The page's
+	 * analysis context is replaced so nothing from the old page is reused.
 	 */
-	protected void readHtmlColorNamesAndHex()
+	protected void updateDOMTree()
 	{
 		try
 		{
-			Scanner csvReader = new Scanner(new File("data\\colorsHTML.csv"));
-			while (csvReader.hasNextLine())
-			{
-				String[] tokens = csvReader.nextLine().split(",");
-				htmlColorNames.add(tokens[0]);
-				htmlColorHex.add(tokens[1]);
-			}
-			csvReader.close();
+			doc = Jsoup.parse(file, CHARSET);
 		}
-		catch (FileNotFoundException e)
+		catch (IOException e)
 		{
 			e.printStackTrace();
 		}
+		context = new PageContext(doc);
 	}
 
 	/**
@@ -188,6 +308,99 @@ public class VisualFeatureDetection
 		return em * PIXELSIZE;
 	}
 
+	/**
+	 * Determines which of the eight article features exist by walking the text
+	 * elements only once. Each element is checked against the rules of every
+	 * feature that has not been found yet and whose text length window fits
+	 * the element, and a feature is no longer checked once an element passes
+	 * all of its rules. The text elements are collected by tag, so no element
+	 * is visited twice.
+	 * @return the feature mask, where the bit of each feature that exists is
+	 *         set (AUTHORFEATURE, CATEGORYFEATURE, etc.)
+	 */
+	public int articleFeatureMask()
+	{
+		return articleFeatureMask(ALLFEATURES);
+	}
+
+	/**
+	 * Determines which of the given article features exist by walking the
+	 * text elements only once, the same way as articleFeatureMask(). Features
+	 * that were not asked for are never checked, so one feature can be found
+	 * on its own without paying for the others.
+	 * @param features the features to check (AUTHORFEATURE, CATEGORYFEATURE,
+	 *            etc.)
+	 * @return the feature mask, where the bit of each feature that was asked
+	 *         for and exists is set
+	 */
+	public int articleFeatureMask(int features)
+	{
+		Elements allElements = getAllTextElements();
+		TextTable textTable = context.getTextTable();
+		// features that were not asked for are treated as already found
+		int found = ALLFEATURES & ~features;
+		int i = 0;
+		// stop early once every feature has been found
+		while (found != ALLFEATURES && i < allElements.size())
+		{
+			Element textSet = allElements.get(i);
+			int length = textTable.getLength(textSet);
+			if ((found & AUTHORFEATURE) == 0 && fitsLength(length, AUTHORLENGTH)
+					&& articleAuthorRulesMatch(textSet))
+			{
+				found |= AUTHORFEATURE;
+			}
+			if ((found & CATEGORYFEATURE) == 0 && fitsLength(length, CATEGORYLENGTH)
+					&& articleCategoryRulesMatch(textSet))
+			{
+				found |= CATEGORYFEATURE;
+			}
+			if ((found & COMMENTLINKFEATURE) == 0 && fitsLength(length, COMMENTLINKLENGTH)
+					&& articleCommentLinkRulesMatch(textSet))
+			{
+				found |= COMMENTLINKFEATURE;
+			}
+			if ((found & CONTENTFEATURE) == 0 && fitsLength(length, CONTENTLENGTH)
+					&& articleContentRulesMatch(textSet))
+			{
+				found |= CONTENTFEATURE;
+			}
+			if ((found & PUBLICATIONDATEFEATURE) == 0 && fitsLength(length, PUBLICATIONDATELENGTH)
+					&& articlePublicationDateRulesMatch(textSet))
+			{
+				found |= PUBLICATIONDATEFEATURE;
+			}
+			// related news links do not have a text length rule
+			if ((found & RELATEDNEWSLINKSFEATURE) == 0 && articleRelatedNewsLinksRulesMatch(textSet))
+			{
+				found |= RELATEDNEWSLINKSFEATURE;
+			}
+			if ((found & SOURCEFEATURE) == 0 && fitsLength(length, SOURCELENGTH)
+					&& articleSourceRulesMatch(textSet))
+			{
+				found |= SOURCEFEATURE;
+			}
+			if ((found & TITLEFEATURE) == 0 && fitsLength(length, TITLELENGTH)
+					&& articleTitleRulesMatch(textSet))
+			{
+				found |= TITLEFEATURE;
+			}
+			i++;
+		}
+		return found & features;
+	}
+
+	/**
+	 * Checks if a text length fits in a feature's text length window.
+	 * @param length the length of the text
+	 * @param window the feature's text length window
+	 * @return true if the length is inside the window, otherwise false
+	 */
+	private boolean fitsLength(int length, int[] window)
+	{
+		return length > window[0] && length < window[1];
+	}
+
 	/**
 	 * Method to determine if the title exists using 6 rules for each eligible
 	 * set of data. 1. Font size is between 15 and 45 px 2. Font color is black
@@ -199,44 +412,32 @@ public class VisualFeatureDetection
 	 */
 	public boolean articleTitleExists()
 	{
-		Elements allElements = getAllTextElements();
+		Elements allElements = getCandidateElements(TITLELENGTH);
 		boolean titleExists = false;
 		for (int i = 0; i < allElements.size(); i++)
 		{
-			// rule 1
-			if (articleTitleFontSizeDetection(allElements.get(i)))
+			if (articleTitleRulesMatch(allElements.get(i)))
 			{
-				// rule 2
-				if (articleTitleFontColorDetection(allElements.get(i)))
-				{
-					// rule 3
-					if (articleTitleTopHalfOfPageDetection(allElements.get(i)))
-					{
-						// rule 4
-						if (articleTitlePageDownDetection(allElements.get(i)))
-						{
-							// rule 5
-							if (articleTitleTextLengthDetection(allElements.get(i)))
-							{
-								// rule 6
-								if (articleTitleHyperLinkDetection(allElements.get(i)))
-								{
-									// all six rules were passed, so title
-									// exists. set flag to true and break out of
-									// loop
-									titleExists = true;
-									break;
-								}
-							}
-						}
-
-					}
-				}
+				// all rules were passed, so set flag to true and break out of
+				// loop
+				titleExists = true;
+				break;
 			}
 		}
 
 		return titleExists;
+	}
 
+	/**
+	 * Checks all of the title rules against a single element, stopping at the
+	 * first rule that fails. The rules are checked in the order kept by the
+	 * page's title rule chain.
+	 * @param textSet The current Element node to check
+	 * @return true if the element passes every rule, otherwise false
+	 */
+	protected boolean articleTitleRulesMatch(Element textSet)
+	{
+		return context.getRuleChain(ArticleRules.TITLE).matches(this, textSet);
 	}
 
 	/**
@@ -285,21 +486,20 @@ public class VisualFeatureDetection
 	 */
 	protected Elements getAllTextElements()
 	{
-		Elements allElements = new Elements();
-		// get all elements with paragraph tag
-		allElements.addAll(doc.getElementsByTag("p"));
-		// get all elements with a span tag
-		allElements.addAll(doc.getElementsByTag("span"));
-		// get all elements with a time tag
-		allElements.addAll(doc.getElementsByTag("time"));
-		// get all elements with div tags
-		allElements.addAll(doc.getElementsByTag("div"));
-		// get all elements with heading tags
-		for (int i = 1; i <= 6; i++)
-		{
-			allElements.addAll(doc.getElementsByTag("h" + i));
-		}
-		return allElements;
+		// the list is built once per page by the context
+		return context.getTextElements();
+	}
+
+	/**
+	 * Retrieves the text elements whose text length fits a feature's text
+	 * length window. Any element outside of the window would fail the
+	 * feature's text length rule, so it does not need to be checked.
+	 * @param window the feature's text length window
+	 * @return the candidate elements in the order of getAllTextElements()
+	 */
+	protected Elements getCandidateElements(int[] window)
+	{
+		return context.getTextLengthIndex().getCandidates(window[0], window[1]);
 	}
 
 	/**
@@ -314,10 +514,7 @@ public class VisualFeatureDetection
 	}
 
 	/**
-	 * Determines the font size of a given Element node. The font size can be
-	 * found in-line as a style attribute or as data under the style tag of the
-	 * HTML's head. Additionally, the font size can be defined as three
-	 * different measurement units: percentage, em, or pixels.
+	 * Determines if the font size of a given Element node is in a range.
 	 * @param textSet The current element node that has a paragraph or heading
 	 *            tag
 	 * @param min the minimum font size as a double
@@ -327,10 +524,54 @@ public class VisualFeatureDetection
 	 */
 	private boolean fontSizeDetection(Element textSet, double min, double max)
 	{
-		// get the style's element node form the HTML head
-		Elements headNode = doc.select("head");
-		// styleNode will be null if no CSS data was found in the HTML's head
-		Element styleNode = getHeadStyleSheet(headNode);
+		double size = getFontSize(textSet);
+		// check if font size is in range
+		if (size >= min && size <= max)
+		{
+			return true;
+		}
+		else
+		{
+			return false;
+		}
+	}
+
+	/**
+	 * Retrieves the font size of a given Element node from the page's computed
+	 * style cache. The size is only calculated the first time it is needed for
+	 * each element.
+	 * @param textSet The current element node
+	 * @return the font size in pixels as a double
+	 */
+	protected double getFontSize(Element textSet)
+	{
+		int ordinal = context.getDocumentOrderIndex().ordinalOf(textSet);
+		// elements that are not on this page are not cached
+		if (ordinal < 0)
+		{
+			return calculateFontSize(textSet);
+		}
+		ComputedStyleCache computed = context.getComputedStyleCache();
+		if (!computed.hasFontSize(ordinal))
+		{
+			computed.setFontSize(ordinal, calculateFontSize(textSet));
+		}
+		return computed.getFontSize(ordinal);
+	}
+
+	/**
+	 * Determines the font size of a given Element node. The font size can be
+	 * found in-line as a style attribute or as data under the style tag of the
+	 * HTML's head. Additionally, the font size can be defined as three
+	 * different measurement units: percentage, em, or pixels.
+	 * @param textSet The current element node that has a paragraph or heading
+	 *            tag
+	 * @return the font size in pixels as a double
+	 */
+	private double calculateFontSize(Element textSet)
+	{
+		// the head's CSS is only searched once for each tag
+		StyleSheetIndex styles = context.getStyleSheetIndex();
 
 		Element curElement = textSet;
 		// System.out.println("Element:\n" + curElement.toString());
@@ -338,34 +579,25 @@ public class VisualFeatureDetection
 		// check for in-line style attribute
 		if (curElement.hasAttr("style") && curElement.attr("style").contains("font-size"))
 		{
-			// tokenize to get the font size
-			String[] split = curElement.attr("style").split("font-size");
-			size = extractFontSizeFromTokens(split);
+			// the same in-line style is only read once per page
+			size = context.getCssValueCache(PIXELSIZE).getFontSize(curElement.attr("style"));
 		}
 		// check if style exists in head and if so, check to see if it has a
 		// font size attribute and the current text's tag (paragraph or heading)
 		// has values in the head's style.
-		else if ((styleNode != null) && styleNode.data().contains("font-size")
-				&& styleDataContainsAttributeForElement(curElement, styleNode.data(), "font-size"))
+		else if (styles.hasDeclaration(curElement.tagName(), "font-size"))
 		{
-			// tokenize to get the font size
-			String[] fontSizeStyle = doc.select("style").first().data().split("font-size");
-			// find the token with the HTML Tag (p, h1-h6, etc), and the
-			// font value is in the next token (i+1)
-			String[] onlyToken = new String[1];
-			for (int i = 0; i < fontSizeStyle.length; i++)
+			// the token after the tag's font-size has the font value
+			String declaration = styles.getDeclaration(curElement.tagName(), "font-size");
+			if (declaration != null)
 			{
-				// make sure the tag exists and the token is not the last in the
-				// array
-				if (styleDataContainsElement(curElement, fontSizeStyle[i]) && (i + 1) < fontSizeStyle.length)
-				{
-					// save token in separate variable
-					onlyToken[0] = fontSizeStyle[i + 1];
-					break;
-				}
+				size = context.getCssValueCache(PIXELSIZE).getFontSize(declaration);
+			}
+			else
+			{
+				// the value could not be found after the tag
+				size = -1.0;
 			}
-
-			size = extractFontSizeFromTokens(onlyToken);
 		}
 		// no style has been found
 		else
@@ -388,15 +620,7 @@ public class VisualFeatureDetection
 				}
 			}
 		}
-		// check if font size is in range
-		if (size >= min && size <= max)
-		{
-			return true;
-		}
-		else
-		{
-			return false;
-		}
+		return size;
 	}
 
 	/**
@@ -408,616 +632,124 @@ public class VisualFeatureDetection
 	 */
 	public Element getHeadStyleSheet(Elements headNode)
 	{
-		// variable will remain null if no CSS style is defined in the head
-		Element styleNode = null;
-		// get the tags under the head
-		for (int j = 0; j < headNode.size(); j++)
-		{
-			// check if the head node has any children
-			if (headNode.get(j).childNodeSize() > 0)
-			{
-				// check children for style tag
-				Elements children = headNode.get(j).children();
-				for (int k = 0; k < children.size(); k++)
-				{
-					if (children.get(k).tagName().equalsIgnoreCase("style"))
-					{
-						// style tag has been found, so save node for future
-						styleNode = children.get(k);
-					}
-				}
-			}
-		}
-		return styleNode;
+		return PageContext.findHeadStyleSheet(headNode);
 	}
 
 	/**
-	 * Extracts the font size in any measurable unit (em, percent, pixels).
-	 * @param tokens The tokens from a String.split("font-size") call.
-	 * @return the font size as a Double
+	 * Title detection rule #2: check to see if the Element's text is a black or
+	 * blue font color. It can be checked using HTML color codes, RGB/RGBA, and
+	 * HSL/HSLA. The color can also be found from in-line or style tags.
+	 * @param textSet the current Element node that is a paragraph or heading
+	 *            tag
+	 * @return true if the color is black or blue, false if another color
 	 */
-	private double extractFontSizeFromTokens(String[] tokens)
+	protected boolean articleTitleFontColorDetection(Element textSet)
 	{
-		String fontSize = "";
-		double size;
-		int splitIndex = -1;
-		// loop through each token
-		for (int k = 0; k < tokens.length; k++)
-		{
-			// find the token that contains one of the measurement units for
-			// font size
-			if (tokens[k].contains("em") || tokens[k].contains("%") || tokens[k].contains("px"))
-			{
-				splitIndex = k;
-				// System.out.println(tokens[k]);
-				try
-				{
-					// try to get 3 digits for size
-					fontSize = tokens[k].substring(1, 5);
-					// if any other non-number characters remain, try to get 2
-					// digits
-					if (fontSize.contains("p") || fontSize.contains("e") || fontSize.contains("%"))
-					{
-						fontSize = tokens[k].substring(1, 4);
-					}
-					if (fontSize.contains("p") || fontSize.contains("e") || fontSize.contains("%"))
-					{
-						fontSize = tokens[k].substring(1, 3);
-					}
-					if (fontSize.contains("p") || fontSize.contains("e") || fontSize.contains("r")
-							|| fontSize.contains("%"))
-					{
-						fontSize = tokens[k].substring(1, 2);
-					}
-				}
-				catch (Exception e)
-				{
-					// if getting 3 digits has a null pointer exception,
-					// get two digits
-					fontSize = tokens[k].substring(1, 4);
-				}
-			}
-		}
-		// trim down to get the correct size as a double if measured in em
-		if (splitIndex > -1 && tokens[splitIndex].contains("em"))
-		{
-			String trimmed = fontSize.trim();
-			// convert to double
-			try
-			{
-				size = calculateEmAsPixels(Double.parseDouble(((trimmed))));
-			}
-			catch (Exception e)
-			{
-				size = -1.0;
-			}
-		}
-		// trim down to get the correct size as a double if measured as
-		// percentage
-		else if (splitIndex > -1 && tokens[splitIndex].contains("%"))
-		{
-			String trimmed = fontSize.trim();
-			// convert to double
-			try
-			{
-				size = Double.parseDouble(((trimmed.substring(0, trimmed.length() - 2)))) / 100.0;
-			}
-			catch (Exception e)
-			{
-				size = -1.0;
-			}
-		}
-		else
-		{
-			// trim down assuming that it was pixels
-			String trimmed = fontSize.trim();
-			// if it still contains non-number characters, take the substring
-			// again
-			if (trimmed.length() != 0 && trimmed.charAt(trimmed.length() - 1) > '9')
-			{
-				trimmed = trimmed.substring(0, trimmed.length() - 1);
-			}
-			// convert from string to double
-			try
-			{
-				size = Double.parseDouble(((trimmed)));
-			}
-			catch (Exception e)
-			{
-				size = -1.0;
-			}
-		}
-		return size;
+		return fontColorDetection(textSet, TITLECOLORS);
 	}
 
 	/**
-	 * Checks for CSS styling inside of the head's style tag. The formatting is
-	 * usually tag {attribute: value;} or tag{attribute: value;}
-	 * @param current The current Element node
-	 * @param data The style data as a String
-	 * @return true if the tag exists in the styling, false if the tag does not
-	 *         exist
+	 * To detect the font color of a given Element, the style information is
+	 * pulled from in-line attributes and the head's CSS information.
+	 * @param textSet The current Element node
+	 * @param colors The list of colors to check for, as packed RGB ints
+	 * @return true if the color from the HTML matches one of the colors listed,
+	 *         else false
 	 */
-	private boolean styleDataContainsElement(Element current, String data)
+	private boolean fontColorDetection(Element textSet, int[] colors)
 	{
-		boolean result = false;
-		// get the tag name (p, h1-h6, etc.)
-		String curTag = current.tagName();
-		// check if it is in the format tag { or tag{
-		if (data.contains(curTag + " {") || data.contains(curTag + "{"))
-		{
-			result = true;
-		}
-
-		return result;
-	}
+		boolean detectFlag = false;
+		int fontColor = getFontColor(textSet);
 
-	/**
-	 * Checks for CSS styling inside of the head's style tag. The formatting is
-	 * usually tag {attribute: value;} or tag{attribute: value;}. Then, it
-	 * verifies that the tag has the correct attribute located on the same line.
-	 * @param current The current Element node
-	 * @param data The style data as a String
-	 * @param attribute The style attribute to find in the style data
-	 * @return true if
-	 */
-	private boolean styleDataContainsAttributeForElement(Element current, String data, String attribute)
-	{
-		boolean result = false;
-		// get the tag name (p, h1-h6, etc.)
-		String curTag = current.tagName();
-		// check if it is in the format tag { or tag{
-		if (data.contains(curTag + " {") || data.contains(curTag + "{"))
+		// check if color is black or blue
+		for (int i = 0; i < colors.length; i++)
 		{
-			// parse data using the ending curly brace '}'
-			String[] tokens = data.split("}");
-			for (int i = 0; i < tokens.length; i++)
+			if (checkColorInRange(colors[i], fontColor, 150))
 			{
-				// checks if the current token has the tag and attribute
-				if (tokens[i].contains(curTag) && tokens[i].contains(attribute))
-				{
-					result = true;
-					break;
-				}
+				detectFlag = true;
+				break;
 			}
 		}
 
-		return result;
+		return detectFlag;
 	}
 
 	/**
-	 * Title detection rule #2: check to see if the Element's text is a black or
-	 * blue font color. It can be checked using HTML color codes, RGB/RGBA, and
-	 * HSL/HSLA. The color can also be found from in-line or style tags.
-	 * @param textSet the current Element node that is a paragraph or heading
-	 *            tag
-	 * @return true if the color is black or blue, false if another color
+	 * Retrieves the font color of a given Element node from the page's
+	 * computed style cache. The color is only calculated the first time it is
+	 * needed for each element.
+	 * @param textSet The current Element node
+	 * @return the font color as a packed RGB int (0xRRGGBB)
 	 */
-	protected boolean articleTitleFontColorDetection(Element textSet)
+	protected int getFontColor(Element textSet)
 	{
-		Color[] titleColors = new Color[2];
-		titleColors[0] = Color.decode("#000000");
-		titleColors[1] = Color.decode("#0000FF");
-		return fontColorDetection(textSet, titleColors);
+		int ordinal = context.getDocumentOrderIndex().ordinalOf(textSet);
+		// elements that are not on this page are not cached
+		if (ordinal < 0)
+		{
+			return calculateFontColor(textSet);
+		}
+		ComputedStyleCache computed = context.getComputedStyleCache();
+		if (!computed.hasFontColor(ordinal))
+		{
+			computed.setFontColor(ordinal, calculateFontColor(textSet));
+		}
+		return computed.getFontColor(ordinal);
 	}
 
 	/**
-	 * To detect the font color of a given Element, the style information is
+	 * To find the font color of a given Element, the style information is
 	 * pulled from in-line attributes and the head's CSS information.
 	 * @param textSet The current Element node
-	 * @param colors The list of colors to check for
-	 * @return true if the color from the HTML matches one of the colors listed,
-	 *         else false
+	 * @return the font color as a packed RGB int (0xRRGGBB), which is black if
+	 *         no color is set
 	 */
-	private boolean fontColorDetection(Element textSet, Color[] colors)
+	private int calculateFontColor(Element textSet)
 	{
-		boolean detectFlag = false;
-
-		// get the style's element node form the HTML head
-		Elements headNode = doc.select("head");
-
-		// styleNode will be null if no CSS data was found in the HTML's head
-		Element styleNode = getHeadStyleSheet(headNode);
+		// the head's CSS is only searched once for each tag
+		StyleSheetIndex styles = context.getStyleSheetIndex();
 		Element curElement = textSet;
 
-		Color fontColor = null;
+		int fontColor = CssValueParser.NOCOLOR;
 		// check for in-line style attribute
 		if (curElement.hasAttr("style") && curElement.attr("style").contains("color"))
 		{
-			// tokenize to get the font color
-			String[] split = curElement.attr("style").split("color");
-			fontColor = extractColorFromTokens(split);
+			// the same in-line style is only read once per page
+			fontColor = context.getCssValueCache(PIXELSIZE).getColor(curElement.attr("style"));
 		}
 		// check if style exists in head and if so, check to see if it has a
 		// color attribute and the current text's tag (paragraph or heading)
-		// has values in the head's style.
-		else if ((styleNode != null) && styleNode.data().contains("color")
-				&& styleDataContainsAttributeForElement(curElement, styleNode.data(), "color"))
-		{
-			// tokenize to get the font size
-			String[] split = doc.select("style").first().data().split("color");
-
-			// find the token with the HTML Tag (p, h1-h6, etc), and the
-			// font value is in the next token (i+1)
-			String[] onlyToken = new String[1];
-			for (int i = 0; i < split.length; i++)
-			{
-				// make sure the tag exists and the token is not the last in the
-				// array
-				if (styleDataContainsElement(curElement, split[i]) && (i + 1) < split.length)
-				{
-					// save token in separate variable
-					onlyToken[0] = split[i + 1];
-					break;
-				}
-			}
-			fontColor = extractColorFromTokens(onlyToken);
-		}
-
-		if (fontColor == null)
-		{
-			// no style has been found so default color is black - rgb(0,0,0)
-			fontColor = new Color(0, 0, 0);
-		}
-
-		// check if color is black or blue
-		for (int i = 0; i < colors.length; i++)
+		// has values in the head's style.
+		else if (styles.hasDeclaration(curElement.tagName(), "color"))
 		{
-			if (checkColorInRange(colors[i], fontColor, 150))
+			// the token after the tag's color has the font value
+			String declaration = styles.getDeclaration(curElement.tagName(), "color");
+			if (declaration != null)
 			{
-				detectFlag = true;
-				break;
+				fontColor = context.getCssValueCache(PIXELSIZE).getColor(declaration);
 			}
 		}
 
-		return detectFlag;
-	}
-
-	/**
-	 * Extracts the color (as a color code, hex, RGB, etc.) from the HTML.
-	 * @param tokens The parsed strings of HTML where the color information is
-	 *            stored.
-	 * @return the color as a Color object
-	 */
-	private Color extractColorFromTokens(String[] tokens)
-	{
-		Color color = null;
-		for (int i = 0; i < tokens.length; i++)
+		if (fontColor == CssValueParser.NOCOLOR)
 		{
-			// makes sure that the color attribute was not cut off
-			// from another attribute containing the word color
-			// (example: background-color)
-			if (tokens[i] != null && !tokens[i].endsWith("-"))
-			{
-				// # character starts the hex color code
-				if (tokens[i].contains("#"))
-				{
-					// get the index of where # is
-					int index = tokens[i].indexOf("#");
-					String hex = "";
-					// run until the the end of the string is reached, the
-					// character is ';', ')', or '"'
-					while ((index < tokens[i].length()) && tokens[i].charAt(index) != ';'
-							&& tokens[i].charAt(index) != ')' && tokens[i].charAt(index) != '\"'
-							&& tokens[i].charAt(index) != '}')
-					{
-						// concatenate characters together
-						hex = hex + tokens[i].charAt(index);
-						index++;
-					}
-					// if the hex code is # and three characters,
-					// make it the full length of 7 characters
-					if (hex.length() == 4)
-					{
-						String temp = "#";
-						for (int j = 1; j < hex.length(); j++)
-						{
-							temp = temp + hex.charAt(j) + hex.charAt(j);
-						}
-						hex = temp;
-					}
-					// store color from hex value
-					color = Color.decode(hex);
-				}
-				// rgba( defines the start of the rgba values
-				else if (tokens[i].contains("rgba"))
-				{
-					// skip characters 'r', 'g', 'b', 'a', and '('
-					int index = tokens[i].indexOf("rgba") + 5;
-					int red = 0;
-					int green = 0;
-					int blue = 0;
-					int count = 1;
-					String num = "";
-					// run until the the end of the string is reached, the count
-					// is 3, the character is ';', ')', or '"'
-					while ((index < tokens[i].length()) && tokens[i].charAt(index) != ';'
-							&& tokens[i].charAt(index) != ')' && tokens[i].charAt(index) != '\"' && count <= 3)
-					{
-						if (tokens[i].charAt(index) == ',')
-						{
-							// the entire number has been retrieved if a comma
-							// was reached
-							if (count == 1)
-							{
-								// 1 - store in red as int
-								red = Integer.parseInt(num.trim());
-								num = "";
-							}
-							if (count == 2)
-							{
-								// 2 - store in green as int
-								green = Integer.parseInt(num.trim());
-								num = "";
-							}
-							if (count == 3)
-							{
-								// 3 - store in blue as int
-								blue = Integer.parseInt(num.trim());
-								num = "";
-							}
-							count++;
-						}
-						else
-						{
-							// concatenate numbers into a string
-							num = num + tokens[i].charAt(index);
-						}
-						index++;
-					}
-					// store color using RGB
-					color = new Color(red, green, blue);
-
-				}
-				// rgb( defines the start of the rgb values
-				else if (tokens[i].contains("rgb"))
-				{
-					// skip characters 'r', 'g', 'b', and '('
-					int index = tokens[i].indexOf("rgb") + 4;
-					int red = 0;
-					int green = 0;
-					int blue = 0;
-					int count = 1;
-					String num = "";
-					// run until the the end of the string is reached, the count
-					// is 3, the character is ';', ')', or '"'
-					while ((index < tokens[i].length()) && tokens[i].charAt(index) != ';'
-							&& tokens[i].charAt(index) != ')' && tokens[i].charAt(index) != '\"' && count <= 3)
-					{
-						if (tokens[i].charAt(index) == ',' || (count == 3 && tokens[i].charAt(index + 1) <= '9'
-								&& tokens[i].charAt(index + 1) >= '0'))
-						{
-							// a number is read if it a comma is reached or if
-							// the next character is not a number
-							if (count == 1 && !num.equals(""))
-							{
-								// store in red as int
-								red = Integer.parseInt(num.trim());
-								num = "";
-							}
-							if (count == 2 && !num.equals(""))
-							{
-								// store in green as int
-								green = Integer.parseInt(num.trim());
-								num = "";
-							}
-							if (count == 3 && !num.equals(""))
-							{
-								// store in blue as int
-								blue = Integer.parseInt(num.trim());
-								num = "";
-							}
-							count++;
-						}
-						else
-						{
-							// concatenate numbers into a string
-							num = num + tokens[i].charAt(index);
-						}
-						index++;
-					}
-					// store color as RGB
-					color = new Color(red, green, blue);
-				}
-				// hsla( defines the start of the hsla values
-				else if (tokens[i].contains("hsla"))
-				{
-					// skip characters 'h', 's', 'l', 'a', and '('
-					int index = tokens[i].indexOf("hsla") + 5;
-					float hue = 0;
-					float saturation = 0;
-					float lightness = 0;
-					int count = 1;
-					String num = "";
-					// run until the the end of the string is reached, the count
-					// is 3, the character is ';', ')', or '"'
-					while ((index < tokens[i].length()) && tokens[i].charAt(index) != ';'
-							&& tokens[i].charAt(index) != ')' && tokens[i].charAt(index) != '\"' && count <= 3)
-					{
-						if (tokens[i].charAt(index) == ',' || (count == 3 && (tokens[i].charAt(index + 1) == '%'
-								|| (tokens[i].charAt(index + 1) <= '9' && tokens[i].charAt(index + 1) >= '0'))))
-						{
-							// the entire number has been retrieved if a comma
-							// was reached, or if the count is 3 and:
-							// 1. next character is '%' or 2. next character is
-							// a number
-							if (count == 1)
-							{
-								// store hue as a float
-								hue = Float.parseFloat(num.trim());
-								num = "";
-							}
-							if (count == 2)
-							{
-								// store saturation as a float, removing percent
-								// sign and diving it by 100
-								saturation = (Float.parseFloat(num.trim().substring(0, num.length() - 1)) / 100);
-								num = "";
-							}
-							if (count == 3)
-							{
-								// store brightness as a float, removing percent
-								// sign and diving it by 100
-								lightness = (Float.parseFloat(num.trim().substring(0, num.length() - 1)) / 100);
-								num = "";
-							}
-							count++;
-						}
-						else
-						{
-							// concatenate the string of numbers
-							num = num + tokens[i].charAt(index);
-						}
-						index++;
-					}
-					color = new Color(Color.HSBtoRGB(hue, saturation, lightness));
-				}
-				// hsl( defines the start of the hsl values
-				else if (tokens[i].contains("hsl"))
-				{
-					// skip characters 'h', 's', 'l', and '('
-					int index = tokens[i].indexOf("hsl") + 4;
-					float hue = 0;
-					float saturation = 0;
-					float lightness = 0;
-					int count = 1;
-					String num = "";
-					// run until the the end of the string is reached, the count
-					// is 3, the character is ';', ')', or '"'
-					while ((index < tokens[i].length()) && tokens[i].charAt(index) != ';'
-							&& tokens[i].charAt(index) != ')' && tokens[i].charAt(index) != '\"' && count <= 3)
-					{
-						if (tokens[i].charAt(index) == ',')
-						{
-							if (count == 1)
-							{
-								// store hue as a float
-								hue = Float.parseFloat(num.trim());
-								num = "";
-							}
-							if (count == 2)
-							{
-								// store saturation as a float, removing the %
-								// sign and dividing by 100
-								saturation = (Float.parseFloat(num.trim().substring(0, num.length() - 1)) / 100);
-								num = "";
-							}
-							if (count == 3)
-							{
-								// store brightness as a float, removing the %
-								// sign and dividing by 100
-								lightness = (Float.parseFloat(num.trim().substring(0, num.length() - 1)) / 100);
-								num = "";
-							}
-							count++;
-						}
-						else
-						{
-							// concatenate the string of numbers
-							num = num + tokens[i].charAt(index);
-						}
-						index++;
-					}
-					// store color as HSL
-					color = new Color(Color.HSBtoRGB(hue, saturation, lightness));
-				}
-				// pre-defined color as text i.e. red, blue, black, etc.
-				else
-				{
-					String colorName = "";
-					// skip the ':' character
-					int index = 1;
-					// run until the the end of the string is reached or the
-					// character is ';', '}', or '"'
-					while ((index < tokens[i].length()) && tokens[i].charAt(index) != ';'
-							&& tokens[i].charAt(index) != '}' && tokens[i].charAt(index) != '\"')
-					{
-						// concatenate each letter of the color
-						colorName = colorName + tokens[i].charAt(index);
-						index++;
-					}
-					if (colorName != null && !colorName.isEmpty())
-					{
-						// search for the color name from the list of HTML
-						// colors
-						// then retrieve the color's hex code from the second
-						// list
-						colorName = colorName.trim();
-						for (int j = 0; j < htmlColorNames.size(); j++)
-						{
-							if (htmlColorNames.get(j).equalsIgnoreCase(colorName))
-							{
-								// store color from hex code
-								color = Color.decode(htmlColorHex.get(j));
-								break;
-							}
-						}
-					}
-				}
-				// exist early once color is found
-				if (color != null)
-				{
-					break;
-				}
-			}
+			// no style has been found so default color is black - rgb(0,0,0)
+			return PackedColor.BLACK;
 		}
-		return color;
+		return fontColor;
 	}
 
 	/**
-	 * Checks to see if a color is similar to a baseline.
+	 * Checks to see if a color is similar to a baseline, where both colors are
+	 * packed RGB ints (0xRRGGBB).
 	 * @param baseline The color that determines what the test should be like
 	 * @param test The color to be tested against the baseline
 	 * @param threshold The level of deviation from the baseline from 0 to 765
 	 * @return true if color is in threshold, false if color is outside
 	 *         threshold
 	 */
-	protected boolean checkColorInRange(Color baseline, Color test, int threshold)
+	protected boolean checkColorInRange(int baseline, int test, int threshold)
 	{
-		boolean inRangeFlag = false;
-		// check if baseline is black
-		if (baseline.getRed() == 0 && baseline.getGreen() == 0 && baseline.getBlue() == 0)
-		{
-			// check test color to see if it is also black
-			if (test.getRed() == 0 && test.getGreen() == 0 && test.getBlue() == 0)
-			{
-				inRangeFlag = true;
-			}
-		}
-		// baseline color is not black
-		else
-		{
-			// make sure threshold is between 0 and 765
-			int level;
-			if (threshold > 765)
-			{
-				// threshold > 765, so set to max of 765
-				level = 765;
-			}
-			else if (threshold < 0)
-			{
-				// threshold is negative, so set to minimum of 0
-				level = 0;
-			}
-			else
-			{
-				// threshold in range, so keep value
-				level = threshold;
-			}
-
-			// calculate the difference in each color (RGB)
-			int red = Math.abs(baseline.getRed() - test.getRed());
-			int green = Math.abs(baseline.getGreen() - test.getGreen());
-			int blue = Math.abs(baseline.getBlue() - test.getBlue());
-			// check that the difference delta is less than the threshold level
-			if ((red + green + blue) <= level)
-			{
-				// if less than threshold, set to true
-				inRangeFlag = true;
-			}
-
-		}
-		return inRangeFlag;
+		return PackedColor.inRange(baseline, test, threshold);
 	}
 
 	/**
@@ -1041,42 +773,9 @@ public class VisualFeatureDetection
 	 */
 	private boolean topHalfOfPageDetection(Element testSet)
 	{
-		// select all element nodes under the body
-		Elements domTree = doc.body().children().select("*");
-		// get the total number of nodes
-		int treeSize = domTree.size();
-		int nodeIndex = -1;
-		int i = 0;
-		// loops until the given node's index is found or the end of the tree is
-		// reached
-		while (nodeIndex == -1 && i < domTree.size())
-		{
-			// the given node was found in the tree
-			if (domTree.get(i).equals(testSet))
-			{
-				// save the node's index
-				nodeIndex = i;
-			}
-			else
-			{
-				// increment if the node's location was not found
-				i++;
-			}
-		}
-
-		// calculate percentage
-		double result = ((double) nodeIndex) / ((double) treeSize);
-
-		if (result < 0.5)
-		{
-			// return true if < 50%
-			return true;
-		}
-		else
-		{
-			// return false if >= 50%
-			return false;
-		}
+		// the node's location and the total number of nodes come from the
+		// document order index, which is only built once per page
+		return context.getDocumentOrderIndex().isInTopHalfOfBody(testSet);
 	}
 
 	/**
@@ -1101,44 +800,9 @@ public class VisualFeatureDetection
 	 */
 	private boolean pageDownDetection(Element textSet)
 	{
-		boolean pageDownFlag = false;
-
-		// array contains tags to be converted to new lines
-		String[] htmlTagsToConvert =
-		{ "br", "p", "h1", "h2", "h3", "h4", "h5", "h6", "div", "td", "li" };
-		// clone the DOM tree
-		Document clone = doc.clone();
-
-		// convert each tag to new line ('\n')
-		for (int i = 0; i < htmlTagsToConvert.length; i++)
-		{
-			clone.select(htmlTagsToConvert[i]).before("\\n");
-		}
-		String html = clone.body().html().replaceAll("\\\\n", "\n");
-		// run Jsoup's clean method to strip out all tags but keep new lines
-		String allText = Jsoup.clean(html, "", Whitelist.none(), new Document.OutputSettings().prettyPrint(false));
-		// convert entity tag &gt; to > (greater than symbol)
-		allText = allText.replaceAll("&gt;", ">");
-		// split text into tokens based on new line
-		String[] tokens = allText.split("\n");
-		// find which token has the current node's text and save that index
-		int index = -1;
-		for (int i = 0; i < tokens.length; i++)
-		{
-			if (tokens[i].contains(textSet.text()))
-			{
-				index = i;
-			}
-		}
-		// check to see if the node is in the first page of web page
-		// (by looking at whether there was less than 40 lines)
-		if (index > -1 && index <= 40)
-		{
-			// if true, set flag to false
-			pageDownFlag = true;
-		}
-
-		return pageDownFlag;
+		// the page is only rendered into lines once, then each element's text
+		// is looked up in the line index
+		return context.getVisualLineIndex().isVisibleWithoutPagingDown(context.getTextTable().getText(textSet));
 	}
 
 	/**
@@ -1150,7 +814,7 @@ public class VisualFeatureDetection
 	 */
 	protected boolean articleTitleTextLengthDetection(Element textSet)
 	{
-		return textLengthDetection(textSet, 8, 50);
+		return textLengthDetection(textSet, TITLELENGTH[0], TITLELENGTH[1]);
 	}
 
 	/**
@@ -1163,10 +827,10 @@ public class VisualFeatureDetection
 	private boolean textLengthDetection(Element textSet, int min, int max)
 	{
 		boolean lengthFlag = false;
-		// get the node's text without tags and attributes
-		String nodeText = textSet.text();
+		// get the length of the node's text without tags and attributes
+		int length = context.getTextTable().getLength(textSet);
 		// check if the text's length falls in range
-		if (nodeText.length() > min && nodeText.length() < max)
+		if (length > min && length < max)
 		{
 			// true, so set flag
 			lengthFlag = true;
@@ -1193,58 +857,9 @@ public class VisualFeatureDetection
 	 */
 	private boolean hyperLinkDetection(Element textSet)
 	{
-		boolean linkFlag = true;
-		// get all nodes that contain a link (a tag)
-		Elements hyperlinkNodes = doc.getElementsByTag("a");
-		// get all parent nodes up to root from current element to check if any
-		// surround nodes are links
-		Elements parentNodes = textSet.parents();
-		// get all children nodes from current element to check if any children
-		// are links
-		Elements childNodes = textSet.children();
-		// outer loop: loop through all nodes containing links
-		for (int i = 0; i < hyperlinkNodes.size(); i++)
-		{
-			// inner loop #1: loop through all parent nodes
-			for (int j = 0; j < parentNodes.size(); j++)
-			{
-				// checks if any parent nodes match the current node containing
-				// a link
-				if (parentNodes.get(j).equals(hyperlinkNodes.get(i)))
-				{
-					// if the nodes match, set flag to true and break from inner
-					// loop
-					linkFlag = false;
-					break;
-				}
-			}
-			// check if flag is true from previous loop
-			if (linkFlag == false)
-			{
-				// if flag is true, break from outer loop
-				break;
-			}
-			// inner loop #2: loop through all children nodes
-			for (int j = 0; j < childNodes.size(); j++)
-			{
-				// checks if any child nodes match the current node containing a
-				// link
-				if (childNodes.get(j).equals(hyperlinkNodes.get(i)))
-				{
-					// if the nodes match, set flag to true and break from inner
-					// loop
-					linkFlag = false;
-					break;
-				}
-			}
-			// check if flag is true from previous loop
-			if (linkFlag == false)
-			{
-				// if flag is true, break from outer loop
-				break;
-			}
-		}
-		return linkFlag;
+		// the anchor index records whether any parent node or child node is a
+		// link, so it only has to be checked once per element
+		return !context.getAnchorIndex().isHyperLinked(textSet);
 	}
 
 	/**
@@ -1257,39 +872,33 @@ public class VisualFeatureDetection
 	 */
 	public boolean articlePublicationDateExists()
 	{
-		Elements allElements = getAllTextElements();
+		Elements allElements = getCandidateElements(PUBLICATIONDATELENGTH);
 		boolean pubDateExists = false;
 		for (int i = 0; i < allElements.size(); i++)
 		{
-			// rule 1
-			if (articlePublicationDateFontSizeDetection(allElements.get(i)))
+			if (articlePublicationDateRulesMatch(allElements.get(i)))
 			{
-				// rule 2
-				if (articlePublicationDateFontColorDetection(allElements.get(i)))
-				{
-					// rule 3
-					if (articlePublicationDateTextLengthDetection(allElements.get(i)))
-					{
-						// rule 4
-						if (articlePublicationDateFormatDetection(allElements.get(i)))
-						{
-							// rule 5
-							if (articlePublicationDateHyperLinkDetection(allElements.get(i)))
-							{
-								// all five rules were passed, so date exists.
-								// set flag to true and break out of loop
-								pubDateExists = true;
-								break;
-							}
-						}
-					}
-				}
+				// all rules were passed, so set flag to true and break out of
+				// loop
+				pubDateExists = true;
+				break;
 			}
 		}
 
 		return pubDateExists;
 	}
 
+	/**
+	 * Checks all of the publication date rules against a single element,
+	 * stopping at the first rule that fails.
+	 * @param textSet The current Element node to check
+	 * @return true if the element passes every rule, otherwise false
+	 */
+	protected boolean articlePublicationDateRulesMatch(Element textSet)
+	{
+		return context.getRuleChain(ArticleRules.PUBLICATIONDATE).matches(this, textSet);
+	}
+
 	/**
 	 * Checks each element of HTML for the article publication date.
 	 */
@@ -1347,11 +956,7 @@ public class VisualFeatureDetection
 	 */
 	protected boolean articlePublicationDateFontColorDetection(Element textSet)
 	{
-		Color[] dateColors = new Color[3];
-		dateColors[0] = Color.decode("#000000");
-		dateColors[1] = Color.decode("#0000FF");
-		dateColors[2] = Color.decode("#808080");
-		return fontColorDetection(textSet, dateColors);
+		return fontColorDetection(textSet, PUBLICATIONDATECOLORS);
 	}
 
 	/**
@@ -1362,196 +967,27 @@ public class VisualFeatureDetection
 	 */
 	protected boolean articlePublicationDateTextLengthDetection(Element textSet)
 	{
-		return textLengthDetection(textSet, 0, 19);
+		return textLengthDetection(textSet, PUBLICATIONDATELENGTH[0], PUBLICATIONDATELENGTH[1]);
 	}
 
 	/**
 	 * Date detection rule #3: see if the Element's text is formatted as a date.
-	 * This method can detect numerical date values (ie. mm/dd/yyyy) and dates
-	 * written out as text (ie. month dd, yyyy).
+	 * This method can detect numerical date values (ie. mm/dd/yyyy or
+	 * yyyy-mm-dd), timestamps, and dates written out as text (ie. month dd,
+	 * yyyy or dd month). A time tag is also checked using its datetime
+	 * attribute.
 	 * @param textSet The current Element node
 	 * @return true if the Element's text matches one of the date formats,
 	 *         otherwise false
 	 */
 	protected boolean articlePublicationDateFormatDetection(Element textSet)
 	{
-		boolean dateFlag = false;
-		// save text from Element node
-		String text = textSet.text().trim();
-		int loc = -1;
-		// see if text contains one of the months as an abbreviation
-		for (int i = 0; i < MONTHABBR.length; i++)
-		{
-			if (text.contains(MONTHABBR[i]))
-			{
-				// text contains a month, store the index of where the month
-				// starts
-				loc = text.indexOf(MONTHABBR[i]);
-				break;
-			}
-		}
-		// month found (index variable, loc, is set to 0 or above)
-		if (loc > -1)
-		{
-			// the date does not come before the month
-			if (checkForDayBeforeMonth(text, loc))
-			{
-				// format: dd month (may have yyyy)
-				dateFlag = true;
-			}
-			else
-			{
-				for (int i = loc; i < text.length(); i++)
-				{
-					if (text.charAt(i) == ' ')
-					{
-						// month dd, yyyy - check next 8 characters for format
-						if (i + 8 < text.length())
-						{
-							if (text.charAt(i + 1) >= '0' && text.charAt(i + 1) <= '9')
-							{
-								if (text.charAt(i + 2) >= '0' && text.charAt(i + 2) <= '9')
-								{
-									if (text.charAt(i + 3) == ',' && text.charAt(i + 4) == ' ')
-									{
-										int trueCount = 0;
-										for (int j = 1; j <= 4; j++)
-										{
-											if (text.charAt(i + j + 4) >= '0' && text.charAt(i + j + 4) <= '9')
-											{
-												trueCount++;
-											}
-										}
-										if (trueCount == 4)
-										{
-											dateFlag = true;
-										}
-									}
-								}
-							}
-						}
-						// month d, yyyy - check next 7 characters for format
-						if (dateFlag == false && i + 7 < text.length())
-						{
-							if (text.charAt(i + 1) >= '0' && text.charAt(i + 1) <= '9')
-							{
-								if (text.charAt(i + 2) == ',' && text.charAt(i + 3) == ' ')
-								{
-									int trueCount = 0;
-									for (int j = 1; j <= 4; j++)
-									{
-										if (text.charAt(i + j + 3) >= '0' && text.charAt(i + j + 3) <= '9')
-										{
-											trueCount++;
-										}
-									}
-									if (trueCount == 4)
-									{
-										dateFlag = true;
-									}
-
-								}
-							}
-						}
-						// month dd - check next 2 characters for format
-						if (dateFlag == false && i + 2 < text.length())
-						{
-							if (text.charAt(i + 1) >= '0' && text.charAt(i + 1) <= '9')
-							{
-								if (text.charAt(i + 2) >= '0' && text.charAt(i + 2) <= '9')
-								{
-									dateFlag = true;
-								}
-
-							}
-						}
-						// month d - check next character for format
-						if (dateFlag == false && i + 1 < text.length() && text.charAt(i + 1) >= '0'
-								&& text.charAt(i + 1) <= '9')
-						{
-							dateFlag = true;
-
-						}
-						// break because next space has been found
-						break;
-					}
-				}
-			}
-		}
-		// no month found (index variable, loc, is null or -1)
-		else
-		{
-			// split the string based on a space
-			String[] tokens = text.split(" ");
-			// check each token
-			for (int i = 0; i < tokens.length; i++)
-			{
-				// must contain at least 6 characters(m/d/yy)
-				// but no more than 10 characters (mm/dd/yyyy)
-				if (tokens[i].length() >= 6 && tokens[i].length() <= 10)
-				{
-					// count the number of '/' or '-' and number of integer
-					// characters
-					// found in the string token
-					int countSlash = 0;
-					int countDash = 0;
-					int countNum = 0;
-					for (int j = 0; j < tokens[i].length(); j++)
-					{
-						if (tokens[i].charAt(j) == '/')
-						{
-							countSlash++;
-						}
-						else if (tokens[i].charAt(j) == '-')
-						{
-							countDash++;
-						}
-						else if (tokens[i].charAt(j) >= '0' && tokens[i].charAt(j) <= '9')
-						{
-							countNum++;
-						}
-					}
-					// if the proper number of slashes/dashes and integers
-					// are found in the token, it is a date
-					if (((countSlash == 2 && countDash == 0) || (countDash == 2 && countSlash == 0))
-							&& countNum == tokens[i].length() - 2)
-					{
-						dateFlag = true;
-						break;
-					}
-				}
-			}
-		}
-
-		return dateFlag;
-	}
-
-	/**
-	 * Checks whether the day is located before the month following the format
-	 * like '20 July'. Before
-	 * @param data The text containing the date
-	 * @param startIndex The index of where the date starts
-	 * @return true if the day is found before the month in the text, otherwise
-	 *         false
-	 */
-	private boolean checkForDayBeforeMonth(String data, int startIndex)
-	{
-		// 1 character back: space
-		if (startIndex != 0 && startIndex >= 3 && data.charAt(startIndex - 1) == ' ')
+		if (DateRecognizer.matches(context.getTextTable().getText(textSet)))
 		{
-			// 2 characters back: a number between 0 and 9
-			if (data.charAt(startIndex - 2) <= '0' && data.charAt(startIndex - 2) <= '9')
-			{
-				// 3 characters back: can either be a space or a number between
-				// 0 and 9
-				if (data.charAt(startIndex - 3) == ' '
-						|| (data.charAt(startIndex - 3) <= '0' && data.charAt(startIndex - 3) <= '9'))
-				{
-					return true;
-				}
-			}
+			return true;
 		}
-		return false;
+		// a time tag may only have the date in its datetime attribute
+		return textSet.tagName().equals("time") && DateRecognizer.matches(textSet.attr("datetime"));
 	}
 
 	/**
@@ -1576,30 +1012,33 @@ public class VisualFeatureDetection
 	 */
 	public boolean articleAuthorExists()
 	{
-		Elements allElements = getAllTextElements();
+		Elements allElements = getCandidateElements(AUTHORLENGTH);
 		boolean authorExists = false;
 		for (int i = 0; i < allElements.size(); i++)
 		{
-			// rule 1
-			if (articleAuthorFontSizeDetection(allElements.get(i)))
+			if (articleAuthorRulesMatch(allElements.get(i)))
 			{
-				// rule 2
-				if (articleAuthorTextLengthDetection(allElements.get(i)))
-				{
-					// rule 3
-					if (articleAuthorFrequentWordDetection(allElements.get(i)))
-					{
-						// all three rules were passed, so author exists.
-						// set flag to true and break out of loop
-						authorExists = true;
-						break;
-					}
-				}
+				// all rules were passed, so set flag to true and break out of
+				// loop
+				authorExists = true;
+				break;
 			}
 		}
+
 		return authorExists;
 	}
 
+	/**
+	 * Checks all of the author rules against a single element, stopping at the
+	 * first rule that fails.
+	 * @param textSet The current Element node to check
+	 * @return true if the element passes every rule, otherwise false
+	 */
+	protected boolean articleAuthorRulesMatch(Element textSet)
+	{
+		return context.getRuleChain(ArticleRules.AUTHOR).matches(this, textSet);
+	}
+
 	/**
 	 * Checks each element of HTML for the article author.
 	 */
@@ -1649,7 +1088,7 @@ public class VisualFeatureDetection
 	 */
 	protected boolean articleAuthorTextLengthDetection(Element textSet)
 	{
-		return textLengthDetection(textSet, 3, 25);
+		return textLengthDetection(textSet, AUTHORLENGTH[0], AUTHORLENGTH[1]);
 	}
 
 	/**
@@ -1660,77 +1099,23 @@ public class VisualFeatureDetection
 	 */
 	protected boolean articleAuthorFrequentWordDetection(Element textSet)
 	{
-		String[] freqWords =
-		{ "by", "author" };
-		return frequentWordDetection(textSet, freqWords);
+		return hasFrequentWord(textSet, AUTHORFEATURE);
 	}
 
 	/**
-	 * Determines if an Element node's text contains one of the frequent words.
-	 * The code also verifies that the word stands by itself, meaning that
-	 * cannot be part of another word (it must be separate from other letter
-	 * characters).
+	 * Determines if an Element node's text contains one of the frequent words
+	 * of a feature. The code also verifies that the word stands by itself,
+	 * meaning that cannot be part of another word (it must be separate from
+	 * other letter characters). The element's text is scanned for the words
+	 * of every feature at once, the first time any feature checks it.
 	 * @param textSet The current Element node to check
-	 * @param freqWordList The list of frequent words to check the node for
+	 * @param feature The feature bit of the word list (AUTHORFEATURE, etc.)
 	 * @return true if the node contains one of the frequent words, otherwise
 	 *         false
 	 */
-	private boolean frequentWordDetection(Element textSet, String[] freqWordList)
+	protected boolean hasFrequentWord(Element textSet, int feature)
 	{
-		boolean wordFlag = false;
-		// get text from element, make it lower case, and trim off extra white
-		// space
-		String text = textSet.text().toLowerCase().trim();
-		for (int i = 0; i < freqWordList.length; i++)
-		{
-			// check if the text contains the current frequent word
-			if (text.contains(freqWordList[i]))
-			{
-				// if so, check to make sure the word is "alone"
-				int loc = text.indexOf(freqWordList[i]);
-				// no characters before the start of the string, so check the
-				// next two conditions
-				if (loc == 0)
-				{
-					// check to see if the word doesn't have text after it
-					if ((loc + freqWordList[i].length()) == text.length())
-					{
-						wordFlag = true;
-						break;
-					}
-					// check to see if word is followed by a non-letter
-					// character (ex. space, colon, etc.)
-					else if ((loc + freqWordList[i].length()) < text.length()
-							&& (text.charAt(loc + freqWordList[i].length()) < 'A'
-									|| text.charAt(loc + freqWordList[i].length()) > 'z'))
-					{
-						wordFlag = true;
-						break;
-					}
-				}
-				// check to see if the character before the word is not a letter
-				// (ex. space), check next two conditions
-				else if (loc > 0 && (text.charAt(loc - 1) < 'A' || text.charAt(loc - 1) > 'z'))
-				{
-					// check to see if the word doesn't have text after it
-					if ((loc + freqWordList[i].length()) == text.length())
-					{
-						wordFlag = true;
-						break;
-					}
-					// check to see if word is followed by a non-letter
-					// character (ex. space, colon, etc.)
-					else if ((loc + freqWordList[i].length()) < text.length()
-							&& (text.charAt(loc + freqWordList[i].length()) < 'A'
-									|| text.charAt(loc + freqWordList[i].length()) > 'z'))
-					{
-						wordFlag = true;
-						break;
-					}
-				}
-			}
-		}
-		return wordFlag;
+		return (context.getTextTable().getWordFeatures(textSet) & feature) != 0;
 	}
 
 	/**
@@ -1743,34 +1128,31 @@ public class VisualFeatureDetection
 	 */
 	public boolean articleCommentLinkExists()
 	{
-		Elements allElements = getAllTextElements();
+		Elements allElements = getCandidateElements(COMMENTLINKLENGTH);
 		boolean commentLinkExists = false;
 		for (int i = 0; i < allElements.size(); i++)
 		{
-			// rule 1
-			if (articleCommentLinkFontSizeDetection(allElements.get(i)))
+			if (articleCommentLinkRulesMatch(allElements.get(i)))
 			{
-				// rule 2
-				if (articleCommentLinkTextLengthDetection(allElements.get(i)))
-				{
-					// rule 3
-					if (articleCommentLinkFrequentWordDetection(allElements.get(i)))
-					{
-						// rule 4
-						if (articleCommentLinkHyperLinkDetection(allElements.get(i)))
-						{
-							// all four rules were passed, so comment link
-							// exists. set flag to true and break out of loop
-							commentLinkExists = true;
-							break;
-						}
-					}
-				}
+				// all rules were passed, so set flag to true and break out of
+				// loop
+				commentLinkExists = true;
+				break;
 			}
 		}
 
 		return commentLinkExists;
+	}
 
+	/**
+	 * Checks all of the comment link rules against a single element, stopping
+	 * at the first rule that fails.
+	 * @param textSet The current Element node to check
+	 * @return true if the element passes every rule, otherwise false
+	 */
+	protected boolean articleCommentLinkRulesMatch(Element textSet)
+	{
+		return context.getRuleChain(ArticleRules.COMMENTLINK).matches(this, textSet);
 	}
 
 	/**
@@ -1825,7 +1207,7 @@ public class VisualFeatureDetection
 	 */
 	protected boolean articleCommentLinkTextLengthDetection(Element textSet)
 	{
-		return textLengthDetection(textSet, 6, 15);
+		return textLengthDetection(textSet, COMMENTLINKLENGTH[0], COMMENTLINKLENGTH[1]);
 	}
 
 	/**
@@ -1836,9 +1218,7 @@ public class VisualFeatureDetection
 	 */
 	protected boolean articleCommentLinkFrequentWordDetection(Element textSet)
 	{
-		String[] wordList =
-		{ "comment" };
-		return frequentWordDetection(textSet, wordList);
+		return hasFrequentWord(textSet, COMMENTLINKFEATURE);
 	}
 
 	/**
@@ -1863,35 +1243,33 @@ public class VisualFeatureDetection
 	 */
 	public boolean articleSourceExists()
 	{
-		Elements allElements = getAllTextElements();
+		Elements allElements = getCandidateElements(SOURCELENGTH);
 		boolean sourceExists = false;
 		for (int i = 0; i < allElements.size(); i++)
 		{
-			// rule 1
-			if (articleSourceFontSizeDetection(allElements.get(i)))
+			if (articleSourceRulesMatch(allElements.get(i)))
 			{
-				// rule 2
-				if (articleSourceFontColorDetection(allElements.get(i)))
-				{
-					// rule 3
-					if (articleSourceFrequentWordDetection(allElements.get(i)))
-					{
-						// rule 4
-						if (articleSourceTextLengthDetection(allElements.get(i)))
-						{
-							// all four rules were passed, so source exists.
-							// set flag to true and break out of loop
-							sourceExists = true;
-							break;
-						}
-					}
-				}
+				// all rules were passed, so set flag to true and break out of
+				// loop
+				sourceExists = true;
+				break;
 			}
 		}
 
 		return sourceExists;
 	}
 
+	/**
+	 * Checks all of the source rules against a single element, stopping at the
+	 * first rule that fails.
+	 * @param textSet The current Element node to check
+	 * @return true if the element passes every rule, otherwise false
+	 */
+	protected boolean articleSourceRulesMatch(Element textSet)
+	{
+		return context.getRuleChain(ArticleRules.SOURCE).matches(this, textSet);
+	}
+
 	/**
 	 * Checks each element of HTML for the article source.
 	 */
@@ -1944,11 +1322,7 @@ public class VisualFeatureDetection
 	 */
 	protected boolean articleSourceFontColorDetection(Element textSet)
 	{
-		Color[] sourceColors = new Color[3];
-		sourceColors[0] = Color.decode("#000000");
-		sourceColors[1] = Color.decode("#808080");
-		sourceColors[2] = Color.decode("#A52A2A");
-		return fontColorDetection(textSet, sourceColors);
+		return fontColorDetection(textSet, SOURCECOLORS);
 	}
 
 	/**
@@ -1959,9 +1333,7 @@ public class VisualFeatureDetection
 	 */
 	protected boolean articleSourceFrequentWordDetection(Element textSet)
 	{
-		String[] wordList =
-		{ "from", "source" };
-		return frequentWordDetection(textSet, wordList);
+		return hasFrequentWord(textSet, SOURCEFEATURE);
 	}
 
 	/**
@@ -1973,7 +1345,7 @@ public class VisualFeatureDetection
 	 */
 	protected boolean articleSourceTextLengthDetection(Element textSet)
 	{
-		return textLengthDetection(textSet, 4, 25);
+		return textLengthDetection(textSet, SOURCELENGTH[0], SOURCELENGTH[1]);
 	}
 
 	/**
@@ -1986,35 +1358,33 @@ public class VisualFeatureDetection
 	 */
 	public boolean articleContentExists()
 	{
-		Elements allElements = getAllTextElements();
+		Elements allElements = getCandidateElements(CONTENTLENGTH);
 		boolean contentExists = false;
 		for (int i = 0; i < allElements.size(); i++)
 		{
-			// rule 1
-			if (articleContentFontSizeDetection(allElements.get(i)))
+			if (articleContentRulesMatch(allElements.get(i)))
 			{
-				// rule 2
-				if (articleContentFontColorDetection(allElements.get(i)))
-				{
-					// rule 3
-					if (articleContentPageDownDetection(allElements.get(i)))
-					{
-						// rule 4
-						if (articleContentTextLengthDetection(allElements.get(i)))
-						{
-							// all four rules were passed, so content exists.
-							// set flag to true and break out of loop
-							contentExists = true;
-							break;
-						}
-					}
-				}
+				// all rules were passed, so set flag to true and break out of
+				// loop
+				contentExists = true;
+				break;
 			}
 		}
 
 		return contentExists;
 	}
 
+	/**
+	 * Checks all of the content rules against a single element, stopping at the
+	 * first rule that fails.
+	 * @param textSet The current Element node to check
+	 * @return true if the element passes every rule, otherwise false
+	 */
+	protected boolean articleContentRulesMatch(Element textSet)
+	{
+		return context.getRuleChain(ArticleRules.CONTENT).matches(this, textSet);
+	}
+
 	/**
 	 * Checks each element of HTML for the article content.
 	 */
@@ -2066,9 +1436,7 @@ public class VisualFeatureDetection
 	 */
 	protected boolean articleContentFontColorDetection(Element textSet)
 	{
-		Color[] contentColors = new Color[1];
-		contentColors[0] = Color.decode("#000000");
-		return fontColorDetection(textSet, contentColors);
+		return fontColorDetection(textSet, CONTENTCOLORS);
 	}
 
 	/**
@@ -2092,7 +1460,7 @@ public class VisualFeatureDetection
 	 */
 	protected boolean articleContentTextLengthDetection(Element textSet)
 	{
-		return textLengthDetection(textSet, 20, 2000000000);
+		return textLengthDetection(textSet, CONTENTLENGTH[0], CONTENTLENGTH[1]);
 	}
 
 	/**
@@ -2106,40 +1474,33 @@ public class VisualFeatureDetection
 	 */
 	public boolean articleCategoryExists()
 	{
-		Elements allElements = getAllTextElements();
+		Elements allElements = getCandidateElements(CATEGORYLENGTH);
 		boolean categoryExists = false;
 		for (int i = 0; i < allElements.size(); i++)
 		{
-			// rule 1
-			if (articleCategoryFontSizeDetection(allElements.get(i)))
+			if (articleCategoryRulesMatch(allElements.get(i)))
 			{
-				// rule 2
-				if (articleCategoryTopHalfOfPageDetection(allElements.get(i)))
-				{
-					// rule 3
-					if (articleCategoryPageDownDetection(allElements.get(i)))
-					{
-						// rule 4
-						if (articleCategoryTextLengthDetection(allElements.get(i)))
-						{
-							// rule 5
-							if (articleCategoryFrequentWordDetection(allElements.get(i)))
-							{
-								// all five rules were passed, so category
-								// exists. set flag to true and break out of
-								// loop
-								categoryExists = true;
-								break;
-							}
-						}
-					}
-				}
+				// all rules were passed, so set flag to true and break out of
+				// loop
+				categoryExists = true;
+				break;
 			}
 		}
 
 		return categoryExists;
 	}
 
+	/**
+	 * Checks all of the category rules against a single element, stopping at
+	 * the first rule that fails.
+	 * @param textSet The current Element node to check
+	 * @return true if the element passes every rule, otherwise false
+	 */
+	protected boolean articleCategoryRulesMatch(Element textSet)
+	{
+		return context.getRuleChain(ArticleRules.CATEGORY).matches(this, textSet);
+	}
+
 	/**
 	 * Checks each element of HTML for the article category.
 	 */
@@ -2218,7 +1579,7 @@ public class VisualFeatureDetection
 	 */
 	protected boolean articleCategoryTextLengthDetection(Element textSet)
 	{
-		return textLengthDetection(textSet, 8, 30);
+		return textLengthDetection(textSet, CATEGORYLENGTH[0], CATEGORYLENGTH[1]);
 	}
 
 	/**
@@ -2229,24 +1590,7 @@ public class VisualFeatureDetection
 	 */
 	protected boolean articleCategoryFrequentWordDetection(Element textSet)
 	{
-		boolean wordFlag = false;
-		// retrieve text from Element node
-		String text = textSet.text();
-		// create list of frequent words
-		String[] wordList =
-		{ "->", ">", "|" };
-		// check the Element's text for each word
-		for (int i = 0; i < wordList.length; i++)
-		{
-			// if the word is found, set the flag to true
-			// and break out of loop
-			if (text.contains(wordList[i]))
-			{
-				wordFlag = true;
-				break;
-			}
-		}
-		return wordFlag;
+		return hasFrequentWord(textSet, CATEGORYFEATURE);
 	}
 
 	/**
@@ -2264,36 +1608,29 @@ public class VisualFeatureDetection
 		boolean relNewsLinksExists = false;
 		for (int i = 0; i < allElements.size(); i++)
 		{
-			// rule 1
-			if (articleRelatedNewsLinksFontSizeDetection(allElements.get(i)))
+			if (articleRelatedNewsLinksRulesMatch(allElements.get(i)))
 			{
-				// rule 2
-				if (articleRelatedNewsLinksFontColorDetection(allElements.get(i)))
-				{
-					// rule 3
-					if (articleRelatedNewsLinksBottomHalfOfPageDetection(allElements.get(i)))
-					{
-						// rule 4
-						if (articleRelatedNewsLinksHyperLinkDetection(allElements.get(i)))
-						{
-							// rule 5
-							if (articleRelatedNewsLinksFrequentWordDetection(allElements.get(i)))
-							{
-								// all five rules were passed, so related news
-								// links exists. set flag to true and break out
-								// of loop
-								relNewsLinksExists = true;
-								break;
-							}
-						}
-					}
-				}
+				// all rules were passed, so set flag to true and break out of
+				// loop
+				relNewsLinksExists = true;
+				break;
 			}
 		}
 
 		return relNewsLinksExists;
 	}
 
+	/**
+	 * Checks all of the related news links rules against a single element,
+	 * stopping at the first rule that fails.
+	 * @param textSet The current Element node to check
+	 * @return true if the element passes every rule, otherwise false
+	 */
+	protected boolean articleRelatedNewsLinksRulesMatch(Element textSet)
+	{
+		return context.getRuleChain(ArticleRules.RELATEDNEWSLINKS).matches(this, textSet);
+	}
+
 	/**
 	 * Checks each element of HTML for the article related news links.
 	 */
@@ -2349,10 +1686,7 @@ public class VisualFeatureDetection
 	 */
 	protected boolean articleRelatedNewsLinksFontColorDetection(Element textSet)
 	{
-		Color relatedNewsColors[] = new Color[2];
-		relatedNewsColors[0] = Color.decode("#000000");
-		relatedNewsColors[1] = Color.decode("#0000FF");
-		return fontColorDetection(textSet, relatedNewsColors);
+		return fontColorDetection(textSet, RELATEDNEWSCOLORS);
 	}
 
 	/**
@@ -2385,8 +1719,6 @@ public class VisualFeatureDetection
 	 */
 	protected boolean articleRelatedNewsLinksFrequentWordDetection(Element textSet)
 	{
-		String[] wordList =
-		{ "related news", "related links" };
-		return frequentWordDetection(textSet, wordList);
+		return hasFrequentWord(textSet, RELATEDNEWSLINKSFEATURE);
 	}
 }
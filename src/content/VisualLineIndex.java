@@ -0,0 +1,170 @@
+package content;
+
+import java.util.HashMap;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.safety.Whitelist;
+
+/**
+ * The class containing the visual line index of a web page. The body of the
+ * page is rendered as plain text once, with each tag that starts a new line
+ * converted to a line break. The index can then tell whether an element's text
+ * is visible without paging down without rendering the page again for every
+ * element.
+ * @author Nick Rummel
+ *
+ */
+public class VisualLineIndex
+{
+	/**
+	 * A constant array that contains the tags to be converted to new lines.
+	 */
+	protected final String[] HTMLTAGSTOCONVERT =
+	{ "br", "p", "h1", "h2", "h3", "h4", "h5", "h6", "div", "td", "li" };
+
+	/**
+	 * A constant that contains the last line that can be seen without paging
+	 * down.
+	 */
+	protected final int PAGELINES = 40;
+
+	/**
+	 * An instance variable that contains each rendered line of the page.
+	 */
+	protected String[] lines;
+
+	/**
+	 * An instance variable that contains the lines of the first page joined
+	 * with new lines, so one search covers all of them.
+	 */
+	protected String firstPage;
+
+	/**
+	 * An instance variable that contains the lines after the first page joined
+	 * with new lines, or null if the whole page fits on the first page.
+	 */
+	protected String remainingPages;
+
+	/**
+	 * An instance variable that saves the result for each text that has been
+	 * looked up already.
+	 */
+	protected HashMap<String, Boolean> visibleCache;
+
+	/**
+	 * Constructor of class that renders the document into lines.
+	 * @param doc the parsed HTML as a Document
+	 */
+	public VisualLineIndex(Document doc)
+	{
+		// clone the DOM tree
+		Document clone = doc.clone();
+
+		// convert each tag to new line ('\n')
+		for (int i = 0; i < HTMLTAGSTOCONVERT.length; i++)
+		{
+			clone.select(HTMLTAGSTOCONVERT[i]).before("\\n");
+		}
+		String html = clone.body().html().replaceAll("\\\\n", "\n");
+		// run Jsoup's clean method to strip out all tags but keep new lines
+		String allText = Jsoup.clean(html, "", Whitelist.none(), new Document.OutputSettings().prettyPrint(false));
+		// convert entity tag &gt; to > (greater than symbol)
+		allText = allText.replaceAll("&gt;", ">");
+		// split text into tokens based on new line
+		lines = allText.split("\n");
+
+		// join the lines of the first page and the lines of the remaining
+		// pages so each can be searched at once
+		StringBuilder first = new StringBuilder();
+		StringBuilder remaining = new StringBuilder();
+		for (int i = 0; i < lines.length; i++)
+		{
+			if (i <= PAGELINES)
+			{
+				if (i > 0)
+				{
+					first.append('\n');
+				}
+				first.append(lines[i]);
+			}
+			else
+			{
+				if (i > PAGELINES + 1)
+				{
+					remaining.append('\n');
+				}
+				remaining.append(lines[i]);
+			}
+		}
+		firstPage = first.toString();
+		if (lines.length > PAGELINES + 1)
+		{
+			remainingPages = remaining.toString();
+		}
+		else
+		{
+			remainingPages = null;
+		}
+		visibleCache = new HashMap<String, Boolean>();
+	}
+
+	/**
+	 * Getter method for the number of rendered lines.
+	 * @return the number of lines as an int
+	 */
+	public int getLineCount()
+	{
+		return lines.length;
+	}
+
+	/**
+	 * Finds the last rendered line that contains the given text.
+	 * @param text the text of an Element node
+	 * @return the index of the line, or -1 if no line contains the text
+	 */
+	public int lastLineContaining(String text)
+	{
+		int index = -1;
+		for (int i = 0; i < lines.length; i++)
+		{
+			if (lines[i].contains(text))
+			{
+				index = i;
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Determines if the text can be seen without paging down, meaning that the
+	 * last line containing the text is one of the first 40 lines. Since a line
+	 * never contains a new line, the text is on the first page if the joined
+	 * first page contains it and the joined remaining pages do not.
+	 * @param text the text of an Element node
+	 * @return true if the text can be seen without paging down, false if page
+	 *         down is needed to see the text
+	 */
+	public boolean isVisibleWithoutPagingDown(String text)
+	{
+		Boolean visible = visibleCache.get(text);
+		if (visible == null)
+		{
+			// the first page is checked first since it is much shorter
+			if (lines.length == 0 || text.indexOf('\n') >= 0 || !firstPage.contains(text))
+			{
+				visible = Boolean.FALSE;
+			}
+			else if (remainingPages != null && remainingPages.contains(text))
+			{
+				visible = Boolean.FALSE;
+			}
+			else
+			{
+				visible = Boolean.TRUE;
+			}
+			visibleCache.put(text, visible);
+		}
+		return visible.booleanValue();
+	}
+}
@@ -0,0 +1,243 @@
+package content;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * The class containing a multi-pattern word matcher (an Aho-Corasick
+ * automaton). Every word is given a feature bit, and one scan over a text
+ * reports the bits of all the words found in it, no matter how many words
+ * there are. The automaton is built once and is never changed after that, so
+ * it can be shared by every page and thread. Words are matched exactly, so
+ * they should be in the same case as the text being scanned.
+ * @author Nick Rummel
+ *
+ */
+public class WordAutomaton
+{
+	/**
+	 * A constant for the number of characters that have transitions. Words
+	 * can only have ASCII characters, and any other character goes back to
+	 * the start.
+	 */
+	private static final int ALPHABET = 128;
+
+	/**
+	 * A constant for a node that is not the end of a word.
+	 */
+	private static final int NOWORD = -1;
+
+	/**
+	 * An instance variable that contains the next node for each node and
+	 * character.
+	 */
+	private final int[][] transitions;
+
+	/**
+	 * An instance variable that contains the index of the word that ends at
+	 * each node, or NOWORD.
+	 */
+	private final int[] wordAt;
+
+	/**
+	 * An instance variable that contains, for each node, the nearest node for
+	 * a shorter suffix that is the end of a word, or 0 if there is none.
+	 */
+	private final int[] outputLinks;
+
+	/**
+	 * An instance variable that contains the length of each word.
+	 */
+	private final int[] lengths;
+
+	/**
+	 * An instance variable that contains the feature bit of each word.
+	 */
+	private final int[] features;
+
+	/**
+	 * An instance variable that contains whether each word must stand by
+	 * itself, and not be part of a longer word.
+	 */
+	private final boolean[] wholeWords;
+
+	/**
+	 * Constructor of class that builds the automaton from a list of words.
+	 * @param words the words to find
+	 * @param wordFeatures the feature bit of each word
+	 * @param wholeWordFlags true for each word that must stand by itself
+	 * @throws IllegalArgumentException if a word is empty or has a non-ASCII
+	 *             character, or if the lists are not the same length
+	 */
+	public WordAutomaton(String[] words, int[] wordFeatures, boolean[] wholeWordFlags)
+	{
+		if (words.length != wordFeatures.length || words.length != wholeWordFlags.length)
+		{
+			throw new IllegalArgumentException("Each word needs one feature and one whole word flag");
+		}
+		lengths = new int[words.length];
+		features = Arrays.copyOf(wordFeatures, wordFeatures.length);
+		wholeWords = Arrays.copyOf(wholeWordFlags, wholeWordFlags.length);
+
+		// build the trie of the words
+		ArrayList<int[]> goTo = new ArrayList<int[]>();
+		ArrayList<Integer> ends = new ArrayList<Integer>();
+		goTo.add(newNode());
+		ends.add(Integer.valueOf(NOWORD));
+		for (int i = 0; i < words.length; i++)
+		{
+			String word = words[i];
+			if (word.length() == 0)
+			{
+				throw new IllegalArgumentException("A word can't be empty");
+			}
+			lengths[i] = word.length();
+			int node = 0;
+			for (int j = 0; j < word.length(); j++)
+			{
+				char c = word.charAt(j);
+				if (c >= ALPHABET)
+				{
+					throw new IllegalArgumentException("A word can only have ASCII characters: " + word);
+				}
+				if (goTo.get(node)[c] < 0)
+				{
+					goTo.get(node)[c] = goTo.size();
+					goTo.add(newNode());
+					ends.add(Integer.valueOf(NOWORD));
+				}
+				node = goTo.get(node)[c];
+			}
+			// keep the first word if a word is in the list more than once
+			if (ends.get(node).intValue() == NOWORD)
+			{
+				ends.set(node, Integer.valueOf(i));
+			}
+		}
+
+		int size = goTo.size();
+		transitions = goTo.toArray(new int[size][]);
+		wordAt = new int[size];
+		for (int i = 0; i < size; i++)
+		{
+			wordAt[i] = ends.get(i).intValue();
+		}
+		outputLinks = new int[size];
+
+		// fill in the missing transitions breadth first, so each node's
+		// failure node is done before the node
+		int[] failures = new int[size];
+		int[] queue = new int[size];
+		int head = 0;
+		int tail = 0;
+		for (int c = 0; c < ALPHABET; c++)
+		{
+			int child = transitions[0][c];
+			if (child < 0)
+			{
+				transitions[0][c] = 0;
+			}
+			else
+			{
+				failures[child] = 0;
+				queue[tail++] = child;
+			}
+		}
+		while (head < tail)
+		{
+			int node = queue[head++];
+			int failure = failures[node];
+			outputLinks[node] = wordAt[failure] != NOWORD ? failure : outputLinks[failure];
+			for (int c = 0; c < ALPHABET; c++)
+			{
+				int child = transitions[node][c];
+				if (child < 0)
+				{
+					transitions[node][c] = transitions[failure][c];
+				}
+				else
+				{
+					failures[child] = transitions[failure][c];
+					queue[tail++] = child;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Scans a text once and finds which feature bits have a word in the text.
+	 * @param text the text to scan
+	 * @return the feature bits of all the words found, or 0 if no word was
+	 *         found
+	 */
+	public int scan(CharSequence text)
+	{
+		int found = 0;
+		int node = 0;
+		for (int i = 0; i < text.length(); i++)
+		{
+			char c = text.charAt(i);
+			node = c < ALPHABET ? transitions[node][c] : 0;
+			// check the word ending here and every shorter word that ends
+			// here
+			int match = wordAt[node] != NOWORD ? node : outputLinks[node];
+			while (match != 0)
+			{
+				int word = wordAt[match];
+				if ((found & features[word]) != features[word]
+						&& (!wholeWords[word] || standsAlone(text, i + 1 - lengths[word], i + 1)))
+				{
+					found |= features[word];
+				}
+				match = outputLinks[match];
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Getter method for the number of nodes in the automaton.
+	 * @return the number of nodes
+	 */
+	public int size()
+	{
+		return transitions.length;
+	}
+
+	/**
+	 * Checks that a word in a text is not part of a longer word, meaning the
+	 * characters before and after it are not letters.
+	 * @param text the text containing the word
+	 * @param start the index of the first character of the word
+	 * @param end the index after the last character of the word
+	 * @return true if the word stands by itself, otherwise false
+	 */
+	private static boolean standsAlone(CharSequence text, int start, int end)
+	{
+		return (start == 0 || !isLetter(text.charAt(start - 1)))
+				&& (end == text.length() || !isLetter(text.charAt(end)));
+	}
+
+	/**
+	 * Checks if a character counts as a letter next to a word. Anything from
+	 * 'A' to 'z' is a letter, the same as the frequent word rules have always
+	 * checked.
+	 * @param c the character
+	 * @return true if the character is a letter, otherwise false
+	 */
+	private static boolean isLetter(char c)
+	{
+		return c >= 'A' && c <= 'z';
+	}
+
+	/**
+	 * Creates a trie node with no transitions.
+	 * @return the new node's transitions
+	 */
+	private static int[] newNode()
+	{
+		int[] node = new int[ALPHABET];
+		Arrays.fill(node, -1);
+		return node;
+	}
+}
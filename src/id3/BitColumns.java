@@ -0,0 +1,209 @@
+package id3;
+
+/**
+ * The class containing the training data of the decision tree as bitsets. The
+ * actual data and each attribute's column of results are packed 64 rows to a
+ * long, so the counts the information gain needs come from the bit counts of
+ * ANDed words instead of lists of indices.
+ * @author Nick Rummel
+ *
+ */
+public class BitColumns
+{
+	/**
+	 * The instance variable that stores the actual data, where bit i is set
+	 * if row i is an article.
+	 */
+	protected long[] label;
+
+	/**
+	 * The instance variable that stores the number of rows of actual data.
+	 */
+	protected int labelSize;
+
+	/**
+	 * The instance variable that stores each attribute's column, where bit i
+	 * is set if the attribute was found for row i.
+	 */
+	protected long[][] columns;
+
+	/**
+	 * The instance variable that stores the number of rows of each column.
+	 */
+	protected int size;
+
+	/**
+	 * The instance variable that stores the rows that are in both the actual
+	 * data and the columns.
+	 */
+	protected long[] shared;
+
+	/**
+	 * The instance variable that stores the number of actual data rows that
+	 * are true.
+	 */
+	protected int labelCount;
+
+	/**
+	 * Constructor of the class that packs the training data into bitsets.
+	 * @param actual the original data that the document is an article or not.
+	 * @param results 2D array containing the data of each feature being found.
+	 */
+	public BitColumns(boolean[] actual, boolean[][] results)
+	{
+		label = toBits(actual);
+		labelSize = actual.length;
+		labelCount = count(label);
+		size = results.length == 0 ? 0 : results[0].length;
+		columns = new long[results.length][];
+		for (int i = 0; i < results.length; i++)
+		{
+			columns[i] = toBits(results[i]);
+		}
+		shared = mask(Math.min(size, labelSize), words(size));
+	}
+
+	/**
+	 * Getter method for the number of attributes.
+	 * @return the number of columns
+	 */
+	public int getAttributeCount()
+	{
+		return columns.length;
+	}
+
+	/**
+	 * Getter method for the number of rows of each column.
+	 * @return the number of rows
+	 */
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Getter method for the number of rows of actual data.
+	 * @return the number of rows
+	 */
+	public int getLabelSize()
+	{
+		return labelSize;
+	}
+
+	/**
+	 * Getter method for the number of actual data rows that are true.
+	 * @return the number of articles
+	 */
+	public int getLabelCount()
+	{
+		return labelCount;
+	}
+
+	/**
+	 * Counts the rows where an attribute was found.
+	 * @param attribute the index of the attribute
+	 * @return the number of rows that are true
+	 */
+	public int countYes(int attribute)
+	{
+		return count(columns[attribute]);
+	}
+
+	/**
+	 * Counts the rows where an attribute was found and the actual data is
+	 * true.
+	 * @param attribute the index of the attribute
+	 * @return the number of rows that are true in both
+	 */
+	public int countYesAndActualYes(int attribute)
+	{
+		long[] column = columns[attribute];
+		int count = 0;
+		for (int w = 0; w < column.length && w < label.length; w++)
+		{
+			count += Long.bitCount(column[w] & label[w]);
+		}
+		return count;
+	}
+
+	/**
+	 * Counts the rows where an attribute was not found and the actual data is
+	 * false.
+	 * @param attribute the index of the attribute
+	 * @return the number of rows that are false in both
+	 */
+	public int countNoAndActualNo(int attribute)
+	{
+		long[] column = columns[attribute];
+		int count = 0;
+		for (int w = 0; w < shared.length; w++)
+		{
+			long actual = w < label.length ? label[w] : 0;
+			count += Long.bitCount(shared[w] & ~column[w] & ~actual);
+		}
+		return count;
+	}
+
+	/**
+	 * Packs an array of booleans into a bitset.
+	 * @param values the booleans
+	 * @return the bitset, where bit i is set if values[i] is true
+	 */
+	public static long[] toBits(boolean[] values)
+	{
+		long[] bits = new long[words(values.length)];
+		for (int i = 0; i < values.length; i++)
+		{
+			if (values[i])
+			{
+				bits[i >>> 6] |= 1L << i;
+			}
+		}
+		return bits;
+	}
+
+	/**
+	 * Counts the set bits of a bitset.
+	 * @param bits the bitset
+	 * @return the number of set bits
+	 */
+	public static int count(long[] bits)
+	{
+		int count = 0;
+		for (int w = 0; w < bits.length; w++)
+		{
+			count += Long.bitCount(bits[w]);
+		}
+		return count;
+	}
+
+	/**
+	 * Calculates the number of longs needed for a number of rows.
+	 * @param rows the number of rows
+	 * @return the number of longs
+	 */
+	public static int words(int rows)
+	{
+		return (rows + 63) >>> 6;
+	}
+
+	/**
+	 * Creates a bitset with the first rows set.
+	 * @param rows the number of rows to set
+	 * @param words the number of longs in the bitset
+	 * @return the bitset
+	 */
+	private static long[] mask(int rows, int words)
+	{
+		long[] bits = new long[words];
+		for (int i = 0; i < rows >>> 6; i++)
+		{
+			bits[i] = -1L;
+		}
+		if ((rows & 63) != 0)
+		{
+			bits[rows >>> 6] = (1L << rows) - 1;
+		}
+		return bits;
+	}
+}
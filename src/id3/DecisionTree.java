@@ -1,6 +1,12 @@
 package id3;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
 
 /**
  * The class for the DecisionTree containing code to traverse and manipulate the
@@ -16,6 +22,47 @@ public class DecisionTree
 	 */
 	protected TreeNode root;
 
+	/**
+	 * The description of a leaf node that decides the document is an article.
+	 */
+	public static final String ALWAYSYES = "Always Yes";
+
+	/**
+	 * The description of a leaf node that decides the document is not an
+	 * article.
+	 */
+	public static final String ALWAYSNO = "Always No";
+
+	/**
+	 * The fewest rows a node needs for the parallel builder to build its
+	 * branches at the same time, since below this forking costs more than it
+	 * saves.
+	 */
+	public static final int FORKTHRESHOLD = 8192;
+
+	/**
+	 * The most attributes one task of the parallel attribute scan calculates
+	 * the gains of.
+	 */
+	public static final int GAINCHUNKSIZE = 64;
+
+	/**
+	 * The fewest attributes for a builder given a pool to calculate the gains
+	 * of a node's attributes in chunks at the same time, since with fewer
+	 * there is at most one chunk to calculate.
+	 */
+	public static final int SCANTHRESHOLD = 2 * GAINCHUNKSIZE;
+
+	/**
+	 * A constant returned by splitAttribute for a node that is "Always Yes".
+	 */
+	private static final int YESLEAF = -1;
+
+	/**
+	 * A constant returned by splitAttribute for a node that is "Always No".
+	 */
+	private static final int NOLEAF = -2;
+
 	/**
 	 * The instance variable that stores the value of log base 2 to convert
 	 * Java's Math log() method from base 10.
@@ -130,61 +177,1179 @@ public class DecisionTree
 
 	/**
 	 * Finds the index containing the largest gain for a list of article
-	 * detection features.
+	 * detection features. The data is packed into bitsets first, so the counts
+	 * come from bit counts instead of lists of indices.
 	 * @param actual the original data that the document is an article or not.
 	 * @param results 2D array containing the data of each feature being found.
 	 * @return the index of feature with the largest gain
 	 */
 	public int getIndexOfLargestInfoGain(boolean[] actual, boolean[][] results)
 	{
-		// create list of indices that contain a yes (true) or no (false)
-		// from the actual data
-		ArrayList<Integer> actualYesCount = countOfBooleans(actual, true);
-		ArrayList<Integer> actualNoCount = countOfBooleans(actual, false);
-		int actualLen = actualYesCount.size() + actualNoCount.size();
+		return getIndexOfLargestInfoGain(new BitColumns(actual, results));
+	}
 
-		// create a list of indices that contain
-		double[] gain = new double[results.length];
-		for (int i = 0; i < results.length; i++)
+	/**
+	 * Finds the index containing the largest gain for training data that is
+	 * already packed into bitsets. Each gain takes one pass over the words of
+	 * the columns and creates no objects.
+	 * @param data the actual data and the data of each feature being found
+	 * @return the index of feature with the largest gain, -1 if every gain is
+	 *         0, or -2 minus the index if the largest gain is 1
+	 */
+	public int getIndexOfLargestInfoGain(BitColumns data)
+	{
+		// find the largest gain, keeping the first of any that are equal
+		int largest = 0;
+		double largestGain = 0;
+		for (int i = 0; i < data.getAttributeCount(); i++)
+		{
+			double gain = gain(data, i);
+			if (i == 0 || gain > largestGain)
+			{
+				largest = i;
+				largestGain = gain;
+			}
+		}
+		return largestIndexResult(largest, largestGain);
+	}
+
+	/**
+	 * Finds the index containing the largest gain the same way as
+	 * getIndexOfLargestInfoGain(BitColumns), but calculates the gains of
+	 * chunks of the attributes at the same time in a fork/join pool. Each
+	 * chunk keeps the first of its largest gains, and the chunks are compared
+	 * in order, so the first of any equal gains is still chosen and the index
+	 * is always the same as the sequential one.
+	 * @param data the actual data and the data of each feature being found
+	 * @param pool the pool that calculates the gains
+	 * @param chunkSize the most attributes one task calculates the gains of,
+	 *            such as GAINCHUNKSIZE
+	 * @return the index of feature with the largest gain, -1 if every gain is
+	 *         0, or -2 minus the index if the largest gain is 1
+	 */
+	public int getIndexOfLargestInfoGain(BitColumns data, ForkJoinPool pool, int chunkSize)
+	{
+		ColumnGainTask task = new ColumnGainTask(this, data, 0, data.getAttributeCount(), Math.max(1, chunkSize));
+		pool.invoke(task);
+		if (task.best[0] < 0)
 		{
-			// get counts of trues and falses from the results list
-			ArrayList<Integer> yesCount = countOfBooleans(results[i], true);
-			ArrayList<Integer> noCount = countOfBooleans(results[i], false);
+			return largestIndexResult(0, 0);
+		}
+		return largestIndexResult(task.best[0], task.gains[0]);
+	}
+
+	/**
+	 * The class containing a task that finds the attribute with the largest
+	 * gain for each node, from a range of attributes. A range larger than the
+	 * chunk size is split in half, and the halves are compared in order, so
+	 * the first of any equal gains is kept however the range is split.
+	 * @author Nick Rummel
+	 */
+	protected abstract static class GainTask extends RecursiveAction
+	{
+		/**
+		 * A serial version UID, since a task is serializable.
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The instance variable that stores the first attribute of the range.
+		 */
+		protected int from;
+
+		/**
+		 * The instance variable that stores the index after the last attribute
+		 * of the range.
+		 */
+		protected int to;
 
-			// total is the sum of trues and falses from results list
-			int total = yesCount.size() + noCount.size();
+		/**
+		 * The instance variable that stores the most attributes one task
+		 * calculates the gains of.
+		 */
+		protected int chunkSize;
 
-			// counts indices that are found in two lists
-			int yesIndices = countOfIndicesFound(yesCount, actualYesCount);
-			int noIndices = countOfIndicesFound(noCount, actualNoCount);
+		/**
+		 * The instance variable that stores the largest gain found for each
+		 * node, once the task is done.
+		 */
+		protected double[] gains;
 
-			// calculate information gain
-			gain[i] = gain(actualYesCount.size(), actualLen, yesCount.size(), noCount.size(), total, yesIndices,
-					noIndices);
-			//System.out.println("Calculated Gain of " + i + ": " + gain[i]);
+		/**
+		 * The instance variable that stores the attribute with the largest
+		 * gain for each node, or -1 if no attribute could be used, once the
+		 * task is done.
+		 */
+		protected int[] best;
+
+		/**
+		 * Constructor of the class that saves the range of attributes.
+		 * @param from the first attribute of the range
+		 * @param to the index after the last attribute of the range
+		 * @param chunkSize the most attributes one task calculates the gains
+		 *            of
+		 */
+		protected GainTask(int from, int to, int chunkSize)
+		{
+			this.from = from;
+			this.to = to;
+			this.chunkSize = chunkSize;
 		}
 
-		// find the largest value from the calculate gains list
-		int largest = 0;
-		for (int i = 1; i < gain.length; i++)
+		/**
+		 * Finds the largest gains of the range, or of each half of the range
+		 * at the same time if the range is larger than the chunk size.
+		 */
+		@Override
+		protected void compute()
 		{
-			if (gain[i] > gain[largest])
+			if (to - from <= chunkSize)
 			{
-				largest = i;
+				calculateAll();
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			GainTask first = subtask(from, middle);
+			GainTask second = subtask(middle, to);
+			invokeAll(first, second);
+			gains = first.gains;
+			best = first.best;
+			for (int n = 0; n < gains.length; n++)
+			{
+				if (second.gains[n] > gains[n])
+				{
+					gains[n] = second.gains[n];
+					best[n] = second.best[n];
+				}
 			}
 		}
 
-		if (largest == 0 && gain[largest] == 0)
+		/**
+		 * Finds the largest gains of the whole range in this thread.
+		 */
+		protected void calculateAll()
 		{
-			largest = -1;
+			gains = new double[nodes()];
+			best = new int[gains.length];
+			Arrays.fill(gains, Double.NEGATIVE_INFINITY);
+			Arrays.fill(best, -1);
+			calculateGains();
 		}
-		else if (gain[largest] == 1)
+
+		/**
+		 * Saves the gain of an attribute for a node if it is larger than the
+		 * largest gain found so far. Since the attributes are given in order,
+		 * the first of any equal gains is kept.
+		 * @param node the index of the node
+		 * @param attribute the index of the attribute
+		 * @param gain the gain of the attribute for the node
+		 */
+		protected void offer(int node, int attribute, double gain)
 		{
-			largest = -2 - largest;
+			if (gain > gains[node])
+			{
+				gains[node] = gain;
+				best[node] = attribute;
+			}
+		}
+
+		/**
+		 * Gets the number of nodes the largest gains are found for.
+		 * @return the number of nodes
+		 */
+		protected abstract int nodes();
+
+		/**
+		 * Creates the task that finds the same gains for part of the range.
+		 * @param from the first attribute of the part
+		 * @param to the index after the last attribute of the part
+		 * @return the task
+		 */
+		protected abstract GainTask subtask(int from, int to);
+
+		/**
+		 * Calculates the gains of the attributes from from to to, in order,
+		 * offering each one.
+		 */
+		protected abstract void calculateGains();
+	}
+
+	/**
+	 * The class containing the task that finds the attribute with the largest
+	 * gain for training data packed into bitsets.
+	 * @author Nick Rummel
+	 */
+	protected static class ColumnGainTask extends GainTask
+	{
+		/**
+		 * A serial version UID, since a task is serializable.
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The instance variable that stores the tree whose gain is used.
+		 */
+		protected DecisionTree tree;
+
+		/**
+		 * The instance variable that stores the actual data and the data of
+		 * each feature being found.
+		 */
+		protected BitColumns data;
+
+		/**
+		 * Constructor of the class that saves the data and the range of
+		 * attributes.
+		 * @param tree the tree whose gain is used
+		 * @param data the actual data and the data of each feature being found
+		 * @param from the first attribute of the range
+		 * @param to the index after the last attribute of the range
+		 * @param chunkSize the most attributes one task calculates the gains
+		 *            of
+		 */
+		public ColumnGainTask(DecisionTree tree, BitColumns data, int from, int to, int chunkSize)
+		{
+			super(from, to, chunkSize);
+			this.tree = tree;
+			this.data = data;
+		}
+
+		@Override
+		protected int nodes()
+		{
+			return 1;
+		}
+
+		@Override
+		protected GainTask subtask(int from, int to)
+		{
+			return new ColumnGainTask(tree, data, from, to, chunkSize);
+		}
+
+		@Override
+		protected void calculateGains()
+		{
+			for (int a = from; a < to; a++)
+			{
+				offer(0, a, tree.gain(data, a));
+			}
+		}
+	}
+
+	/**
+	 * The class containing the task that finds the unused attribute with the
+	 * largest gain for a range of the row indices.
+	 * @author Nick Rummel
+	 */
+	protected static class RowGainTask extends GainTask
+	{
+		/**
+		 * A serial version UID, since a task is serializable.
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The instance variable that stores the tree whose gain is used.
+		 */
+		protected DecisionTree tree;
+
+		/**
+		 * The instance variable that stores the original data that the document
+		 * is an article or not.
+		 */
+		protected boolean[] actual;
+
+		/**
+		 * The instance variable that stores the data of each feature being
+		 * found.
+		 */
+		protected boolean[][] results;
+
+		/**
+		 * The instance variable that stores the row indices, where the rows
+		 * from start to end reach the node.
+		 */
+		protected int[] rows;
+
+		/**
+		 * The instance variable that stores the first row index of the node.
+		 */
+		protected int start;
+
+		/**
+		 * The instance variable that stores the index after the last row index
+		 * of the node.
+		 */
+		protected int end;
+
+		/**
+		 * The instance variable that stores the attributes already used above
+		 * the node, which are skipped.
+		 */
+		protected BitSet used;
+
+		/**
+		 * The instance variable that stores the number of the node's rows that
+		 * are articles.
+		 */
+		protected int actualYesCount;
+
+		/**
+		 * Constructor of the class that saves the node and the range of
+		 * attributes.
+		 * @param tree the tree whose gain is used
+		 * @param actual the original data that the document is an article or
+		 *            not.
+		 * @param results 2D array containing the data of each feature being
+		 *            found.
+		 * @param rows the row indices
+		 * @param start the first row index of the node
+		 * @param end the index after the last row index of the node
+		 * @param used the attributes already used above the node
+		 * @param actualYesCount the number of the rows that are articles
+		 * @param from the first attribute of the range
+		 * @param to the index after the last attribute of the range
+		 * @param chunkSize the most attributes one task calculates the gains
+		 *            of
+		 */
+		public RowGainTask(DecisionTree tree, boolean[] actual, boolean[][] results, int[] rows, int start, int end,
+				BitSet used, int actualYesCount, int from, int to, int chunkSize)
+		{
+			super(from, to, chunkSize);
+			this.tree = tree;
+			this.actual = actual;
+			this.results = results;
+			this.rows = rows;
+			this.start = start;
+			this.end = end;
+			this.used = used;
+			this.actualYesCount = actualYesCount;
+		}
+
+		@Override
+		protected int nodes()
+		{
+			return 1;
+		}
+
+		@Override
+		protected GainTask subtask(int from, int to)
+		{
+			return new RowGainTask(tree, actual, results, rows, start, end, used, actualYesCount, from, to,
+					chunkSize);
+		}
+
+		@Override
+		protected void calculateGains()
+		{
+			for (int a = from; a < to; a++)
+			{
+				if (!used.get(a))
+				{
+					offer(0, a, tree.gain(actual, results[a], rows, start, end, actualYesCount));
+				}
+			}
+		}
+	}
+
+	/**
+	 * The class containing the task that finds the unused attribute with the
+	 * largest gain for every node of a level of the level-wise builder,
+	 * reading each attribute's column once for all of the nodes.
+	 * @author Nick Rummel
+	 */
+	protected static class LevelGainTask extends GainTask
+	{
+		/**
+		 * A serial version UID, since a task is serializable.
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The instance variable that stores the tree whose gain is used.
+		 */
+		protected DecisionTree tree;
+
+		/**
+		 * The instance variable that stores the original data that the document
+		 * is an article or not.
+		 */
+		protected boolean[] actual;
+
+		/**
+		 * The instance variable that stores the data of each feature being
+		 * found.
+		 */
+		protected boolean[][] results;
+
+		/**
+		 * The instance variable that stores the node that each row reaches, or
+		 * -1 if it reached a leaf.
+		 */
+		protected int[] nodeOfRow;
+
+		/**
+		 * The instance variable that stores the number of rows that reach each
+		 * node.
+		 */
+		protected int[] total;
+
+		/**
+		 * The instance variable that stores the number of the rows of each
+		 * node that are articles.
+		 */
+		protected int[] actualYes;
+
+		/**
+		 * The instance variable that stores the attributes already used above
+		 * each node, which are skipped.
+		 */
+		protected BitSet[] used;
+
+		/**
+		 * The instance variable that stores the number of rows of each node
+		 * with the attribute being read, or null until the task makes its own.
+		 */
+		protected int[] yesCount;
+
+		/**
+		 * The instance variable that stores the number of rows of each node
+		 * with the attribute being read that are articles, or null until the
+		 * task makes its own.
+		 */
+		protected int[] yesIndices;
+
+		/**
+		 * Constructor of the class that saves the level and the range of
+		 * attributes.
+		 * @param tree the tree whose gain is used
+		 * @param actual the original data that the document is an article or
+		 *            not.
+		 * @param results 2D array containing the data of each feature being
+		 *            found.
+		 * @param nodeOfRow the node that each row reaches, or -1 if it reached
+		 *            a leaf
+		 * @param total the number of rows that reach each node
+		 * @param actualYes the number of the rows of each node that are
+		 *            articles
+		 * @param used the attributes already used above each node
+		 * @param yesCount the count array for the rows with the attribute, at
+		 *            least as long as the level, or null to make one
+		 * @param yesIndices the count array for the rows with the attribute
+		 *            that are articles, at least as long as the level, or null
+		 *            to make one
+		 * @param from the first attribute of the range
+		 * @param to the index after the last attribute of the range
+		 * @param chunkSize the most attributes one task calculates the gains
+		 *            of
+		 */
+		public LevelGainTask(DecisionTree tree, boolean[] actual, boolean[][] results, int[] nodeOfRow, int[] total,
+				int[] actualYes, BitSet[] used, int[] yesCount, int[] yesIndices, int from, int to, int chunkSize)
+		{
+			super(from, to, chunkSize);
+			this.tree = tree;
+			this.actual = actual;
+			this.results = results;
+			this.nodeOfRow = nodeOfRow;
+			this.total = total;
+			this.actualYes = actualYes;
+			this.used = used;
+			this.yesCount = yesCount;
+			this.yesIndices = yesIndices;
+		}
+
+		@Override
+		protected int nodes()
+		{
+			return total.length;
+		}
+
+		@Override
+		protected GainTask subtask(int from, int to)
+		{
+			// the parts run at the same time, so each makes its own counts
+			return new LevelGainTask(tree, actual, results, nodeOfRow, total, actualYes, used, null, null, from, to,
+					chunkSize);
+		}
+
+		@Override
+		protected void calculateGains()
+		{
+			int levelSize = total.length;
+			if (yesCount == null)
+			{
+				yesCount = new int[levelSize];
+				yesIndices = new int[levelSize];
+			}
+			for (int a = from; a < to; a++)
+			{
+				// count the rows with the attribute, and the articles among
+				// them
+				boolean[] column = results[a];
+				Arrays.fill(yesCount, 0, levelSize, 0);
+				Arrays.fill(yesIndices, 0, levelSize, 0);
+				for (int i = 0; i < column.length; i++)
+				{
+					int node = nodeOfRow[i];
+					if (node >= 0 && column[i])
+					{
+						yesCount[node]++;
+						if (actual[i])
+						{
+							yesIndices[node]++;
+						}
+					}
+				}
+				for (int n = 0; n < levelSize; n++)
+				{
+					// a leaf needs no gains
+					if (actualYes[n] == 0 || actualYes[n] == total[n] || used[n].get(a))
+					{
+						continue;
+					}
+					// the rows without the attribute that are not articles
+					int noAndActualNo = (total[n] - actualYes[n]) - (yesCount[n] - yesIndices[n]);
+					offer(n, a, tree.gain(actualYes[n], total[n], yesCount[n], total[n] - yesCount[n], total[n],
+							yesIndices[n], noAndActualNo));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Finds the largest gains of a task, in chunks at the same time in a pool
+	 * if there is one and there are at least SCANTHRESHOLD attributes,
+	 * otherwise in this thread. The gains are the same either way.
+	 * @param task the task that finds the gains
+	 * @param pool the pool, or null to find the gains in this thread
+	 * @param attributes the number of attributes
+	 */
+	private static void calculateGains(GainTask task, ForkJoinPool pool, int attributes)
+	{
+		if (pool == null || attributes < SCANTHRESHOLD)
+		{
+			task.calculateAll();
+		}
+		else if (ForkJoinTask.getPool() == pool)
+		{
+			// already running in the pool, such as in a BuildTask
+			task.invoke();
+		}
+		else
+		{
+			pool.invoke(task);
+		}
+	}
+
+	/**
+	 * Calculates the information gain of one attribute of training data that
+	 * is packed into bitsets.
+	 * @param data the actual data and the data of each feature being found
+	 * @param attribute the index of the attribute
+	 * @return the information gain
+	 */
+	private double gain(BitColumns data, int attribute)
+	{
+		int total = data.size();
+		// get counts of trues and falses from the results list
+		int yesCount = data.countYes(attribute);
+		int noCount = total - yesCount;
+
+		// counts rows that are the same in the results and actual data
+		int yesIndices = data.countYesAndActualYes(attribute);
+		int noIndices = data.countNoAndActualNo(attribute);
+
+		return gain(data.getLabelCount(), data.getLabelSize(), yesCount, noCount, total, yesIndices, noIndices);
+	}
+
+	/**
+	 * Turns the index of the largest gain into the value returned by
+	 * getIndexOfLargestInfoGain.
+	 * @param largest the index of the largest gain
+	 * @param largestGain the largest gain
+	 * @return -1 if the first gain is the largest and is 0, -2 minus the index
+	 *         if the largest gain is 1, otherwise the index
+	 */
+	private static int largestIndexResult(int largest, double largestGain)
+	{
+		if (largest == 0 && largestGain == 0)
+		{
+			return -1;
+		}
+		else if (largestGain == 1)
+		{
+			return -2 - largest;
 		}
 		return largest;
 	}
 
+	/**
+	 * Builds the decision tree with the ID3 algorithm and sets it as the root.
+	 * Each node splits on the unused attribute with the largest information
+	 * gain among the rows that reach it, and the rows are kept as one array of
+	 * row indices that is partitioned in place for each split, so the data is
+	 * never copied. A node becomes a leaf ("Always Yes" or "Always No") when
+	 * all of its rows agree, or when no attribute has any gain, in which case
+	 * it decides by the majority of its rows (a tie is "Always No").
+	 * @param actual the original data that the document is an article or not.
+	 * @param results 2D array containing the data of each feature being found.
+	 * @param descriptions the description of each feature
+	 * @throws IllegalArgumentException if the lengths of the arrays do not
+	 *             match
+	 */
+	public void buildTree(boolean[] actual, boolean[][] results, String[] descriptions)
+	{
+		checkData(actual, results, descriptions);
+		root = buildNode(actual, results, descriptions, allRows(actual.length), 0, actual.length,
+				new BitSet(results.length));
+		numberNodes(root, 0);
+	}
+
+	/**
+	 * Builds the decision tree the same way as buildTree, but builds the yes
+	 * and no branches of a node at the same time in a fork/join pool when the
+	 * node has at least threshold rows. Such a node with at least
+	 * SCANTHRESHOLD attributes also calculates the gains of chunks of its
+	 * attributes at the same time. Since the branches use separate ranges of
+	 * the row indices and the gains are compared in order, the tree is the
+	 * same as the one buildTree makes.
+	 * @param actual the original data that the document is an article or not.
+	 * @param results 2D array containing the data of each feature being found.
+	 * @param descriptions the description of each feature
+	 * @param pool the pool that builds the branches
+	 * @param threshold the fewest rows a node needs for its branches to be
+	 *            built at the same time, such as FORKTHRESHOLD
+	 * @throws IllegalArgumentException if the lengths of the arrays do not
+	 *             match
+	 */
+	public void buildTree(boolean[] actual, boolean[][] results, String[] descriptions, ForkJoinPool pool,
+			int threshold)
+	{
+		checkData(actual, results, descriptions);
+		root = pool.invoke(new BuildTask(actual, results, descriptions, allRows(actual.length), 0, actual.length,
+				new BitSet(results.length), threshold));
+		numberNodes(root, 0);
+	}
+
+	/**
+	 * The class containing the task that builds the node for a range of the
+	 * row indices, forking the building of its branches.
+	 * @author Nick Rummel
+	 */
+	protected class BuildTask extends RecursiveTask<TreeNode>
+	{
+		/**
+		 * A serial version UID, since a task is serializable.
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The instance variable that stores the original data that the document
+		 * is an article or not.
+		 */
+		protected boolean[] actual;
+
+		/**
+		 * The instance variable that stores the data of each feature being
+		 * found.
+		 */
+		protected boolean[][] results;
+
+		/**
+		 * The instance variable that stores the description of each feature.
+		 */
+		protected String[] descriptions;
+
+		/**
+		 * The instance variable that stores the row indices, shared by every
+		 * task.
+		 */
+		protected int[] rows;
+
+		/**
+		 * The instance variable that stores the first row index of the node.
+		 */
+		protected int start;
+
+		/**
+		 * The instance variable that stores the index after the last row index
+		 * of the node.
+		 */
+		protected int end;
+
+		/**
+		 * The instance variable that stores the attributes already used above
+		 * the node, which only this task changes.
+		 */
+		protected BitSet used;
+
+		/**
+		 * The instance variable that stores the fewest rows a node needs for
+		 * its branches to be forked.
+		 */
+		protected int threshold;
+
+		/**
+		 * Constructor of the class that saves the arguments of buildNode.
+		 * @param actual the original data that the document is an article or
+		 *            not.
+		 * @param results 2D array containing the data of each feature being
+		 *            found.
+		 * @param descriptions the description of each feature
+		 * @param rows the row indices
+		 * @param start the first row index of the node
+		 * @param end the index after the last row index of the node
+		 * @param used the attributes already used above the node, which only
+		 *            this task may change
+		 * @param threshold the fewest rows a node needs for its branches to be
+		 *            forked
+		 */
+		public BuildTask(boolean[] actual, boolean[][] results, String[] descriptions, int[] rows, int start, int end,
+				BitSet used, int threshold)
+		{
+			this.actual = actual;
+			this.results = results;
+			this.descriptions = descriptions;
+			this.rows = rows;
+			this.start = start;
+			this.end = end;
+			this.used = used;
+			this.threshold = threshold;
+		}
+
+		/**
+		 * Builds the node, forking the yes branch and building the no branch
+		 * in this thread, or builds the node and its branches in this thread
+		 * if it has fewer rows than the threshold.
+		 * @return the node
+		 */
+		@Override
+		protected TreeNode compute()
+		{
+			if (end - start < threshold)
+			{
+				return buildNode(actual, results, descriptions, rows, start, end, used);
+			}
+			int best = splitAttribute(actual, results, rows, start, end, used, getPool());
+			if (best < 0)
+			{
+				return leaf(best);
+			}
+			int middle = partition(results[best], rows, start, end);
+			// each branch gets its own copy, since the branches run at the
+			// same time
+			used.set(best);
+			BuildTask yes = new BuildTask(actual, results, descriptions, rows, start, middle, (BitSet) used.clone(),
+					threshold);
+			BuildTask no = new BuildTask(actual, results, descriptions, rows, middle, end, used, threshold);
+			yes.fork();
+			TreeNode node = new TreeNode(0, descriptions[best]);
+			node.setNoBranch(no.compute());
+			node.setYesBranch(yes.join());
+			return node;
+		}
+	}
+
+	/**
+	 * Builds the decision tree the same way as buildTree, but one level at a
+	 * time instead of one branch at a time. Each level makes one pass over the
+	 * data, reading every attribute's column from start to end, and counts the
+	 * rows of each node at that level to find the gain of the attribute for
+	 * every node, keeping only the attribute with the largest gain so far for
+	 * each node. The splits of every node at the level are then chosen at
+	 * once, and each row is moved to the node it reaches on the next level.
+	 * The data is only ever read in order, instead of through the row indices
+	 * of each branch, and the tree is the same as the one buildTree makes.
+	 * @param actual the original data that the document is an article or not.
+	 * @param results 2D array containing the data of each feature being found.
+	 * @param descriptions the description of each feature
+	 * @throws IllegalArgumentException if the lengths of the arrays do not
+	 *             match
+	 */
+	public void buildTreeLevelWise(boolean[] actual, boolean[][] results, String[] descriptions)
+	{
+		buildTreeLevelWise(actual, results, descriptions, null);
+	}
+
+	/**
+	 * Builds the decision tree level-wise the same way as
+	 * buildTreeLevelWise, but when there are at least SCANTHRESHOLD
+	 * attributes, each level's pass over the data reads chunks of the
+	 * attributes at the same time in a fork/join pool. The tree is the same.
+	 * @param actual the original data that the document is an article or not.
+	 * @param results 2D array containing the data of each feature being found.
+	 * @param descriptions the description of each feature
+	 * @param pool the pool that reads the attributes, or null to read them in
+	 *            this thread
+	 * @throws IllegalArgumentException if the lengths of the arrays do not
+	 *             match
+	 */
+	public void buildTreeLevelWise(boolean[] actual, boolean[][] results, String[] descriptions,
+			ForkJoinPool pool)
+	{
+		checkData(actual, results, descriptions);
+		int attributes = results.length;
+
+		// the node of the current level that each row reaches, or -1 if the
+		// row reached a leaf
+		int[] nodeOfRow = new int[actual.length];
+		// the counts of one attribute for every node, reused by each attribute
+		// and level and grown to the widest level
+		int[] yesCount = new int[1];
+		int[] yesIndices = new int[1];
+		TreeNode[] level =
+		{ new TreeNode(0, ALWAYSNO) };
+		BitSet[] used =
+		{ new BitSet(attributes) };
+		TreeNode top = level[0];
+
+		while (level.length > 0)
+		{
+			// count the rows and articles of each node
+			int[] total = new int[level.length];
+			int[] actualYes = new int[level.length];
+			for (int i = 0; i < actual.length; i++)
+			{
+				int node = nodeOfRow[i];
+				if (node >= 0)
+				{
+					total[node]++;
+					if (actual[i])
+					{
+						actualYes[node]++;
+					}
+				}
+			}
+
+			// find the attribute with the largest gain for every node
+			if (yesCount.length < level.length)
+			{
+				yesCount = new int[level.length];
+				yesIndices = new int[level.length];
+			}
+			LevelGainTask gains = new LevelGainTask(this, actual, results, nodeOfRow, total, actualYes, used,
+					yesCount, yesIndices, 0, attributes, GAINCHUNKSIZE);
+			calculateGains(gains, pool, attributes);
+
+			// choose the split of every node, making the next level
+			int[] split = new int[level.length];
+			int[] firstChild = new int[level.length];
+			int children = 0;
+			for (int n = 0; n < level.length; n++)
+			{
+				split[n] = splitAttribute(total[n], actualYes[n], gains.best[n], gains.gains[n]);
+				if (split[n] < 0)
+				{
+					level[n].setNodeDescription(split[n] == YESLEAF ? ALWAYSYES : ALWAYSNO);
+				}
+				else
+				{
+					level[n].setNodeDescription(descriptions[split[n]]);
+					firstChild[n] = children;
+					children += 2;
+				}
+			}
+			TreeNode[] nextLevel = new TreeNode[children];
+			BitSet[] nextUsed = new BitSet[children];
+			for (int n = 0; n < level.length; n++)
+			{
+				if (split[n] >= 0)
+				{
+					int c = firstChild[n];
+					nextLevel[c] = new TreeNode(0, ALWAYSNO);
+					nextLevel[c + 1] = new TreeNode(0, ALWAYSNO);
+					level[n].setYesBranch(nextLevel[c]);
+					level[n].setNoBranch(nextLevel[c + 1]);
+					// both branches share the attributes used above them,
+					// since a level never changes them
+					nextUsed[c] = (BitSet) used[n].clone();
+					nextUsed[c].set(split[n]);
+					nextUsed[c + 1] = nextUsed[c];
+				}
+			}
+
+			// move each row to the branch it takes
+			for (int i = 0; i < nodeOfRow.length; i++)
+			{
+				int node = nodeOfRow[i];
+				if (node >= 0)
+				{
+					int attribute = split[node];
+					if (attribute < 0)
+					{
+						nodeOfRow[i] = -1;
+					}
+					else
+					{
+						nodeOfRow[i] = firstChild[node] + (results[attribute][i] ? 0 : 1);
+					}
+				}
+			}
+			level = nextLevel;
+			used = nextUsed;
+		}
+
+		root = top;
+		numberNodes(root, 0);
+	}
+
+	/**
+	 * Decides if a node of the level-wise builder is a leaf, or which
+	 * attribute it splits on, the same way as the recursive builder.
+	 * @param total the number of rows that reach the node
+	 * @param actualYesCount the number of the rows that are articles
+	 * @param largest the unused attribute with the largest gain, or -1 if
+	 *            there is none
+	 * @param largestGain the gain of that attribute
+	 * @return the index of the attribute, or YESLEAF or NOLEAF
+	 */
+	private static int splitAttribute(int total, int actualYesCount, int largest, double largestGain)
+	{
+		if (actualYesCount == 0 || total == 0)
+		{
+			return NOLEAF;
+		}
+		if (actualYesCount == total)
+		{
+			return YESLEAF;
+		}
+		if (largest < 0 || largestGain <= 0)
+		{
+			return actualYesCount * 2 > total ? YESLEAF : NOLEAF;
+		}
+		return largest;
+	}
+
+	/**
+	 * Builds the node for a range of the row indices, then its branches.
+	 * @param actual the original data that the document is an article or not.
+	 * @param results 2D array containing the data of each feature being found.
+	 * @param descriptions the description of each feature
+	 * @param rows the row indices, where the rows from start to end reach the
+	 *            node
+	 * @param start the first row index of the node
+	 * @param end the index after the last row index of the node
+	 * @param used the attributes already used above the node, which are set
+	 *            while the branches are built and restored before returning
+	 * @return the node, numbered 0 until numberNodes is called
+	 */
+	private TreeNode buildNode(boolean[] actual, boolean[][] results, String[] descriptions, int[] rows, int start,
+			int end, BitSet used)
+	{
+		int best = splitAttribute(actual, results, rows, start, end, used, null);
+		if (best < 0)
+		{
+			return leaf(best);
+		}
+		int middle = partition(results[best], rows, start, end);
+		used.set(best);
+		TreeNode node = new TreeNode(0, descriptions[best]);
+		node.setYesBranch(buildNode(actual, results, descriptions, rows, start, middle, used));
+		node.setNoBranch(buildNode(actual, results, descriptions, rows, middle, end, used));
+		used.clear(best);
+		return node;
+	}
+
+	/**
+	 * Decides if the node for a range of the row indices is a leaf, or which
+	 * attribute it splits on.
+	 * @param actual the original data that the document is an article or not.
+	 * @param results 2D array containing the data of each feature being found.
+	 * @param rows the row indices
+	 * @param start the first row index of the node
+	 * @param end the index after the last row index of the node
+	 * @param used the attributes already used above the node
+	 * @param pool the pool that calculates the gains, or null to calculate
+	 *            them in this thread
+	 * @return the index of the attribute, or YESLEAF or NOLEAF
+	 */
+	private int splitAttribute(boolean[] actual, boolean[][] results, int[] rows, int start, int end, BitSet used,
+			ForkJoinPool pool)
+	{
+		int total = end - start;
+		int actualYesCount = 0;
+		for (int i = start; i < end; i++)
+		{
+			if (actual[rows[i]])
+			{
+				actualYesCount++;
+			}
+		}
+		if (actualYesCount == 0 || total == 0)
+		{
+			return NOLEAF;
+		}
+		if (actualYesCount == total)
+		{
+			return YESLEAF;
+		}
+
+		int best = indexOfLargestGain(actual, results, rows, start, end, used, actualYesCount, pool);
+		if (best < 0)
+		{
+			return actualYesCount * 2 > total ? YESLEAF : NOLEAF;
+		}
+		return best;
+	}
+
+	/**
+	 * Moves the rows with an attribute to the front of a range of the row
+	 * indices, quicksort style.
+	 * @param column the attribute's data
+	 * @param rows the row indices
+	 * @param start the first row index of the range
+	 * @param end the index after the last row index of the range
+	 * @return the index of the first row without the attribute
+	 */
+	private static int partition(boolean[] column, int[] rows, int start, int end)
+	{
+		int low = start;
+		int high = end - 1;
+		while (low <= high)
+		{
+			if (column[rows[low]])
+			{
+				low++;
+			}
+			else
+			{
+				int swap = rows[low];
+				rows[low] = rows[high];
+				rows[high] = swap;
+				high--;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Creates a leaf node.
+	 * @param leaf YESLEAF or NOLEAF
+	 * @return an "Always Yes" or "Always No" node
+	 */
+	private static TreeNode leaf(int leaf)
+	{
+		return new TreeNode(0, leaf == YESLEAF ? ALWAYSYES : ALWAYSNO);
+	}
+
+	/**
+	 * Numbers the nodes of a built tree in preorder, the order they would be
+	 * made by building the tree one node at a time.
+	 * @param node the node to number first
+	 * @param id the ID of the node
+	 * @return the ID of the next node after the node and its branches
+	 */
+	private static int numberNodes(TreeNode node, int id)
+	{
+		node.setNodeId(id++);
+		if (node.getYesBranch() != null)
+		{
+			id = numberNodes(node.getYesBranch(), id);
+		}
+		if (node.getNoBranch() != null)
+		{
+			id = numberNodes(node.getNoBranch(), id);
+		}
+		return id;
+	}
+
+	/**
+	 * Creates the row indices of the training data.
+	 * @param size the number of rows
+	 * @return the indices from 0 to size - 1
+	 */
+	private static int[] allRows(int size)
+	{
+		int[] rows = new int[size];
+		for (int i = 0; i < size; i++)
+		{
+			rows[i] = i;
+		}
+		return rows;
+	}
+
+	/**
+	 * Checks that the training data can be used by the builder.
+	 * @param actual the original data that the document is an article or not.
+	 * @param results 2D array containing the data of each feature being found.
+	 * @param descriptions the description of each feature
+	 * @throws IllegalArgumentException if the lengths of the arrays do not
+	 *             match
+	 */
+	private static void checkData(boolean[] actual, boolean[][] results, String[] descriptions)
+	{
+		if (descriptions.length != results.length)
+		{
+			throw new IllegalArgumentException("Each attribute needs one description");
+		}
+		for (int i = 0; i < results.length; i++)
+		{
+			if (results[i].length != actual.length)
+			{
+				throw new IllegalArgumentException("Attribute " + i + " does not have a result for each row");
+			}
+		}
+	}
+
+	/**
+	 * Finds the unused attribute with the largest information gain for a
+	 * range of the row indices, keeping the first of any that are equal.
+	 * @param actual the original data that the document is an article or not.
+	 * @param results 2D array containing the data of each feature being found.
+	 * @param rows the row indices
+	 * @param start the first row index to use
+	 * @param end the index after the last row index to use
+	 * @param used the attributes that cannot be used
+	 * @param actualYesCount the number of the rows that are articles
+	 * @param pool the pool that calculates the gains, or null to calculate
+	 *            them in this thread
+	 * @return the index of the attribute, or -1 if no attribute has any gain
+	 */
+	private int indexOfLargestGain(boolean[] actual, boolean[][] results, int[] rows, int start, int end,
+			BitSet used, int actualYesCount, ForkJoinPool pool)
+	{
+		RowGainTask gains = new RowGainTask(this, actual, results, rows, start, end, used, actualYesCount, 0,
+				results.length, GAINCHUNKSIZE);
+		calculateGains(gains, pool, results.length);
+		return gains.gains[0] > 0 ? gains.best[0] : -1;
+	}
+
+	/**
+	 * Calculates the information gain of one attribute for a range of the row
+	 * indices.
+	 * @param actual the original data that the document is an article or not.
+	 * @param column the attribute's data
+	 * @param rows the row indices
+	 * @param start the first row index to use
+	 * @param end the index after the last row index to use
+	 * @param actualYesCount the number of the rows that are articles
+	 * @return the information gain
+	 */
+	private double gain(boolean[] actual, boolean[] column, int[] rows, int start, int end, int actualYesCount)
+	{
+		int total = end - start;
+		int yesCount = 0;
+		int yesIndices = 0;
+		int noIndices = 0;
+		for (int i = start; i < end; i++)
+		{
+			int row = rows[i];
+			if (column[row])
+			{
+				yesCount++;
+				if (actual[row])
+				{
+					yesIndices++;
+				}
+			}
+			else if (!actual[row])
+			{
+				noIndices++;
+			}
+		}
+		return gain(actualYesCount, total, yesCount, total - yesCount, total, yesIndices, noIndices);
+	}
+
 	/**
 	 * Calculates the information gain from a variety of values. This method
 	 * assumes that information entropy is being calculated correctly.
@@ -238,7 +1403,7 @@ public class DecisionTree
 		{
 			for (int j = 0; j < actual.size(); j++)
 			{
-				if (results.get(i) == actual.get(j))
+				if (results.get(i).intValue() == actual.get(j).intValue())
 				{
 					count++;
 				}
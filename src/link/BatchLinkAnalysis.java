@@ -0,0 +1,190 @@
+package link;
+
+/**
+ * The class containing the batch link analysis. Every URL in a UrlArena is run
+ * through the UrlFeatureScanner straight from the arena's buffer, through one
+ * reused view of the bytes, so no String or LinkAnalysis is created for each
+ * URL. The number of URLs and bytes and the time spent are added up over every
+ * batch, to show the throughput.
+ * @author Nick Rummel
+ */
+public class BatchLinkAnalysis
+{
+	/**
+	 * Instance variable that contains the view of the URL being scanned.
+	 */
+	protected ArenaView view;
+
+	/**
+	 * Instance variable that contains the number of URLs analyzed.
+	 */
+	protected long urlCount;
+
+	/**
+	 * Instance variable that contains the number of bytes of URLs analyzed.
+	 */
+	protected long byteCount;
+
+	/**
+	 * Instance variable that contains the time spent analyzing, in
+	 * nanoseconds.
+	 */
+	protected long elapsedNanos;
+
+	/**
+	 * Constructor of class that creates an analyzer with no batches run yet.
+	 */
+	public BatchLinkAnalysis()
+	{
+		view = new ArenaView();
+	}
+
+	/**
+	 * Finds the six link features of every URL in an arena. The results are
+	 * the same as LinkAnalysis gives for each URL.
+	 * @param arena the URLs
+	 * @return the features of each URL
+	 */
+	public LinkFeatureBatch analyze(UrlArena arena)
+	{
+		long start = System.nanoTime();
+		int size = arena.size();
+		LinkFeatureBatch result = new LinkFeatureBatch(size);
+		view.arena = arena;
+		for (int i = 0; i < size; i++)
+		{
+			view.start = arena.getStart(i);
+			view.length = arena.getLength(i);
+			result.set(i, UrlFeatureScanner.scan(view));
+		}
+		view.arena = null;
+		elapsedNanos += System.nanoTime() - start;
+		urlCount += size;
+		byteCount += arena.byteCount();
+		return result;
+	}
+
+	/**
+	 * Getter method for the number of URLs analyzed over every batch.
+	 * @return the number of URLs
+	 */
+	public long getUrlCount()
+	{
+		return urlCount;
+	}
+
+	/**
+	 * Getter method for the number of bytes of URLs analyzed over every batch.
+	 * @return the number of bytes
+	 */
+	public long getByteCount()
+	{
+		return byteCount;
+	}
+
+	/**
+	 * Getter method for the time spent analyzing over every batch.
+	 * @return the time in nanoseconds
+	 */
+	public long getElapsedNanos()
+	{
+		return elapsedNanos;
+	}
+
+	/**
+	 * Calculates the number of URLs analyzed per second.
+	 * @return the URLs per second, or 0 if nothing has been analyzed
+	 */
+	public double getUrlsPerSecond()
+	{
+		return perSecond(urlCount);
+	}
+
+	/**
+	 * Calculates the number of bytes of URLs analyzed per second.
+	 * @return the bytes per second, or 0 if nothing has been analyzed
+	 */
+	public double getBytesPerSecond()
+	{
+		return perSecond(byteCount);
+	}
+
+	/**
+	 * Sets the counts and time back to 0.
+	 */
+	public void resetMetrics()
+	{
+		urlCount = 0;
+		byteCount = 0;
+		elapsedNanos = 0;
+	}
+
+	/**
+	 * Divides a count by the time spent analyzing.
+	 * @param count the count
+	 * @return the count per second
+	 */
+	private double perSecond(long count)
+	{
+		if (elapsedNanos == 0)
+		{
+			return 0;
+		}
+		return count * 1e9 / elapsedNanos;
+	}
+
+	/**
+	 * The class containing a view of one URL in an arena as characters. The
+	 * view is moved from URL to URL, so only one is created per analyzer.
+	 */
+	protected static class ArenaView implements CharSequence
+	{
+		/**
+		 * Instance variable that contains the arena being viewed.
+		 */
+		UrlArena arena;
+
+		/**
+		 * Instance variable that contains the offset of the URL in the arena.
+		 */
+		int start;
+
+		/**
+		 * Instance variable that contains the length of the URL.
+		 */
+		int length;
+
+		@Override
+		public int length()
+		{
+			return length;
+		}
+
+		@Override
+		public char charAt(int index)
+		{
+			if (index < 0 || index >= length)
+			{
+				throw new IndexOutOfBoundsException("Index " + index + " is not in the URL");
+			}
+			return arena.charAt(start + index);
+		}
+
+		@Override
+		public CharSequence subSequence(int begin, int end)
+		{
+			return toString().substring(begin, end);
+		}
+
+		@Override
+		public String toString()
+		{
+			StringBuilder url = new StringBuilder(length);
+			for (int i = 0; i < length; i++)
+			{
+				url.append(arena.charAt(start + i));
+			}
+			return url.toString();
+		}
+	}
+}
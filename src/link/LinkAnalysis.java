@@ -12,6 +12,18 @@ public class LinkAnalysis
 	 */
 	protected String url;
 
+	/**
+	 * Instance variable that contains the feature mask of the URL it was found
+	 * for, so the URL is only scanned once.
+	 */
+	protected int features;
+
+	/**
+	 * Instance variable that contains the URL the feature mask was found for,
+	 * or null if the URL has not been scanned yet.
+	 */
+	protected String scannedURL;
+
 	/**
 	 * Constant that contains a list of reserve words that the URL should not
 	 * have.
@@ -19,6 +31,47 @@ public class LinkAnalysis
 	protected final String[] RESERVEWORDS =
 	{ "gallery", "video", "image", "slideshow", "photo", "episode", "player" };
 
+	/**
+	 * Constant for the bit of the feature mask that is set when the URL has at
+	 * least four slashes.
+	 */
+	public static final int FOURSLASHESFEATURE = 1;
+
+	/**
+	 * Constant for the bit of the feature mask that is set when the URL has an
+	 * ID number.
+	 */
+	public static final int IDNUMBERFEATURE = 2;
+
+	/**
+	 * Constant for the bit of the feature mask that is set when the URL has a
+	 * date.
+	 */
+	public static final int DATEFEATURE = 4;
+
+	/**
+	 * Constant for the bit of the feature mask that is set when the URL is at
+	 * least 50 characters long.
+	 */
+	public static final int LONGERLENGTHFEATURE = 8;
+
+	/**
+	 * Constant for the bit of the feature mask that is set when the URL does
+	 * not have a reserve word.
+	 */
+	public static final int NORESERVEDWORDFEATURE = 16;
+
+	/**
+	 * Constant for the bit of the feature mask that is set when the URL does
+	 * not end with a slash.
+	 */
+	public static final int NOENDSLASHFEATURE = 32;
+
+	/**
+	 * Constant for the feature mask with all six features set.
+	 */
+	public static final int ALLFEATURES = 63;
+
 	/**
 	 * Constructor of class that saves the URL.
 	 * @param url The URL link to the web page as a String
@@ -46,6 +99,22 @@ public class LinkAnalysis
 		this.url = url;
 	}
 
+	/**
+	 * Finds all six link features of the URL in one pass over the URL. The
+	 * mask is saved until the URL changes.
+	 * @return the feature mask, where the bit of each feature the URL has is
+	 *         set (FOURSLASHESFEATURE, IDNUMBERFEATURE, etc.)
+	 */
+	public int linkFeatureMask()
+	{
+		if (scannedURL != url)
+		{
+			features = UrlFeatureScanner.scan(url);
+			scannedURL = url;
+		}
+		return features;
+	}
+
 	/**
 	 * Checks if the URL has at least 4 or more slashes to be considered an
 	 * article.
@@ -53,14 +122,7 @@ public class LinkAnalysis
 	 */
 	public boolean linkHasFourSlashes()
 	{
-		if (countSlashes() >= 4)
-		{
-			return true;
-		}
-		else
-		{
-			return false;
-		}
+		return (linkFeatureMask() & FOURSLASHESFEATURE) != 0;
 	}
 
 	/**
@@ -85,128 +147,13 @@ public class LinkAnalysis
 	 * Checks if the URL instance variable has an identification number in the
 	 * String to be considered an article. The ID number could come after a
 	 * slash "/", after a title following a "-", as a URL parameter following
-	 * "&id=", or following an underscore "_".
+	 * "&id=", or following an underscore "_". A number too large for an int is
+	 * not an ID number.
 	 * @return true if an ID number exists, otherwise false
 	 */
 	public boolean linkHasIDNumber()
 	{
-		boolean idFlag = false;
-
-		// parse the URL into tokens where there is a slash "/"
-		String[] tokens = url.split("/");
-		for (int i = 0; i < tokens.length; i++)
-		{
-			// check if token length > 7
-			if (tokens[i].length() > 7)
-			{
-				int num = 0;
-				// try to convert into number
-				try
-				{
-					num = Integer.parseInt(tokens[i]);
-					if (num > 1000000)
-					{
-						idFlag = true;
-						break;
-					}
-				}
-				catch (NumberFormatException e)
-				{
-					// not a number, move on to next check
-				}
-
-				// if last check failed, token may be a title
-				// so parse based on hyphens "-"
-				String[] titleTokens = tokens[i].split("-");
-				for (int j = 0; j < titleTokens.length; j++)
-				{
-					// current title token starts with an int
-					if (titleTokens[j].charAt(0) >= '0' && titleTokens[j].charAt(0) <= '9')
-					{
-						String savedToken = "";
-						// case 1: title ends with html, so get rid of it
-						if (titleTokens[j].endsWith(".html"))
-						{
-							String[] numTokens = titleTokens[j].split(".html");
-							savedToken = numTokens[0];
-						}
-						// case 2: title ends with a number
-						else if (titleTokens[j].charAt(titleTokens[j].length() - 1) >= '0'
-								&& titleTokens[j].charAt(titleTokens[j].length() - 1) <= '9')
-						{
-							savedToken = titleTokens[j];
-						}
-						// try to convert into number
-						try
-						{
-							num = Integer.parseInt(savedToken);
-							if (num > 1000000)
-							{
-								idFlag = true;
-								break;
-							}
-						}
-						catch (NumberFormatException e)
-						{
-							// not a number, move on to next check
-						}
-					}
-				}
-
-				// if that fails, check if the number is in a parameter
-				if (tokens[i].contains("?id=") || tokens[i].contains("&id="))
-				{
-					// split into tokens based on "id="
-					String[] idTokens = tokens[i].split("id=");
-					for (int j = 0; j < idTokens.length; j++)
-					{
-						// find the string with the id number
-						String savedToken = "";
-						if (idTokens[j].charAt(idTokens[j].length() - 1) >= '0'
-								&& idTokens[j].charAt(idTokens[j].length() - 1) <= '9')
-						{
-							savedToken = idTokens[j];
-						}
-						else if (idTokens[j].contains("&"))
-						{
-							int index = idTokens[j].indexOf("&");
-							savedToken = idTokens[j].substring(0, index);
-						}
-						// try to convert to a number
-						try
-						{
-							num = Integer.parseInt(savedToken);
-							if (num > 1000000)
-							{
-								idFlag = true;
-								break;
-							}
-						}
-						catch (NumberFormatException e)
-						{
-							// not a number, move on to next check
-						}
-					}
-				}
-				// previous failed, so see if underscore exists
-				else if (tokens[i].contains("_"))
-				{
-					// create tokens from "_"
-					String[] lineTokens = tokens[i].split("_");
-					for (int j = 0; j < lineTokens.length; j++)
-					{
-						// check if token length > 7
-						if (lineTokens[j].length() > 7)
-						{
-							idFlag = true;
-							break;
-						}
-					}
-				}
-			}
-		}
-
-		return idFlag;
+		return (linkFeatureMask() & IDNUMBERFEATURE) != 0;
 	}
 
 	/**
@@ -216,56 +163,7 @@ public class LinkAnalysis
 	 */
 	public boolean linkHasDate()
 	{
-		boolean dateFlag = false;
-		String[] tokens = url.split("/");
-		// check each token
-		for (int i = 0; i < tokens.length; i++)
-		{
-			// token must have a length of 4, be all ints,
-			// and there must be two more elements in the array
-			if (tokens[i].length() == 4 && checkIfAllCharsAreInts(tokens[i]) && i < tokens.length - 2)
-			{
-				// check to see if the next two tokens have
-				// a length of 1 or 2
-				if ((tokens[i + 1].length() == 1 || tokens[i + 1].length() == 2)
-						&& (tokens[i + 2].length() == 1 || tokens[i + 2].length() == 2))
-				{
-					// check if all characters in next two tokens are ints
-					if (checkIfAllCharsAreInts(tokens[i + 1]) && checkIfAllCharsAreInts(tokens[i + 2]))
-					{
-						dateFlag = true;
-						break;
-					}
-				}
-			}
-		}
-		return dateFlag;
-	}
-
-	/**
-	 * Checks that each character is an integer in a String.
-	 * @param data The String to be checked.
-	 * @return true if all characters in the String are a number, otherwise
-	 *         false.
-	 */
-	protected boolean checkIfAllCharsAreInts(String data)
-	{
-		int count = 0;
-		for (int i = 0; i < data.length(); i++)
-		{
-			if (data.charAt(i) >= '0' && data.charAt(i) <= '9')
-			{
-				count++;
-			}
-		}
-		if (count == data.length())
-		{
-			return true;
-		}
-		else
-		{
-			return false;
-		}
+		return (linkFeatureMask() & DATEFEATURE) != 0;
 	}
 
 	/**
@@ -276,14 +174,7 @@ public class LinkAnalysis
 	 */
 	public boolean linkHasLongerLength()
 	{
-		if (url.length() >= 50)
-		{
-			return true;
-		}
-		else
-		{
-			return false;
-		}
+		return (linkFeatureMask() & LONGERLENGTHFEATURE) != 0;
 	}
 
 	/**
@@ -294,14 +185,7 @@ public class LinkAnalysis
 	 */
 	public boolean linkDoesNotContainReservedWord()
 	{
-		for (int i = 0; i < RESERVEWORDS.length; i++)
-		{
-			if (url.contains(RESERVEWORDS[i]))
-			{
-				return false;
-			}
-		}
-		return true;
+		return (linkFeatureMask() & NORESERVEDWORDFEATURE) != 0;
 	}
 
 	/**
@@ -311,14 +195,7 @@ public class LinkAnalysis
 	 */
 	public boolean linkDoesNotEndWithSlash()
 	{
-		if (url.endsWith("/"))
-		{
-			return false;
-		}
-		else
-		{
-			return true;
-		}
+		return (linkFeatureMask() & NOENDSLASHFEATURE) != 0;
 	}
 
 	/**
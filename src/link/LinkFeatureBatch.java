@@ -0,0 +1,135 @@
+package link;
+
+/**
+ * The class containing the link features of a batch of URLs. Each of the six
+ * features has its own bitset, where bit i is set when URL i of the batch has
+ * the feature, so the result of a large batch is kept in a few arrays of longs
+ * instead of an object for each URL.
+ * @author Nick Rummel
+ */
+public class LinkFeatureBatch
+{
+	/**
+	 * A constant for the number of link features.
+	 */
+	public static final int FEATURECOUNT = 6;
+
+	/**
+	 * Instance variable that contains the bitset of each feature, in the order
+	 * of the feature bits (FOURSLASHESFEATURE first).
+	 */
+	protected long[][] bits;
+
+	/**
+	 * Instance variable that contains the number of URLs in the batch.
+	 */
+	protected int size;
+
+	/**
+	 * Constructor of class that creates a result with no features set.
+	 * @param size the number of URLs in the batch
+	 */
+	public LinkFeatureBatch(int size)
+	{
+		this.size = size;
+		bits = new long[FEATURECOUNT][(size + 63) >>> 6];
+	}
+
+	/**
+	 * Saves the feature mask of one URL.
+	 * @param index the index of the URL
+	 * @param features the feature mask from UrlFeatureScanner
+	 */
+	public void set(int index, int features)
+	{
+		long bit = 1L << index;
+		int word = index >>> 6;
+		for (int i = 0; i < FEATURECOUNT; i++)
+		{
+			if ((features & (1 << i)) != 0)
+			{
+				bits[i][word] |= bit;
+			}
+		}
+	}
+
+	/**
+	 * Checks if a URL has a feature.
+	 * @param index the index of the URL
+	 * @param feature the feature bit (LinkAnalysis.FOURSLASHESFEATURE, etc.)
+	 * @return true if the URL has the feature, otherwise false
+	 */
+	public boolean has(int index, int feature)
+	{
+		return (bits[featureIndex(feature)][index >>> 6] & (1L << index)) != 0;
+	}
+
+	/**
+	 * Retrieves the feature mask of one URL.
+	 * @param index the index of the URL
+	 * @return the feature mask, the same as UrlFeatureScanner.scan
+	 */
+	public int getFeatures(int index)
+	{
+		int features = 0;
+		for (int i = 0; i < FEATURECOUNT; i++)
+		{
+			if ((bits[i][index >>> 6] & (1L << index)) != 0)
+			{
+				features |= 1 << i;
+			}
+		}
+		return features;
+	}
+
+	/**
+	 * Counts the URLs of the batch that have a feature.
+	 * @param feature the feature bit (LinkAnalysis.FOURSLASHESFEATURE, etc.)
+	 * @return the number of URLs with the feature
+	 */
+	public int count(int feature)
+	{
+		long[] set = bits[featureIndex(feature)];
+		int total = 0;
+		for (int i = 0; i < set.length; i++)
+		{
+			total += Long.bitCount(set[i]);
+		}
+		return total;
+	}
+
+	/**
+	 * Getter method for the bitset of a feature. The array is not copied, so
+	 * callers must not modify it.
+	 * @param feature the feature bit (LinkAnalysis.FOURSLASHESFEATURE, etc.)
+	 * @return the bitset, where bit i of word i / 64 is URL i
+	 */
+	public long[] getBits(int feature)
+	{
+		return bits[featureIndex(feature)];
+	}
+
+	/**
+	 * Getter method for the number of URLs in the batch.
+	 * @return the number of URLs
+	 */
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Finds the bitset of a feature bit.
+	 * @param feature the feature bit, which must have only one bit set
+	 * @return the index of the feature's bitset
+	 * @throws IllegalArgumentException if the value is not one feature bit
+	 */
+	private static int featureIndex(int feature)
+	{
+		if (Integer.bitCount(feature) != 1 || feature > LinkAnalysis.ALLFEATURES)
+		{
+			throw new IllegalArgumentException("Not a link feature: " + feature);
+		}
+		return Integer.numberOfTrailingZeros(feature);
+	}
+}
@@ -0,0 +1,203 @@
+package link;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import id3.DecisionTree;
+import id3.TreeNode;
+
+/**
+ * The class containing the link-only classifier. It walks a decision tree
+ * built from only the six link analysis attributes, the same way the runners
+ * test their decision trees, so a URL can be marked as an article or not
+ * before its HTML is ever fetched.
+ * @author Nick Rummel
+ */
+public class LinkTreeClassifier
+{
+	/**
+	 * A constant for the descriptions of the link analysis attributes, in the
+	 * order the runners use them.
+	 */
+	public static final String[] DESCRIPTIONS =
+	{ "Link Does Not Contain Reserve Word?", "Link Does Not End With Slash?", "Link Has Date?",
+			"Link Has Four Slashes?", "Link Has ID Number?", "Link Has Longer Length?" };
+
+	/**
+	 * A constant for the feature bit of each description.
+	 */
+	private static final int[] FEATURES =
+	{ LinkAnalysis.NORESERVEDWORDFEATURE, LinkAnalysis.NOENDSLASHFEATURE, LinkAnalysis.DATEFEATURE,
+			LinkAnalysis.FOURSLASHESFEATURE, LinkAnalysis.IDNUMBERFEATURE, LinkAnalysis.LONGERLENGTHFEATURE };
+
+	/**
+	 * Instance variable that contains the decision tree.
+	 */
+	protected DecisionTree tree;
+
+	/**
+	 * Instance variable that contains the number of URLs classified.
+	 */
+	protected long urlCount;
+
+	/**
+	 * Instance variable that contains the number of URLs classified as
+	 * articles.
+	 */
+	protected long articleCount;
+
+	/**
+	 * Constructor of class that saves the decision tree.
+	 * @param tree a decision tree built from the link analysis attributes
+	 */
+	public LinkTreeClassifier(DecisionTree tree)
+	{
+		this.tree = tree;
+	}
+
+	/**
+	 * Classifies a URL. A leading "http://" or "https://" is dropped first,
+	 * since the URLs the tree is trained on do not have one.
+	 * @param url the URL
+	 * @return true if the URL is classified as an article, otherwise false
+	 */
+	public boolean isArticle(String url)
+	{
+		boolean article = isArticle(UrlFeatureScanner.scan(stripScheme(url)));
+		urlCount++;
+		if (article)
+		{
+			articleCount++;
+		}
+		return article;
+	}
+
+	/**
+	 * Walks the decision tree with the link features of a URL.
+	 * @param features the feature mask from LinkAnalysis.linkFeatureMask
+	 * @return true if the features lead to an article, otherwise false
+	 * @throws IllegalArgumentException if the tree uses an attribute that is
+	 *             not a link attribute
+	 */
+	public boolean isArticle(int features)
+	{
+		TreeNode curNode = tree.getRoot();
+		while (curNode.getYesBranch() != null && curNode.getNoBranch() != null)
+		{
+			if (hasFeature(curNode, features))
+			{
+				curNode = curNode.getYesBranch();
+			}
+			else
+			{
+				curNode = curNode.getNoBranch();
+			}
+		}
+
+		// always yes means an article and always no means not an article
+		if (curNode.getNodeDescription().equals("Always Yes"))
+		{
+			return true;
+		}
+		else if (curNode.getNodeDescription().equals("Always No"))
+		{
+			return false;
+		}
+		// makes the last decision before arriving at the yes or no conclusion
+		return hasFeature(curNode, features);
+	}
+
+	/**
+	 * Classifies every URL of a stream, writing a line of "url,1" for an
+	 * article or "url,0" otherwise as soon as each URL is read.
+	 * @param in the URLs
+	 * @param out where the decisions are written
+	 * @return the number of URLs classified
+	 * @throws IOException if the URLs cannot be read or the decisions cannot
+	 *             be written
+	 */
+	public long classifyAll(UrlStreamReader in, Writer out) throws IOException
+	{
+		long count = 0;
+		String url;
+		while ((url = in.next()) != null)
+		{
+			out.write(url);
+			out.write(isArticle(url) ? ",1\n" : ",0\n");
+			count++;
+		}
+		out.flush();
+		return count;
+	}
+
+	/**
+	 * Getter method for the number of URLs classified.
+	 * @return the number of URLs
+	 */
+	public long getUrlCount()
+	{
+		return urlCount;
+	}
+
+	/**
+	 * Getter method for the number of URLs classified as articles.
+	 * @return the number of articles
+	 */
+	public long getArticleCount()
+	{
+		return articleCount;
+	}
+
+	/**
+	 * Drops a leading "http://" or "https://" from a URL.
+	 * @param url the URL
+	 * @return the URL without the scheme
+	 */
+	public static String stripScheme(String url)
+	{
+		if (url.regionMatches(true, 0, "http://", 0, 7))
+		{
+			return url.substring(7);
+		}
+		if (url.regionMatches(true, 0, "https://", 0, 8))
+		{
+			return url.substring(8);
+		}
+		return url;
+	}
+
+	/**
+	 * Finds the feature bit of a link attribute's description.
+	 * @param description the description of a tree node
+	 * @return the feature bit (LinkAnalysis.FOURSLASHESFEATURE, etc.), or 0 if
+	 *         the description is not a link attribute
+	 */
+	public static int featureOf(String description)
+	{
+		for (int i = 0; i < DESCRIPTIONS.length; i++)
+		{
+			if (DESCRIPTIONS[i].equals(description))
+			{
+				return FEATURES[i];
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Checks if the features have the attribute of a tree node.
+	 * @param node the node
+	 * @param features the feature mask
+	 * @return true if the feature of the node is set, otherwise false
+	 * @throws IllegalArgumentException if the node is not a link attribute
+	 */
+	private static boolean hasFeature(TreeNode node, int features)
+	{
+		int feature = featureOf(node.getNodeDescription());
+		if (feature == 0)
+		{
+			throw new IllegalArgumentException("Not a link attribute: " + node.getNodeDescription());
+		}
+		return (features & feature) != 0;
+	}
+}
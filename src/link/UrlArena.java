@@ -0,0 +1,229 @@
+package link;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * The class containing an arena of URLs packed one after another into a
+ * direct (off-heap) byte buffer. Each URL is kept as one byte per character,
+ * and its start is saved in a list of offsets, so millions of URLs can be
+ * kept without a String for each one. Characters above 0xFF, which should not
+ * be in a URL that has been percent-encoded, are saved as '?'.
+ * @author Nick Rummel
+ */
+public class UrlArena
+{
+	/**
+	 * A constant for the byte saved in place of a character above 0xFF.
+	 */
+	public static final byte REPLACEMENT = '?';
+
+	/**
+	 * Instance variable that contains the bytes of the URLs.
+	 */
+	protected ByteBuffer bytes;
+
+	/**
+	 * Instance variable that contains the offset of each URL in the buffer,
+	 * followed by the offset after the last URL.
+	 */
+	protected int[] offsets;
+
+	/**
+	 * Instance variable that contains the number of URLs in the arena.
+	 */
+	protected int count;
+
+	/**
+	 * Instance variable that is true if the arena uses a caller's buffer and
+	 * offsets, so URLs cannot be added or removed.
+	 */
+	protected boolean readOnly;
+
+	/**
+	 * Constructor of class that creates an empty arena.
+	 * @param byteCapacity the number of bytes to make room for at first
+	 * @param urlCapacity the number of URLs to make room for at first
+	 */
+	public UrlArena(int byteCapacity, int urlCapacity)
+	{
+		bytes = ByteBuffer.allocateDirect(Math.max(byteCapacity, 16));
+		offsets = new int[Math.max(urlCapacity, 1) + 1];
+		count = 0;
+		readOnly = false;
+	}
+
+	/**
+	 * Constructor of class that uses URLs that are already packed into a
+	 * buffer, such as a file mapped into memory. URL i is the bytes from
+	 * offsets[i] up to offsets[i + 1]. The buffer and offsets are not copied,
+	 * so the arena is read-only: the buffer may be a read-only mapped file,
+	 * and adding would write into the caller's offsets.
+	 * @param bytes the buffer with the URLs, from position 0
+	 * @param offsets the offset of each URL, followed by the offset after the
+	 *            last URL
+	 * @param count the number of URLs
+	 * @throws IllegalArgumentException if the offsets do not fit the buffer
+	 */
+	public UrlArena(ByteBuffer bytes, int[] offsets, int count)
+	{
+		if (count < 0 || offsets.length < count + 1)
+		{
+			throw new IllegalArgumentException("There must be one more offset than the number of URLs");
+		}
+		for (int i = 0; i < count; i++)
+		{
+			if (offsets[i] < 0 || offsets[i] > offsets[i + 1] || offsets[i + 1] > bytes.limit())
+			{
+				throw new IllegalArgumentException("The offsets of URL " + i + " are not in the buffer");
+			}
+		}
+		this.bytes = bytes;
+		this.offsets = offsets;
+		this.count = count;
+		readOnly = true;
+	}
+
+	/**
+	 * Adds a URL to the end of the arena, making the arena larger if needed.
+	 * @param url the URL
+	 * @throws UnsupportedOperationException if the arena is read-only
+	 */
+	public void add(CharSequence url)
+	{
+		checkWritable();
+		int start = offsets[count];
+		ensureCapacity(start + url.length());
+		if (count + 2 > offsets.length)
+		{
+			offsets = Arrays.copyOf(offsets, offsets.length * 2);
+		}
+		for (int i = 0; i < url.length(); i++)
+		{
+			char c = url.charAt(i);
+			bytes.put(start + i, c > 0xFF ? REPLACEMENT : (byte) c);
+		}
+		count++;
+		offsets[count] = start + url.length();
+	}
+
+	/**
+	 * Removes all of the URLs, keeping the memory for the next batch.
+	 * @throws UnsupportedOperationException if the arena is read-only
+	 */
+	public void clear()
+	{
+		checkWritable();
+		count = 0;
+		offsets[0] = 0;
+	}
+
+	/**
+	 * Getter method for whether the arena uses a caller's buffer and offsets.
+	 * @return true if URLs cannot be added or removed, otherwise false
+	 */
+	public boolean isReadOnly()
+	{
+		return readOnly;
+	}
+
+	/**
+	 * Getter method for the number of URLs in the arena.
+	 * @return the number of URLs
+	 */
+	public int size()
+	{
+		return count;
+	}
+
+	/**
+	 * Getter method for the number of bytes used by the URLs.
+	 * @return the number of bytes
+	 */
+	public int byteCount()
+	{
+		return offsets[count] - offsets[0];
+	}
+
+	/**
+	 * Getter method for the offset of a URL in the buffer.
+	 * @param index the index of the URL
+	 * @return the offset of the URL's first byte
+	 */
+	public int getStart(int index)
+	{
+		return offsets[index];
+	}
+
+	/**
+	 * Getter method for the length of a URL.
+	 * @param index the index of the URL
+	 * @return the number of characters in the URL
+	 */
+	public int getLength(int index)
+	{
+		return offsets[index + 1] - offsets[index];
+	}
+
+	/**
+	 * Getter method for one byte of the arena.
+	 * @param offset the offset of the byte in the buffer
+	 * @return the byte as a character from 0 to 0xFF
+	 */
+	public char charAt(int offset)
+	{
+		return (char) (bytes.get(offset) & 0xFF);
+	}
+
+	/**
+	 * Retrieves a URL as a String. This creates a String, so it should only be
+	 * used when the URL itself is needed.
+	 * @param index the index of the URL
+	 * @return the URL
+	 */
+	public String getURL(int index)
+	{
+		char[] url = new char[getLength(index)];
+		for (int i = 0; i < url.length; i++)
+		{
+			url[i] = charAt(offsets[index] + i);
+		}
+		return new String(url);
+	}
+
+	/**
+	 * Makes sure the buffer has room for a number of bytes, copying it into a
+	 * buffer twice as large when it is full.
+	 * @param size the number of bytes needed
+	 */
+	private void ensureCapacity(int size)
+	{
+		if (size <= bytes.limit())
+		{
+			return;
+		}
+		int capacity = Math.max(bytes.limit(), 16);
+		while (capacity < size)
+		{
+			capacity *= 2;
+		}
+		ByteBuffer larger = ByteBuffer.allocateDirect(capacity);
+		ByteBuffer used = bytes.duplicate();
+		used.position(0);
+		used.limit(offsets[count]);
+		larger.put(used);
+		bytes = larger;
+	}
+
+	/**
+	 * Checks that URLs can be added or removed.
+	 * @throws UnsupportedOperationException if the arena is read-only
+	 */
+	private void checkWritable()
+	{
+		if (readOnly)
+		{
+			throw new UnsupportedOperationException("An arena over a caller's buffer is read-only");
+		}
+	}
+}
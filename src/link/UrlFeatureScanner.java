@@ -0,0 +1,372 @@
+package link;
+
+/**
+ * The class containing the single pass link feature scanner. The URL is read
+ * once, from left to right, and all six link features are found as it goes,
+ * without splitting the URL or creating any objects. The results are the same
+ * as the LinkAnalysis rules have always given. The scanner works on any
+ * CharSequence, so a URL does not need to be a String.
+ * @author Nick Rummel
+ */
+public class UrlFeatureScanner
+{
+	/**
+	 * A constant for the list of reserve words that the URL should not have,
+	 * private since every scanner shares it.
+	 */
+	private static final String[] RESERVEWORDS =
+	{ "gallery", "video", "image", "slideshow", "photo", "episode", "player" };
+
+	/**
+	 * A constant for the number that an ID number must be more than.
+	 */
+	private static final long MINIMUMID = 1000000;
+
+	/**
+	 * A constant for the number of characters a part of the URL must have more
+	 * than to be checked for an ID number.
+	 */
+	private static final int IDLENGTH = 7;
+
+	/**
+	 * Private constructor, since the class only has static methods.
+	 */
+	private UrlFeatureScanner()
+	{
+	}
+
+	/**
+	 * Finds all six link features of a URL in one pass.
+	 * @param url the URL
+	 * @return the feature mask, where the bit of each feature the URL has is
+	 *         set (LinkAnalysis.FOURSLASHESFEATURE, etc.)
+	 */
+	public static int scan(CharSequence url)
+	{
+		int length = url.length();
+		int slashes = 0;
+		boolean hasID = false;
+		boolean hasDate = false;
+		boolean hasReserveWord = false;
+		// how many parts of a yyyy/mm/dd date have been seen in a row
+		int dateParts = 0;
+		int partStart = 0;
+		int partDigits = 0;
+		for (int i = 0; i <= length; i++)
+		{
+			char c = i < length ? url.charAt(i) : '/';
+			if (c != '/')
+			{
+				if (isDigit(c))
+				{
+					partDigits++;
+				}
+				if (!hasReserveWord && startsReserveWord(url, i))
+				{
+					hasReserveWord = true;
+				}
+				continue;
+			}
+			// the part between two slashes has ended
+			int partLength = i - partStart;
+			boolean allDigits = partDigits == partLength;
+			if (allDigits && (partLength == 1 || partLength == 2) && dateParts > 0)
+			{
+				dateParts++;
+				if (dateParts == 3)
+				{
+					hasDate = true;
+				}
+			}
+			else
+			{
+				dateParts = allDigits && partLength == 4 ? 1 : 0;
+			}
+			if (!hasID && partLength > IDLENGTH && partHasID(url, partStart, i))
+			{
+				hasID = true;
+			}
+			if (i < length)
+			{
+				slashes++;
+			}
+			partStart = i + 1;
+			partDigits = 0;
+		}
+
+		int features = 0;
+		if (slashes >= 4)
+		{
+			features |= LinkAnalysis.FOURSLASHESFEATURE;
+		}
+		if (hasID)
+		{
+			features |= LinkAnalysis.IDNUMBERFEATURE;
+		}
+		if (hasDate)
+		{
+			features |= LinkAnalysis.DATEFEATURE;
+		}
+		if (length >= 50)
+		{
+			features |= LinkAnalysis.LONGERLENGTHFEATURE;
+		}
+		if (!hasReserveWord)
+		{
+			features |= LinkAnalysis.NORESERVEDWORDFEATURE;
+		}
+		if (length == 0 || url.charAt(length - 1) != '/')
+		{
+			features |= LinkAnalysis.NOENDSLASHFEATURE;
+		}
+		return features;
+	}
+
+	/**
+	 * Checks if a part of the URL between two slashes has an ID number. The ID
+	 * number could be the whole part, come after a title following a "-", be a
+	 * URL parameter following "?id=" or "&id=", or follow an underscore "_".
+	 * @param url the URL
+	 * @param start the index of the first character of the part
+	 * @param end the index of the slash after the part, or the URL's length
+	 * @return true if an ID number exists, otherwise false
+	 */
+	private static boolean partHasID(CharSequence url, int start, int end)
+	{
+		// the whole part is a number
+		if (isID(url, start, end))
+		{
+			return true;
+		}
+
+		// the part may be a title, so check each word between hyphens "-"
+		int wordStart = start;
+		for (int i = start; i <= end; i++)
+		{
+			if (i == end || url.charAt(i) == '-')
+			{
+				if (i > wordStart && titleWordHasID(url, wordStart, i))
+				{
+					return true;
+				}
+				wordStart = i + 1;
+			}
+		}
+
+		// check if the number is in a parameter
+		if (indexOf(url, start, end, "?id=") >= 0 || indexOf(url, start, end, "&id=") >= 0)
+		{
+			int valueStart = start;
+			while (valueStart <= end)
+			{
+				int valueEnd = indexOf(url, valueStart, end, "id=");
+				if (valueEnd < 0)
+				{
+					valueEnd = end;
+				}
+				if (valueEnd > valueStart && parameterHasID(url, valueStart, valueEnd))
+				{
+					return true;
+				}
+				valueStart = valueEnd + 3;
+			}
+		}
+		// see if an underscore "_" separates a long number or word
+		else if (indexOf(url, start, end, "_") >= 0)
+		{
+			int wordLength = 0;
+			for (int i = start; i < end; i++)
+			{
+				if (url.charAt(i) == '_')
+				{
+					wordLength = 0;
+				}
+				else if (++wordLength > IDLENGTH)
+				{
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Checks if a word of a title starts with an ID number. The word must
+	 * start with a number and either end with a number or with ".html", which
+	 * is dropped along with anything after the first character followed by
+	 * "html".
+	 * @param url the URL
+	 * @param start the index of the first character of the word
+	 * @param end the index after the last character of the word
+	 * @return true if the word is an ID number, otherwise false
+	 */
+	private static boolean titleWordHasID(CharSequence url, int start, int end)
+	{
+		if (!isDigit(url.charAt(start)))
+		{
+			return false;
+		}
+		int numberEnd;
+		if (end - start >= 5 && regionEquals(url, end - 5, ".html"))
+		{
+			// the first "html" after any character other than a line break
+			numberEnd = start;
+			while (isLineTerminator(url.charAt(numberEnd)) || !regionEquals(url, numberEnd + 1, "html"))
+			{
+				numberEnd++;
+			}
+		}
+		else if (isDigit(url.charAt(end - 1)))
+		{
+			numberEnd = end;
+		}
+		else
+		{
+			return false;
+		}
+		return isID(url, start, numberEnd);
+	}
+
+	/**
+	 * Checks if the value of a URL parameter is an ID number. The value is the
+	 * text after "id=", up to the next "&" unless the text ends with a number.
+	 * @param url the URL
+	 * @param start the index of the first character of the value
+	 * @param end the index of the next "id=", or the end of the part
+	 * @return true if the value is an ID number, otherwise false
+	 */
+	private static boolean parameterHasID(CharSequence url, int start, int end)
+	{
+		int numberEnd = end;
+		if (!isDigit(url.charAt(end - 1)))
+		{
+			numberEnd = indexOf(url, start, end, "&");
+			if (numberEnd < 0)
+			{
+				return false;
+			}
+		}
+		return isID(url, start, numberEnd);
+	}
+
+	/**
+	 * Checks if part of the URL is a number more than 1,000,000, read the same
+	 * way as Integer.parseInt. A number too large for an int is not an ID
+	 * number.
+	 * @param url the URL
+	 * @param start the index of the first character of the number
+	 * @param end the index after the last character of the number
+	 * @return true if the text is an ID number, otherwise false
+	 */
+	private static boolean isID(CharSequence url, int start, int end)
+	{
+		int i = start;
+		if (i < end && url.charAt(i) == '+')
+		{
+			i++;
+		}
+		// a negative number or a sign without a number is never an ID
+		if (i == end || url.charAt(start) == '-')
+		{
+			return false;
+		}
+		long value = 0;
+		for (; i < end; i++)
+		{
+			int digit = Character.digit(url.charAt(i), 10);
+			if (digit < 0)
+			{
+				return false;
+			}
+			value = value * 10 + digit;
+			if (value > Integer.MAX_VALUE)
+			{
+				return false;
+			}
+		}
+		return value > MINIMUMID;
+	}
+
+	/**
+	 * Checks if one of the reserve words starts at an index of the URL.
+	 * @param url the URL
+	 * @param index the index to check
+	 * @return true if a reserve word starts at the index, otherwise false
+	 */
+	private static boolean startsReserveWord(CharSequence url, int index)
+	{
+		char c = url.charAt(index);
+		for (int i = 0; i < RESERVEWORDS.length; i++)
+		{
+			if (RESERVEWORDS[i].charAt(0) == c && regionEquals(url, index, RESERVEWORDS[i]))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Finds the first index of a word in part of the URL.
+	 * @param url the URL
+	 * @param start the index to start looking at
+	 * @param end the index after the last character to look at
+	 * @param word the word to find
+	 * @return the index of the word, or -1 if it is not in the part
+	 */
+	private static int indexOf(CharSequence url, int start, int end, String word)
+	{
+		for (int i = start; i + word.length() <= end; i++)
+		{
+			if (regionEquals(url, i, word))
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Checks if a word is at an index of the URL.
+	 * @param url the URL
+	 * @param index the index of the first character to compare
+	 * @param word the word
+	 * @return true if the word is at the index, otherwise false
+	 */
+	private static boolean regionEquals(CharSequence url, int index, String word)
+	{
+		if (index + word.length() > url.length())
+		{
+			return false;
+		}
+		for (int i = 0; i < word.length(); i++)
+		{
+			if (url.charAt(index + i) != word.charAt(i))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks if a character is an ASCII digit.
+	 * @param c the character
+	 * @return true if the character is from '0' to '9'
+	 */
+	private static boolean isDigit(char c)
+	{
+		return c >= '0' && c <= '9';
+	}
+
+	/**
+	 * Checks if a character ends a line, which the "." of a regular
+	 * expression does not match.
+	 * @param c the character
+	 * @return true if the character is a line terminator
+	 */
+	private static boolean isLineTerminator(char c)
+	{
+		return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+	}
+}
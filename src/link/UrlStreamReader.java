@@ -0,0 +1,596 @@
+package link;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * The class containing a streaming reader of URLs. The input can be a sitemap
+ * XML file, where each URL is the text of a loc element of the sitemap
+ * namespace (loc elements of extensions such as images are skipped), or a
+ * list with one URL on each line. Gzip-compressed input is found by its first
+ * two bytes and read as it is decompressed. The input is read one character
+ * at a time and only the URL being read is kept, so memory use does not grow
+ * with the size of the input.
+ * @author Nick Rummel
+ */
+public class UrlStreamReader implements Closeable
+{
+	/**
+	 * A constant for the most characters a URL can have. Longer URLs are
+	 * skipped so that one bad entry cannot use up memory.
+	 */
+	public static final int MAXURLLENGTH = 8192;
+
+	/**
+	 * A constant for the most characters of an XML entity, such as "&amp;".
+	 */
+	private static final int MAXENTITYLENGTH = 10;
+
+	/**
+	 * A constant for the most characters kept of a tag's name or attributes.
+	 */
+	private static final int MAXTAGLENGTH = 1024;
+
+	/**
+	 * A constant for the start of the sitemap namespace, without the version.
+	 */
+	private static final String SITEMAPNAMESPACE = "sitemaps.org/schemas/sitemap";
+
+	/**
+	 * Instance variable that contains the characters of the input.
+	 */
+	protected Reader reader;
+
+	/**
+	 * Instance variable that is true if the input is a sitemap XML file, or
+	 * false if it is a list of URLs.
+	 */
+	protected boolean xml;
+
+	/**
+	 * Instance variable that contains the URL being read.
+	 */
+	protected StringBuilder url;
+
+	/**
+	 * Instance variable that is true if the URL being read has gone over
+	 * MAXURLLENGTH characters.
+	 */
+	private boolean tooLong;
+
+	/**
+	 * Instance variable that contains the character that was read but not
+	 * used yet, or -2 if there is none.
+	 */
+	private int pushed;
+
+	/**
+	 * Instance variable that contains the name of the tag being read.
+	 */
+	private StringBuilder tagName;
+
+	/**
+	 * Instance variable that contains the attributes of the tag being read.
+	 */
+	private StringBuilder tagText;
+
+	/**
+	 * Instance variable that contains the prefix declared for the sitemap
+	 * namespace, or null if none has been declared.
+	 */
+	private String sitemapPrefix;
+
+	/**
+	 * Instance variable that contains the number of open elements inside an
+	 * extension element, counting the extension element, or 0 if the reader
+	 * is not in one.
+	 */
+	private int extensionDepth;
+
+	/**
+	 * Constructor of class that reads URLs from a stream, which may be gzip
+	 * compressed.
+	 * @param in the input stream
+	 * @throws IOException if the stream cannot be read
+	 */
+	public UrlStreamReader(InputStream in) throws IOException
+	{
+		BufferedInputStream buffered = new BufferedInputStream(in);
+		buffered.mark(2);
+		int first = buffered.read();
+		int second = buffered.read();
+		buffered.reset();
+		InputStream data = buffered;
+		if (first == 0x1F && second == 0x8B)
+		{
+			data = new GZIPInputStream(buffered);
+		}
+		reader = new BufferedReader(new InputStreamReader(data, StandardCharsets.UTF_8));
+		url = new StringBuilder();
+		tagName = new StringBuilder();
+		tagText = new StringBuilder();
+		sitemapPrefix = null;
+		extensionDepth = 0;
+		pushed = -2;
+
+		// the first character that is not white space tells if the input is XML
+		int c = read();
+		while (c == '\uFEFF' || (c != -1 && Character.isWhitespace(c)))
+		{
+			c = read();
+		}
+		xml = c == '<';
+		pushed = c;
+	}
+
+	/**
+	 * Opens a file of URLs.
+	 * @param file the sitemap or URL list, which may be gzip compressed
+	 * @return the reader
+	 * @throws IOException if the file cannot be read
+	 */
+	public static UrlStreamReader open(File file) throws IOException
+	{
+		return new UrlStreamReader(new FileInputStream(file));
+	}
+
+	/**
+	 * Getter method for whether the input is a sitemap XML file.
+	 * @return true if the input is XML, or false if it is a list of URLs
+	 */
+	public boolean isXML()
+	{
+		return xml;
+	}
+
+	/**
+	 * Reads the next URL.
+	 * @return the URL, or null at the end of the input
+	 * @throws IOException if the input cannot be read
+	 */
+	public String next() throws IOException
+	{
+		return xml ? nextLoc() : nextLine();
+	}
+
+	/**
+	 * Closes the input.
+	 * @throws IOException if the input cannot be closed
+	 */
+	@Override
+	public void close() throws IOException
+	{
+		reader.close();
+	}
+
+	/**
+	 * Reads the next URL from a list, skipping blank lines and lines that
+	 * start with "#".
+	 * @return the URL, or null at the end of the input
+	 * @throws IOException if the input cannot be read
+	 */
+	private String nextLine() throws IOException
+	{
+		int c = read();
+		while (c != -1)
+		{
+			startURL();
+			while (c != -1 && c != '\n')
+			{
+				append(c);
+				c = read();
+			}
+			String line = url.toString().trim();
+			if (!tooLong && line.length() > 0 && line.charAt(0) != '#')
+			{
+				return line;
+			}
+			c = read();
+		}
+		return null;
+	}
+
+	/**
+	 * Reads the next URL from a sitemap, which is the text of the next loc
+	 * element. Comments, declarations and all other elements are skipped.
+	 * @return the URL, or null at the end of the input
+	 * @throws IOException if the input cannot be read
+	 */
+	private String nextLoc() throws IOException
+	{
+		int c;
+		while ((c = read()) != -1)
+		{
+			if (c != '<')
+			{
+				continue;
+			}
+			c = read();
+			if (c == '!')
+			{
+				skipDeclaration();
+				continue;
+			}
+
+			if (readTag(c))
+			{
+				String text = readLocText();
+				if (text != null && text.length() > 0)
+				{
+					return text;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Reads a start or end tag up to its '>', keeping track of the sitemap
+	 * namespace prefix and of extension elements, such as image:image in a
+	 * news sitemap. An element is an extension if its name has a prefix that
+	 * is not the sitemap namespace's prefix, or it sets another default
+	 * namespace. Every element inside an extension is skipped, so its loc
+	 * elements (such as image:loc) are not read as page URLs.
+	 * @param c the character after the '<'
+	 * @return true if the tag is a loc start tag of the sitemap namespace
+	 *         outside of any extension, otherwise false
+	 * @throws IOException if the input cannot be read
+	 */
+	private boolean readTag(int c) throws IOException
+	{
+		boolean endTag = c == '/';
+		if (endTag)
+		{
+			c = read();
+		}
+		// read the name, remembering where its prefix ends
+		tagName.setLength(0);
+		int colon = -1;
+		while (c != -1 && c != '>' && c != '/' && !Character.isWhitespace(c))
+		{
+			if (tagName.length() < MAXTAGLENGTH)
+			{
+				if (c == ':' && colon < 0)
+				{
+					colon = tagName.length();
+				}
+				tagName.append((char) c);
+			}
+			c = read();
+		}
+		// read the attributes, up to the end of the tag
+		tagText.setLength(0);
+		int last = ' ';
+		while (c != -1 && c != '>')
+		{
+			if (tagText.length() < MAXTAGLENGTH)
+			{
+				tagText.append((char) c);
+			}
+			last = c;
+			c = read();
+		}
+		boolean empty = last == '/';
+		if (tagName.length() == 0 || tagName.charAt(0) == '?')
+		{
+			return false;
+		}
+
+		if (endTag)
+		{
+			if (extensionDepth > 0)
+			{
+				extensionDepth--;
+			}
+			return false;
+		}
+		boolean otherDefault = readNamespaces();
+		if (extensionDepth > 0 || (colon >= 0 ? !isSitemapPrefix(colon) : otherDefault))
+		{
+			if (!empty)
+			{
+				extensionDepth++;
+			}
+			return false;
+		}
+		int localStart = colon + 1;
+		return !empty && tagName.length() - localStart == 3 && tagName.charAt(localStart) == 'l'
+				&& tagName.charAt(localStart + 1) == 'o' && tagName.charAt(localStart + 2) == 'c';
+	}
+
+	/**
+	 * Reads the namespace declarations of the tag's attributes, saving the
+	 * prefix of the sitemap namespace when it is declared.
+	 * @return true if the tag sets a default namespace that is not the sitemap
+	 *         namespace, otherwise false
+	 */
+	private boolean readNamespaces()
+	{
+		boolean otherDefault = false;
+		int index = tagText.indexOf("xmlns");
+		while (index >= 0)
+		{
+			int equals = tagText.indexOf("=", index);
+			if (equals < 0)
+			{
+				break;
+			}
+			int valueStart = equals + 1;
+			while (valueStart < tagText.length() && Character.isWhitespace(tagText.charAt(valueStart)))
+			{
+				valueStart++;
+			}
+			if (valueStart < tagText.length() && (tagText.charAt(valueStart) == '"'
+					|| tagText.charAt(valueStart) == '\''))
+			{
+				int valueEnd = tagText.indexOf(String.valueOf(tagText.charAt(valueStart)), valueStart + 1);
+				if (valueEnd < 0)
+				{
+					valueEnd = tagText.length();
+				}
+				boolean sitemap = tagText.substring(valueStart + 1, valueEnd).contains(SITEMAPNAMESPACE);
+				String name = tagText.substring(index, equals).trim();
+				if (name.equals("xmlns"))
+				{
+					otherDefault = !sitemap;
+				}
+				else if (name.startsWith("xmlns:") && sitemap)
+				{
+					sitemapPrefix = name.substring(6);
+				}
+			}
+			index = tagText.indexOf("xmlns", valueStart);
+		}
+		return otherDefault;
+	}
+
+	/**
+	 * Checks if the prefix of the tag's name is the sitemap namespace's
+	 * prefix.
+	 * @param colon the index of the ':' in the name
+	 * @return true if the prefix was declared for the sitemap namespace
+	 */
+	private boolean isSitemapPrefix(int colon)
+	{
+		if (sitemapPrefix == null || sitemapPrefix.length() != colon)
+		{
+			return false;
+		}
+		for (int i = 0; i < colon; i++)
+		{
+			if (tagName.charAt(i) != sitemapPrefix.charAt(i))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Reads the text of a loc element up to its end tag, decoding entities
+	 * and CDATA sections.
+	 * @return the trimmed text, or null if it is longer than MAXURLLENGTH
+	 * @throws IOException if the input cannot be read
+	 */
+	private String readLocText() throws IOException
+	{
+		startURL();
+		int c = read();
+		while (c != -1)
+		{
+			if (c == '<')
+			{
+				if (!readCData())
+				{
+					break;
+				}
+			}
+			else if (c == '&')
+			{
+				appendEntity();
+			}
+			else
+			{
+				append(c);
+			}
+			c = read();
+		}
+		return tooLong ? null : url.toString().trim();
+	}
+
+	/**
+	 * Reads a CDATA section into the URL, after its "&lt;" has been read.
+	 * @return true if a CDATA section was read, or false if the "&lt;" starts
+	 *         another tag
+	 * @throws IOException if the input cannot be read
+	 */
+	private boolean readCData() throws IOException
+	{
+		String start = "![CDATA[";
+		for (int i = 0; i < start.length(); i++)
+		{
+			int c = read();
+			if (c != start.charAt(i))
+			{
+				pushed = c;
+				return false;
+			}
+		}
+		// copy the text up to "]]>", holding back brackets until it is known
+		// that they do not end the section
+		int brackets = 0;
+		int c;
+		while ((c = read()) != -1)
+		{
+			if (c == ']')
+			{
+				brackets++;
+				continue;
+			}
+			if (c == '>' && brackets >= 2)
+			{
+				for (int i = 2; i < brackets; i++)
+				{
+					append(']');
+				}
+				return true;
+			}
+			for (; brackets > 0; brackets--)
+			{
+				append(']');
+			}
+			append(c);
+		}
+		return true;
+	}
+
+	/**
+	 * Reads an entity after its "&amp;" has been read and adds the character
+	 * it stands for to the URL. An unknown entity is added as it was written.
+	 * @throws IOException if the input cannot be read
+	 */
+	private void appendEntity() throws IOException
+	{
+		StringBuilder name = new StringBuilder(MAXENTITYLENGTH);
+		int c = read();
+		while (c != -1 && c != ';' && c != '<' && name.length() < MAXENTITYLENGTH)
+		{
+			name.append((char) c);
+			c = read();
+		}
+		if (c != ';')
+		{
+			pushed = c;
+			append("&" + name);
+			return;
+		}
+		String entity = name.toString();
+		if (entity.equals("amp"))
+		{
+			append('&');
+		}
+		else if (entity.equals("lt"))
+		{
+			append('<');
+		}
+		else if (entity.equals("gt"))
+		{
+			append('>');
+		}
+		else if (entity.equals("quot"))
+		{
+			append('"');
+		}
+		else if (entity.equals("apos"))
+		{
+			append('\'');
+		}
+		else if (entity.startsWith("#"))
+		{
+			try
+			{
+				int code = entity.startsWith("#x") ? Integer.parseInt(entity.substring(2), 16)
+						: Integer.parseInt(entity.substring(1));
+				append(new String(Character.toChars(code)));
+			}
+			catch (IllegalArgumentException e)
+			{
+				append("&" + entity + ";");
+			}
+		}
+		else
+		{
+			append("&" + entity + ";");
+		}
+	}
+
+	/**
+	 * Skips a comment or declaration after its "&lt;!" has been read.
+	 * @throws IOException if the input cannot be read
+	 */
+	private void skipDeclaration() throws IOException
+	{
+		int c = read();
+		if (c == '-')
+		{
+			// a comment ends at the first "-->"
+			int dashes = 0;
+			while ((c = read()) != -1)
+			{
+				if (c == '>' && dashes >= 2)
+				{
+					return;
+				}
+				dashes = c == '-' ? dashes + 1 : 0;
+			}
+			return;
+		}
+		while (c != -1 && c != '>')
+		{
+			c = read();
+		}
+	}
+
+	/**
+	 * Starts reading a new URL.
+	 */
+	private void startURL()
+	{
+		url.setLength(0);
+		tooLong = false;
+	}
+
+	/**
+	 * Adds a character to the URL being read, unless the URL is already too
+	 * long.
+	 * @param c the character
+	 */
+	private void append(int c)
+	{
+		if (url.length() < MAXURLLENGTH)
+		{
+			url.append((char) c);
+		}
+		else
+		{
+			tooLong = true;
+		}
+	}
+
+	/**
+	 * Adds text to the URL being read, unless the URL is already too long.
+	 * @param text the text
+	 */
+	private void append(String text)
+	{
+		for (int i = 0; i < text.length(); i++)
+		{
+			append(text.charAt(i));
+		}
+	}
+
+	/**
+	 * Reads the next character, using the pushed back character first.
+	 * @return the character, or -1 at the end of the input
+	 * @throws IOException if the input cannot be read
+	 */
+	private int read() throws IOException
+	{
+		if (pushed != -2)
+		{
+			int c = pushed;
+			pushed = -2;
+			return c;
+		}
+		return reader.read();
+	}
+}
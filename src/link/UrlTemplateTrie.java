@@ -0,0 +1,436 @@
+package link;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * The class containing the per-host URL template learner. Each labelled URL is
+ * turned into a template, which is its host followed by the shape of each part
+ * of its path and query, and the template is added to a prefix trie that
+ * counts how many articles and non-articles ended at each template. Numbers
+ * become "#" and titles or IDs become "*", while short words such as section
+ * names are kept, so "abcnews.go.com/US/story?id=56957729" and
+ * "abcnews.go.com/US/story?id=56966621" share a template but
+ * "abcnews.go.com/US" does not. Each URL is also learned under a general
+ * template where every kept word becomes WORD, which is used when the exact
+ * template was not seen, such as a section that was not in the labelled
+ * URLs. A URL whose host or templates were never seen is left UNKNOWN, so the
+ * caller can fall back to visual feature detection.
+ *
+ * The trie is kept in parallel arrays of ints, with each node's children
+ * linked as first child and next sibling, and every token saved only once.
+ * @author Nick Rummel
+ */
+public class UrlTemplateTrie
+{
+	/**
+	 * A constant for a URL that is classified as an article.
+	 */
+	public static final int ARTICLE = 1;
+
+	/**
+	 * A constant for a URL that is classified as not an article.
+	 */
+	public static final int NOTARTICLE = 0;
+
+	/**
+	 * A constant for a URL whose template has not been seen, or has been seen
+	 * as often for articles as for non-articles.
+	 */
+	public static final int UNKNOWN = -1;
+
+	/**
+	 * A constant for the token of a part that is a number.
+	 */
+	public static final String NUMBER = "#";
+
+	/**
+	 * A constant for the token of a part that is a title or an ID.
+	 */
+	public static final String WILDCARD = "*";
+
+	/**
+	 * A constant for the token of a kept word in a general template.
+	 */
+	public static final String WORD = "@";
+
+	/**
+	 * A constant for the token added when a URL ends with a slash.
+	 */
+	public static final String ENDSLASH = "/";
+
+	/**
+	 * A constant for the most characters a word can have to be kept in the
+	 * template instead of becoming WILDCARD.
+	 */
+	private static final int MAXWORDLENGTH = 20;
+
+	/**
+	 * A constant for the most hyphens or underscores a word can have to be
+	 * kept, since a title has more.
+	 */
+	private static final int MAXSEPARATORS = 1;
+
+	/**
+	 * Instance variable that contains the token ID of each node.
+	 */
+	protected int[] token;
+
+	/**
+	 * Instance variable that contains the first child of each node, or -1.
+	 */
+	protected int[] firstChild;
+
+	/**
+	 * Instance variable that contains the next sibling of each node, or -1.
+	 */
+	protected int[] nextSibling;
+
+	/**
+	 * Instance variable that contains the number of articles whose template
+	 * ends at each node.
+	 */
+	protected int[] articles;
+
+	/**
+	 * Instance variable that contains the number of non-articles whose
+	 * template ends at each node.
+	 */
+	protected int[] others;
+
+	/**
+	 * Instance variable that contains the number of nodes, including the root.
+	 */
+	protected int nodeCount;
+
+	/**
+	 * Instance variable that contains the ID of each token.
+	 */
+	protected HashMap<String, Integer> tokenIDs;
+
+	/**
+	 * Instance variable that contains the number of labelled URLs a template
+	 * needs before it is used to classify.
+	 */
+	protected int minimumSupport;
+
+	/**
+	 * Constructor of class that creates an empty trie that classifies with any
+	 * template that has been seen at least once.
+	 */
+	public UrlTemplateTrie()
+	{
+		this(1);
+	}
+
+	/**
+	 * Constructor of class that creates an empty trie.
+	 * @param minimumSupport the number of labelled URLs a template needs
+	 *            before it is used to classify
+	 */
+	public UrlTemplateTrie(int minimumSupport)
+	{
+		this.minimumSupport = minimumSupport;
+		token = new int[16];
+		firstChild = new int[16];
+		nextSibling = new int[16];
+		articles = new int[16];
+		others = new int[16];
+		tokenIDs = new HashMap<String, Integer>();
+		// the root node has no token
+		nodeCount = 0;
+		addNode(-1);
+	}
+
+	/**
+	 * Adds a labelled URL to the trie.
+	 * @param url the URL, with or without "http://" or "https://"
+	 * @param isArticle true if the URL is an article, otherwise false
+	 */
+	public void learn(String url, boolean isArticle)
+	{
+		ArrayList<String> tokens = template(url);
+		ArrayList<String> general = generalize(tokens);
+		learn(tokens, isArticle);
+		if (!general.equals(tokens))
+		{
+			learn(general, isArticle);
+		}
+	}
+
+	/**
+	 * Adds the template of a labelled URL to the trie.
+	 * @param tokens the tokens of the template
+	 * @param isArticle true if the URL is an article, otherwise false
+	 */
+	private void learn(ArrayList<String> tokens, boolean isArticle)
+	{
+		int node = 0;
+		for (int i = 0; i < tokens.size(); i++)
+		{
+			Integer id = tokenIDs.get(tokens.get(i));
+			if (id == null)
+			{
+				id = tokenIDs.size();
+				tokenIDs.put(tokens.get(i), id);
+			}
+			int child = findChild(node, id);
+			if (child < 0)
+			{
+				child = addNode(id);
+				nextSibling[child] = firstChild[node];
+				firstChild[node] = child;
+			}
+			node = child;
+		}
+		if (isArticle)
+		{
+			articles[node]++;
+		}
+		else
+		{
+			others[node]++;
+		}
+	}
+
+	/**
+	 * Classifies a URL by its template, or by its general template if the
+	 * template does not decide.
+	 * @param url the URL, with or without "http://" or "https://"
+	 * @return ARTICLE or NOTARTICLE if most of the labelled URLs with the same
+	 *         template were, otherwise UNKNOWN
+	 */
+	public int classify(String url)
+	{
+		ArrayList<String> tokens = template(url);
+		int result = decide(findTemplate(tokens));
+		if (result == UNKNOWN)
+		{
+			ArrayList<String> general = generalize(tokens);
+			if (!general.equals(tokens))
+			{
+				result = decide(findTemplate(general));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Decides a URL from the labelled URLs whose template ends at a node.
+	 * @param node the node, or -1 if the template is not in the trie
+	 * @return ARTICLE or NOTARTICLE if most of the labelled URLs were,
+	 *         otherwise UNKNOWN
+	 */
+	private int decide(int node)
+	{
+		if (node < 0 || articles[node] + others[node] < minimumSupport || articles[node] == others[node])
+		{
+			return UNKNOWN;
+		}
+		return articles[node] > others[node] ? ARTICLE : NOTARTICLE;
+	}
+
+	/**
+	 * Checks if any URL of a host has been learned.
+	 * @param url a URL of the host
+	 * @return true if the host has been seen, otherwise false
+	 */
+	public boolean hasHost(String url)
+	{
+		Integer id = tokenIDs.get(template(url).get(0));
+		return id != null && findChild(0, id) >= 0;
+	}
+
+	/**
+	 * Getter method for the number of nodes in the trie, including the root.
+	 * @return the number of nodes
+	 */
+	public int size()
+	{
+		return nodeCount;
+	}
+
+	/**
+	 * Builds the template of a URL. The first token is the lower case host.
+	 * Each part of the path becomes NUMBER if it is all digits, WILDCARD if it
+	 * is a title or has digits, and the lower case part otherwise. Each query
+	 * parameter becomes "?name=" followed by the token of its value, and
+	 * ENDSLASH is added if the path ends with a slash.
+	 * @param url the URL, with or without "http://" or "https://"
+	 * @return the tokens of the template
+	 */
+	public static ArrayList<String> template(String url)
+	{
+		url = LinkTreeClassifier.stripScheme(url);
+		ArrayList<String> tokens = new ArrayList<String>();
+		int query = url.indexOf('?');
+		int pathEnd = query < 0 ? url.length() : query;
+		int slash = url.indexOf('/');
+		int hostEnd = slash < 0 || slash > pathEnd ? pathEnd : slash;
+		tokens.add(url.substring(0, hostEnd).toLowerCase());
+
+		// the parts of the path between slashes, skipping empty parts
+		int start = hostEnd + 1;
+		while (start < pathEnd)
+		{
+			int end = url.indexOf('/', start);
+			if (end < 0 || end > pathEnd)
+			{
+				end = pathEnd;
+			}
+			if (end > start)
+			{
+				tokens.add(shape(url, start, end));
+			}
+			start = end + 1;
+		}
+		if (hostEnd < pathEnd && url.charAt(pathEnd - 1) == '/')
+		{
+			tokens.add(ENDSLASH);
+		}
+
+		// the parameters of the query
+		start = pathEnd + 1;
+		while (start < url.length())
+		{
+			int end = url.indexOf('&', start);
+			if (end < 0)
+			{
+				end = url.length();
+			}
+			int equals = url.indexOf('=', start);
+			if (equals >= 0 && equals < end)
+			{
+				tokens.add("?" + url.substring(start, equals + 1).toLowerCase() + shape(url, equals + 1, end));
+			}
+			else if (end > start)
+			{
+				tokens.add("?" + url.substring(start, end).toLowerCase());
+			}
+			start = end + 1;
+		}
+		return tokens;
+	}
+
+	/**
+	 * Builds the general template of a URL from its template, where every kept
+	 * word of the path becomes WORD. The host and query are not changed.
+	 * @param tokens the tokens of the template
+	 * @return the tokens of the general template
+	 */
+	public static ArrayList<String> generalize(ArrayList<String> tokens)
+	{
+		ArrayList<String> general = new ArrayList<String>(tokens.size());
+		general.add(tokens.get(0));
+		for (int i = 1; i < tokens.size(); i++)
+		{
+			String t = tokens.get(i);
+			if (t.equals(NUMBER) || t.equals(WILDCARD) || t.equals(ENDSLASH) || t.startsWith("?"))
+			{
+				general.add(t);
+			}
+			else
+			{
+				general.add(WORD);
+			}
+		}
+		return general;
+	}
+
+	/**
+	 * Finds the token of one part of a URL.
+	 * @param url the URL
+	 * @param start the index of the first character of the part
+	 * @param end the index after the last character of the part
+	 * @return NUMBER, WILDCARD or the lower case part
+	 */
+	private static String shape(String url, int start, int end)
+	{
+		boolean allDigits = end > start;
+		boolean hasDigit = false;
+		int separators = 0;
+		for (int i = start; i < end; i++)
+		{
+			char c = url.charAt(i);
+			if (c >= '0' && c <= '9')
+			{
+				hasDigit = true;
+			}
+			else
+			{
+				allDigits = false;
+				if (c == '-' || c == '_')
+				{
+					separators++;
+				}
+			}
+		}
+		if (allDigits)
+		{
+			return NUMBER;
+		}
+		if (hasDigit || separators > MAXSEPARATORS || end - start > MAXWORDLENGTH)
+		{
+			return WILDCARD;
+		}
+		return url.substring(start, end).toLowerCase();
+	}
+
+	/**
+	 * Finds the node where a template ends.
+	 * @param tokens the tokens of the template
+	 * @return the node, or -1 if the template is not in the trie
+	 */
+	private int findTemplate(ArrayList<String> tokens)
+	{
+		int node = 0;
+		for (int i = 0; i < tokens.size() && node >= 0; i++)
+		{
+			Integer id = tokenIDs.get(tokens.get(i));
+			node = id == null ? -1 : findChild(node, id);
+		}
+		return node;
+	}
+
+	/**
+	 * Finds the child of a node with a token.
+	 * @param node the node
+	 * @param id the token ID
+	 * @return the child, or -1 if the node has no child with the token
+	 */
+	private int findChild(int node, int id)
+	{
+		int child = firstChild[node];
+		while (child >= 0 && token[child] != id)
+		{
+			child = nextSibling[child];
+		}
+		return child;
+	}
+
+	/**
+	 * Adds a node with no children, making the arrays larger if needed.
+	 * @param id the token ID of the node
+	 * @return the new node
+	 */
+	private int addNode(int id)
+	{
+		if (nodeCount == token.length)
+		{
+			int capacity = token.length * 2;
+			token = Arrays.copyOf(token, capacity);
+			firstChild = Arrays.copyOf(firstChild, capacity);
+			nextSibling = Arrays.copyOf(nextSibling, capacity);
+			articles = Arrays.copyOf(articles, capacity);
+			others = Arrays.copyOf(others, capacity);
+		}
+		int node = nodeCount++;
+		token[node] = id;
+		firstChild[node] = -1;
+		nextSibling[node] = -1;
+		articles[node] = 0;
+		others[node] = 0;
+		return node;
+	}
+}
@@ -1,10 +1,35 @@
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
+import content.TestAnchorIndex;
+import content.TestCascadeClassifier;
+import content.TestComputedStyleCache;
+import content.TestCssValueCache;
+import content.TestCssValueParser;
+import content.TestDateRecognizer;
+import content.TestDocumentOrderIndex;
+import content.TestFrequentWords;
+import content.TestHtmlColorTable;
+import content.TestPackedColor;
+import content.TestPageContext;
+import content.TestRuleChain;
+import content.TestStyleSheetIndex;
+import content.TestTextLengthIndex;
+import content.TestTextTable;
 import content.TestVisualFeatureDetection;
+import content.TestVisualLineIndex;
+import content.TestWordAutomaton;
+import id3.TestBitColumns;
 import id3.TestDecisionTree;
 import id3.TestTreeNode;
+import link.TestBatchLinkAnalysis;
 import link.TestLinkAnalysis;
+import link.TestLinkFeatureBatch;
+import link.TestLinkTreeClassifier;
+import link.TestUrlArena;
+import link.TestUrlFeatureScanner;
+import link.TestUrlStreamReader;
+import link.TestUrlTemplateTrie;
 
 /**
  * Run all JUnit tests as a suite for project
@@ -15,9 +40,34 @@ import link.TestLinkAnalysis;
 @Suite.SuiteClasses(
 { 
 	TestVisualFeatureDetection.class,
+	TestPageContext.class,
+	TestVisualLineIndex.class,
+	TestDocumentOrderIndex.class,
+	TestAnchorIndex.class,
+	TestStyleSheetIndex.class,
+	TestComputedStyleCache.class,
+	TestRuleChain.class,
+	TestTextTable.class,
+	TestTextLengthIndex.class,
+	TestHtmlColorTable.class,
+	TestCssValueParser.class,
+	TestCssValueCache.class,
+	TestPackedColor.class,
+	TestDateRecognizer.class,
+	TestWordAutomaton.class,
+	TestFrequentWords.class,
+	TestCascadeClassifier.class,
 	TestLinkAnalysis.class,
+	TestUrlFeatureScanner.class,
+	TestUrlArena.class,
+	TestLinkFeatureBatch.class,
+	TestBatchLinkAnalysis.class,
+	TestUrlStreamReader.class,
+	TestLinkTreeClassifier.class,
+	TestUrlTemplateTrie.class,
 	TestTreeNode.class,
-	TestDecisionTree.class
+	TestDecisionTree.class,
+	TestBitColumns.class
 
 })
 
@@ -0,0 +1,92 @@
+package content;
+
+import static org.junit.Assert.*;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A class that contains all of the JUnit tests related to the AnchorIndex
+ * class.
+ * @author Nick Rummel
+ *
+ */
+public class TestAnchorIndex
+{
+	Document doc;
+
+	AnchorIndex index;
+
+	/**
+	 * Builds the index for a small document with linked and unlinked text
+	 * before each test case.
+	 */
+	@Before
+	public void init()
+	{
+		doc = Jsoup.parse("<html><body><div id=\"outer\"><a href=\"#\"><span id=\"inner\"><p id=\"deep\">Deep</p>"
+				+ "</span></a></div><p id=\"parent\"><a href=\"#\">Link</a></p><p id=\"plain\">Plain</p>"
+				+ "<div id=\"grand\"><p><a href=\"#\">Grandchild</a></p></div></body></html>");
+		index = new AnchorIndex(new DocumentOrderIndex(doc));
+	}
+
+	/**
+	 * Tests that elements with an anchor as a parent at any level are found.
+	 */
+	@Test
+	public void testIsInsideAnchor()
+	{
+		assertTrue(index.isInsideAnchor(doc.getElementById("inner")));
+		assertTrue(index.isInsideAnchor(doc.getElementById("deep")));
+		assertFalse(index.isInsideAnchor(doc.getElementById("outer")));
+		assertFalse(index.isInsideAnchor(doc.getElementById("parent")));
+		assertFalse(index.isInsideAnchor(doc.getElementById("plain")));
+	}
+
+	/**
+	 * Tests that only elements with an anchor as a direct child are found.
+	 */
+	@Test
+	public void testHasAnchorChild()
+	{
+		assertTrue(index.hasAnchorChild(doc.getElementById("outer")));
+		assertTrue(index.hasAnchorChild(doc.getElementById("parent")));
+		assertFalse(index.hasAnchorChild(doc.getElementById("plain")));
+		// the anchor is a grandchild, not a child
+		assertFalse(index.hasAnchorChild(doc.getElementById("grand")));
+	}
+
+	/**
+	 * Tests that the index gives the same answer as comparing each element's
+	 * parents and children against every anchor.
+	 */
+	@Test
+	public void testIsHyperLinked()
+	{
+		for (Element element : doc.getAllElements())
+		{
+			boolean linked = false;
+			for (Element parent : element.parents())
+			{
+				if (parent.tagName().equals("a"))
+				{
+					linked = true;
+				}
+			}
+			for (Element child : element.children())
+			{
+				if (child.tagName().equals("a"))
+				{
+					linked = true;
+				}
+			}
+			assertEquals(linked, index.isHyperLinked(element));
+		}
+
+		// an element from another document is not linked
+		assertFalse(index.isHyperLinked(Jsoup.parse("<a href=\"#\">Other</a>").body()));
+	}
+}
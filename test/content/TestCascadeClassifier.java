@@ -0,0 +1,106 @@
+package content;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import id3.DecisionTree;
+import id3.TreeNode;
+
+/**
+ * A class that contains all of the JUnit tests related to the
+ * CascadeClassifier class.
+ * @author Nick Rummel
+ *
+ */
+public class TestCascadeClassifier
+{
+	CascadeClassifier cascade;
+
+	/**
+	 * Builds a tree that marks a page as an article when its URL has an ID
+	 * number, and otherwise when the page has a title.
+	 */
+	@Before
+	public void init()
+	{
+		DecisionTree tree = new DecisionTree(new TreeNode(0, "Link Has ID Number?"));
+		tree.addNodeToBranch(new TreeNode(1, "Always Yes"), 0, true);
+		tree.addNodeToBranch(new TreeNode(2, "Article Title Exists?"), 0, false);
+		cascade = new CascadeClassifier(tree);
+	}
+
+	/**
+	 * Tests that a page the URL settles is not parsed.
+	 */
+	@Test
+	public void testSkipsParsing()
+	{
+		// the HTML file does not exist, so it would fail if it was parsed
+		assertTrue(cascade.isArticle("abcnews.go.com/US/story?id=56957729", "testset\\missing.html"));
+		assertFalse(cascade.wasParsed());
+		assertEquals(0, cascade.getVisualFeaturesChecked());
+		assertEquals(1, cascade.getPageCount());
+		assertEquals(0, cascade.getParsedCount());
+		assertEquals(1, cascade.getSkippedCount());
+	}
+
+	/**
+	 * Tests that a page is parsed and only the visual feature the tree needs
+	 * is checked when the URL does not settle it.
+	 */
+	@Test
+	public void testParsesOnDemand()
+	{
+		for (int page = 1; page <= 3; page++)
+		{
+			String path = "testset\\testPage" + page + ".html";
+			boolean title = new VisualFeatureDetection(path).articleTitleExists();
+			assertEquals(title, cascade.isArticle("www.cnn.com/us", path));
+			assertTrue(cascade.wasParsed());
+			assertEquals(1, cascade.getVisualFeaturesChecked());
+		}
+		cascade.isArticle("abcnews.go.com/US/story?id=56957729", "testset\\testPage1.html");
+		assertEquals(4, cascade.getPageCount());
+		assertEquals(3, cascade.getParsedCount());
+		assertEquals(1, cascade.getSkippedCount());
+		assertEquals(3, cascade.getVisualFeatureCount());
+	}
+
+	/**
+	 * Tests that a visual feature used by more than one node is only checked
+	 * once for a page.
+	 */
+	@Test
+	public void testChecksFeatureOnce()
+	{
+		DecisionTree tree = new DecisionTree(new TreeNode(0, "Article Title Exists?"));
+		tree.addNodeToBranch(new TreeNode(1, "Link Has ID Number?"), 0, true);
+		tree.addNodeToBranch(new TreeNode(2, "Always No"), 0, false);
+		tree.addNodeToBranch(new TreeNode(3, "Article Title Exists?"), 1, true);
+		tree.addNodeToBranch(new TreeNode(4, "Article Title Exists?"), 1, false);
+		cascade = new CascadeClassifier(tree);
+		cascade.isArticle("www.cnn.com/us", "testset\\testPage1.html");
+		assertEquals(1, cascade.getVisualFeaturesChecked());
+		assertEquals(1, cascade.getVisualFeatureCount());
+	}
+
+	/**
+	 * Tests that a tree with an attribute that is not a visual feature or link
+	 * attribute cannot be walked.
+	 */
+	@Test
+	public void testNotAnAttribute()
+	{
+		cascade = new CascadeClassifier(new DecisionTree(new TreeNode(0, "Unknown?")));
+		try
+		{
+			cascade.isArticle("www.cnn.com/us", "testset\\testPage1.html");
+			fail("An unknown attribute should not be used by the cascade");
+		}
+		catch (IllegalArgumentException e)
+		{
+		}
+	}
+}
@@ -0,0 +1,83 @@
+package content;
+
+import static org.junit.Assert.*;
+
+import org.jsoup.select.Elements;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A class that contains all of the JUnit tests related to the
+ * ComputedStyleCache class.
+ * @author Nick Rummel
+ *
+ */
+public class TestComputedStyleCache
+{
+	ComputedStyleCache cache;
+
+	/**
+	 * Creates an empty cache for three elements before each test case.
+	 */
+	@Before
+	public void init()
+	{
+		cache = new ComputedStyleCache(3);
+	}
+
+	/**
+	 * Tests that font sizes are only saved for the elements they are set for.
+	 */
+	@Test
+	public void testFontSize()
+	{
+		assertFalse(cache.hasFontSize(1));
+		cache.setFontSize(1, 12.5);
+		assertTrue(cache.hasFontSize(1));
+		assertEquals(12.5, cache.getFontSize(1), 0.0);
+		// a negative size for an unreadable value is still saved
+		cache.setFontSize(2, -1.0);
+		assertTrue(cache.hasFontSize(2));
+		assertFalse(cache.hasFontSize(0));
+		// the color is saved separately
+		assertFalse(cache.hasFontColor(1));
+	}
+
+	/**
+	 * Tests that font colors are only saved for the elements they are set for.
+	 */
+	@Test
+	public void testFontColor()
+	{
+		assertFalse(cache.hasFontColor(0));
+		// black is saved as 0, which must still count as saved
+		cache.setFontColor(0, 0x000000);
+		assertTrue(cache.hasFontColor(0));
+		assertEquals(0x000000, cache.getFontColor(0));
+		cache.setFontColor(2, 0x0000FF);
+		assertEquals(0x0000FF, cache.getFontColor(2));
+		assertFalse(cache.hasFontSize(0));
+	}
+
+	/**
+	 * Tests that the visual feature detection saves the style of an element
+	 * the first time it is calculated.
+	 */
+	@Test
+	public void testVisualFeatureDetectionStyles()
+	{
+		VisualFeatureDetection vfd = new VisualFeatureDetection("testset\\testPage2.html");
+		Elements allElements = vfd.getAllTextElements();
+		ComputedStyleCache computed = vfd.getContext().getComputedStyleCache();
+		int ordinal = vfd.getContext().getDocumentOrderIndex().ordinalOf(allElements.get(0));
+		assertFalse(computed.hasFontColor(ordinal));
+
+		// paragraph is red
+		assertEquals(0xFF0000, vfd.getFontColor(allElements.get(0)));
+		assertTrue(computed.hasFontColor(ordinal));
+		// h1 is blue
+		assertEquals(0x0000FF, vfd.getFontColor(allElements.get(1)));
+		// h2 has the default size of 1.5em
+		assertEquals(24.0, vfd.getFontSize(allElements.get(2)), 0.0);
+	}
+}
@@ -0,0 +1,56 @@
+package content;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A class that contains all of the JUnit tests related to the CssValueCache
+ * class.
+ * @author Nick Rummel
+ *
+ */
+public class TestCssValueCache
+{
+	CssValueCache cache;
+
+	/**
+	 * Creates an empty cache before each test case.
+	 */
+	@Before
+	public void init()
+	{
+		cache = new CssValueCache(16.0);
+	}
+
+	/**
+	 * Tests that the cached values are the same as reading the style.
+	 */
+	@Test
+	public void testValues()
+	{
+		String style = "font-size:1.5em; color:#00F;";
+		assertEquals(24.0, cache.getFontSize(style), 0.0);
+		assertEquals(0x0000FF, cache.getColor(style));
+		// the second lookup is saved
+		assertEquals(24.0, cache.getFontSize(style), 0.0);
+		assertEquals(0x0000FF, cache.getColor(style));
+		assertEquals(CssValueParser.NOCOLOR, cache.getColor("font-weight:bold;"));
+	}
+
+	/**
+	 * Tests that only the most recently used styles are kept.
+	 */
+	@Test
+	public void testCapacity()
+	{
+		for (int i = 0; i < CssValueCache.CAPACITY * 2; i++)
+		{
+			assertEquals(i, cache.getFontSize("font-size:" + i + "px;"), 0.0);
+		}
+		assertEquals(CssValueCache.CAPACITY, cache.fontSizes.size());
+		assertTrue(cache.fontSizes.containsKey("font-size:" + (CssValueCache.CAPACITY * 2 - 1) + "px;"));
+		assertFalse(cache.fontSizes.containsKey("font-size:0px;"));
+	}
+}
@@ -0,0 +1,117 @@
+package content;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * A class that contains all of the JUnit tests related to the CssValueParser
+ * class.
+ * @author Nick Rummel
+ *
+ */
+public class TestCssValueParser
+{
+	/**
+	 * Tests font sizes in pixels, em, and percent.
+	 */
+	@Test
+	public void testParseFontSize()
+	{
+		assertEquals(12.0, CssValueParser.parseFontSize("font-size:12px;", 16.0), 0.0);
+		assertEquals(12.0, CssValueParser.parseFontSize("font-size: 12px;", 16.0), 0.0);
+		assertEquals(24.0, CssValueParser.parseFontSize("font-size:1.5em;", 16.0), 0.0);
+		// percentages drop the last two characters of the number window
+		assertEquals(0.01, CssValueParser.parseFontSize("font-size:120%;", 16.0), 0.0);
+		// the size comes from the token after font-size
+		assertEquals(14.0, CssValueParser.parseFontSize("font-weight:bold; font-size:14px; color:#333", 16.0), 0.0);
+		// the declared value from a style sheet has no font-size in it
+		assertEquals(20.0, CssValueParser.parseFontSize(":20px;}\nh2 {color: red;", 16.0), 0.0);
+	}
+
+	/**
+	 * Tests font sizes that can't be read.
+	 */
+	@Test
+	public void testParseFontSizeNotFound()
+	{
+		// no unit
+		assertEquals(CssValueParser.NOFONTSIZE, CssValueParser.parseFontSize("color:red", 16.0), 0.0);
+		// the window keeps the unit when the value ends the style
+		assertEquals(CssValueParser.NOFONTSIZE, CssValueParser.parseFontSize("font-size:2em", 16.0), 0.0);
+		assertEquals(CssValueParser.NOFONTSIZE, CssValueParser.parseFontSize("font-size:9px", 16.0), 0.0);
+		// too short to have a number
+		assertEquals(CssValueParser.NOFONTSIZE, CssValueParser.parseFontSize("font-size:%", 16.0), 0.0);
+	}
+
+	/**
+	 * Tests colors as hex codes, rgb(), rgba(), hsl(), and names.
+	 */
+	@Test
+	public void testParseColor()
+	{
+		assertEquals(0x0000FF, CssValueParser.parseColor("color:#00F;"));
+		assertEquals(0x0000FF, CssValueParser.parseColor("color: #0000ff;"));
+		assertEquals(0x345678, CssValueParser.parseColor("color:#12345678"));
+		assertEquals(0x010203, CssValueParser.parseColor("color:rgb(1,2,3,4)"));
+		assertEquals(0x0A141E, CssValueParser.parseColor("color:rgba(10,20,30,0.5);"));
+		assertEquals(0xFF0000, CssValueParser.parseColor("color:hsl(0,100%,100%,)"));
+		assertEquals(0x0000FF, CssValueParser.parseColor("color: Blue;"));
+		assertEquals(0xFF0000, CssValueParser.parseColor("font-size:12px; color: red"));
+		// the token before color is skipped when it ends with '-'
+		assertEquals(0x808080, CssValueParser.parseColor("border-color:gray"));
+	}
+
+	/**
+	 * Tests colors that can't be read.
+	 */
+	@Test
+	public void testParseColorNotFound()
+	{
+		assertEquals(CssValueParser.NOCOLOR, CssValueParser.parseColor("color: notacolor;"));
+		assertEquals(CssValueParser.NOCOLOR, CssValueParser.parseColor("color:#xyz;"));
+		// values outside 0-255 and missing values are not colors
+		assertEquals(CssValueParser.NOCOLOR, CssValueParser.parseColor("color:rgb(300,0,0,)"));
+		assertEquals(CssValueParser.NOCOLOR, CssValueParser.parseColor("color:hsla(0,50%,25%,1)"));
+		assertEquals(CssValueParser.NOCOLOR, CssValueParser.parseColor(""));
+	}
+
+	/**
+	 * Tests that CSS numbers are read the same way as Double.parseDouble, and
+	 * that other text Java could read as a number is not a CSS number.
+	 */
+	@Test
+	public void testNumbers()
+	{
+		String[] numbers =
+		{ "1", " 2.5 ", "-0", "+7", ".5", "0.1", "0.05", "12.75", "123456789012345", "1234567890.12345" };
+		for (int i = 0; i < numbers.length; i++)
+		{
+			String number = numbers[i];
+			assertTrue(CssValueParser.isNumber(number, 0, number.length()));
+			assertEquals(Double.doubleToLongBits(Double.parseDouble(number)),
+					Double.doubleToLongBits(CssValueParser.parseNumber(number, 0, number.length())));
+		}
+		// digits past the exact ones still count for their place
+		assertEquals(1.2345678901234567e17, CssValueParser.parseNumber("123456789012345678", 0, 18), 1e3);
+
+		String[] notNumbers =
+		{ "", " ", ".", "1.", "-", "1e3", "1.5f", "NaN", "-Infinity", "0x1p3", "1px", "--1", "1.2.3" };
+		for (int i = 0; i < notNumbers.length; i++)
+		{
+			assertFalse(CssValueParser.isNumber(notNumbers[i], 0, notNumbers[i].length()));
+		}
+	}
+
+	/**
+	 * Tests that a font size that Java would read as a number, but CSS does
+	 * not, could not be read.
+	 */
+	@Test
+	public void testParseFontSizeNotCssNumber()
+	{
+		assertEquals(CssValueParser.NOFONTSIZE, CssValueParser.parseFontSize("font-size:NaNem", 16.0), 0.0);
+		assertEquals(CssValueParser.NOFONTSIZE, CssValueParser.parseFontSize("font-size:1dem", 16.0), 0.0);
+		assertEquals(24.0, CssValueParser.parseFontSize("font-size:1.5em", 16.0), 0.0);
+	}
+}
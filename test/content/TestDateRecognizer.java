@@ -0,0 +1,82 @@
+package content;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * A class that contains all of the JUnit tests related to the DateRecognizer
+ * class.
+ * @author Nick Rummel
+ *
+ */
+public class TestDateRecognizer
+{
+	/**
+	 * Tests dates written with the name of the month.
+	 */
+	@Test
+	public void testMonthNames()
+	{
+		assertTrue(DateRecognizer.matches("Jan 5, 2018"));
+		assertTrue(DateRecognizer.matches("January 05, 2018"));
+		assertTrue(DateRecognizer.matches("Posted on Sept. 5"));
+		assertTrue(DateRecognizer.matches("Dec 24"));
+		assertTrue(DateRecognizer.matches("NOV. 16, 2017"));
+		// dd month
+		assertTrue(DateRecognizer.matches("31 Jul"));
+		assertTrue(DateRecognizer.matches("5 July 2018"));
+		// a month name needs a day next to it
+		assertFalse(DateRecognizer.matches("July"));
+		assertFalse(DateRecognizer.matches("In March, 2018"));
+		// words that start with a month name are not months
+		assertFalse(DateRecognizer.matches("Mars 13 hrs ago"));
+		assertFalse(DateRecognizer.matches("Marketing 2"));
+		assertFalse(DateRecognizer.matches("may 5"));
+	}
+
+	/**
+	 * Tests dates written as numbers.
+	 */
+	@Test
+	public void testNumericDates()
+	{
+		assertTrue(DateRecognizer.matches("07/05/2018"));
+		assertTrue(DateRecognizer.matches("Updated 7/5/18"));
+		assertTrue(DateRecognizer.matches("07-05-2018"));
+		assertTrue(DateRecognizer.matches("2018-07-05"));
+		assertTrue(DateRecognizer.matches("(2018/7/5)"));
+		// the separators must be the same
+		assertFalse(DateRecognizer.matches("07/05-2018"));
+		// a one digit year is not a date
+		assertFalse(DateRecognizer.matches("7/5/1"));
+		assertFalse(DateRecognizer.matches("123/45/6789"));
+		assertFalse(DateRecognizer.matches("07/05/2018th"));
+		assertFalse(DateRecognizer.matches("x07/05/2018"));
+		assertFalse(DateRecognizer.matches("1,000 views"));
+	}
+
+	/**
+	 * Tests ISO timestamps.
+	 */
+	@Test
+	public void testTimestamps()
+	{
+		assertTrue(DateRecognizer.matches("2018-07-05T14:30:00Z"));
+		assertTrue(DateRecognizer.matches("2018-07-05T14:30+02:00"));
+		assertFalse(DateRecognizer.matches("2018-07-05T14"));
+		assertFalse(DateRecognizer.matches("2018-07-05Tuesday"));
+	}
+
+	/**
+	 * Tests checking part of a text.
+	 */
+	@Test
+	public void testRange()
+	{
+		String text = "on 07/05/2018 by staff";
+		assertTrue(DateRecognizer.matches(text, 3, 13));
+		assertFalse(DateRecognizer.matches(text, 14, text.length()));
+		assertFalse(DateRecognizer.matches(""));
+	}
+}
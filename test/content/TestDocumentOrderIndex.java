@@ -0,0 +1,103 @@
+package content;
+
+import static org.junit.Assert.*;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A class that contains all of the JUnit tests related to the
+ * DocumentOrderIndex class.
+ * @author Nick Rummel
+ *
+ */
+public class TestDocumentOrderIndex
+{
+	Document doc;
+
+	DocumentOrderIndex index;
+
+	/**
+	 * Builds the index for a small document before each test case.
+	 */
+	@Before
+	public void init()
+	{
+		doc = Jsoup.parse("<html><head><title>Test</title></head><body><div><p>One</p><p>Two</p></div>"
+				+ "<h1>Three</h1></body></html>");
+		index = new DocumentOrderIndex(doc);
+	}
+
+	/**
+	 * Tests that the elements are numbered in document order.
+	 */
+	@Test
+	public void testOrdinals()
+	{
+		Elements allElements = doc.getAllElements();
+		assertEquals(allElements.size(), index.size());
+		for (int i = 0; i < allElements.size(); i++)
+		{
+			assertEquals(i, index.ordinalOf(allElements.get(i)));
+			assertEquals(allElements.get(i), index.elementAt(i));
+		}
+		// an element from another document is not found
+		assertEquals(-1, index.ordinalOf(Jsoup.parse("<p>Other</p>").body()));
+	}
+
+	/**
+	 * Tests that the last element under each element is found.
+	 */
+	@Test
+	public void testLastDescendantOf()
+	{
+		int div = index.ordinalOf(doc.select("div").first());
+		int h1 = index.ordinalOf(doc.select("h1").first());
+		// the div contains the two paragraphs
+		assertEquals(div + 2, index.lastDescendantOf(div));
+		// the heading has no child elements
+		assertEquals(h1, index.lastDescendantOf(h1));
+		// the root contains every element
+		assertEquals(index.size() - 1, index.lastDescendantOf(0));
+	}
+
+	/**
+	 * Tests that the location of each element under the body is the same as
+	 * its index in the list of all body nodes.
+	 */
+	@Test
+	public void testBodyPositionOf()
+	{
+		Elements domTree = doc.body().children().select("*");
+		assertEquals(domTree.size(), index.getBodyNodeCount());
+		for (int i = 0; i < domTree.size(); i++)
+		{
+			assertEquals(i, index.bodyPositionOf(domTree.get(i)));
+		}
+		// the head and body themselves are not under the body
+		assertEquals(-1, index.bodyPositionOf(doc.head()));
+		assertEquals(-1, index.bodyPositionOf(doc.body()));
+	}
+
+	/**
+	 * Tests that only the first half of the body nodes are in the top half.
+	 */
+	@Test
+	public void testIsInTopHalfOfBody()
+	{
+		Element div = doc.select("div").first();
+		Element first = doc.select("p").get(0);
+		Element second = doc.select("p").get(1);
+		Element heading = doc.select("h1").first();
+		// 0/4 and 1/4 are less than 50%
+		assertTrue(index.isInTopHalfOfBody(div));
+		assertTrue(index.isInTopHalfOfBody(first));
+		// 2/4 and 3/4 are not
+		assertFalse(index.isInTopHalfOfBody(second));
+		assertFalse(index.isInTopHalfOfBody(heading));
+	}
+}
@@ -0,0 +1,35 @@
+package content;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * A class that contains all of the JUnit tests related to the FrequentWords
+ * class.
+ * @author Nick Rummel
+ *
+ */
+public class TestFrequentWords
+{
+	/**
+	 * Tests that each feature's words are found in one scan.
+	 */
+	@Test
+	public void testScan()
+	{
+		assertEquals(VisualFeatureDetection.AUTHORFEATURE, FrequentWords.scan("by nick rummel"));
+		assertEquals(VisualFeatureDetection.AUTHORFEATURE, FrequentWords.scan("author: staff"));
+		assertEquals(VisualFeatureDetection.COMMENTLINKFEATURE, FrequentWords.scan("comment"));
+		assertEquals(VisualFeatureDetection.SOURCEFEATURE, FrequentWords.scan("source: ap"));
+		assertEquals(VisualFeatureDetection.CATEGORYFEATURE, FrequentWords.scan("news->world"));
+		assertEquals(VisualFeatureDetection.CATEGORYFEATURE, FrequentWords.scan("news|world"));
+		assertEquals(VisualFeatureDetection.RELATEDNEWSLINKSFEATURE, FrequentWords.scan("related links"));
+		assertEquals(VisualFeatureDetection.AUTHORFEATURE | VisualFeatureDetection.SOURCEFEATURE
+				| VisualFeatureDetection.CATEGORYFEATURE, FrequentWords.scan("news > from ap, by staff"));
+		// the words must stand by themselves, other than the category's
+		assertEquals(0, FrequentWords.scan("comments"));
+		assertEquals(0, FrequentWords.scan("nearby"));
+		assertEquals(0, FrequentWords.scan(""));
+	}
+}
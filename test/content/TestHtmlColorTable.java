@@ -0,0 +1,49 @@
+package content;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * A class that contains all of the JUnit tests related to the HtmlColorTable
+ * class.
+ * @author Nick Rummel
+ *
+ */
+public class TestHtmlColorTable
+{
+	/**
+	 * Tests that color names are found in any case.
+	 */
+	@Test
+	public void testLookup()
+	{
+		assertEquals(0xFF0000, HtmlColorTable.lookup("Red"));
+		assertEquals(0xFF0000, HtmlColorTable.lookup("red"));
+		assertEquals(0x0000FF, HtmlColorTable.lookup("BLUE"));
+		assertEquals(0x808080, HtmlColorTable.lookup("gray"));
+		assertEquals(0x808080, HtmlColorTable.lookup("Grey"));
+		assertEquals(0xF0F8FF, HtmlColorTable.lookup("aliceblue"));
+	}
+
+	/**
+	 * Tests that names that are not HTML colors are not found.
+	 */
+	@Test
+	public void testNotFound()
+	{
+		assertEquals(HtmlColorTable.NOTFOUND, HtmlColorTable.lookup("notacolor"));
+		assertEquals(HtmlColorTable.NOTFOUND, HtmlColorTable.lookup(""));
+		// the name must match exactly, not just start the same
+		assertEquals(HtmlColorTable.NOTFOUND, HtmlColorTable.lookup("red "));
+	}
+
+	/**
+	 * Tests that every line of the file is in the table.
+	 */
+	@Test
+	public void testSize()
+	{
+		assertEquals(148, HtmlColorTable.size());
+	}
+}
@@ -0,0 +1,87 @@
+package content;
+
+import static org.junit.Assert.*;
+
+import java.awt.Color;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * A class that contains all of the JUnit tests related to the PackedColor
+ * class.
+ * @author Nick Rummel
+ *
+ */
+public class TestPackedColor
+{
+	/**
+	 * Tests packing and unpacking the red, green, and blue values.
+	 */
+	@Test
+	public void testRgb()
+	{
+		int color = PackedColor.rgb(0x12, 0x34, 0x56);
+		assertEquals(0x123456, color);
+		assertEquals(0x12, PackedColor.red(color));
+		assertEquals(0x34, PackedColor.green(color));
+		assertEquals(0x56, PackedColor.blue(color));
+		assertEquals(0x0000FF, PackedColor.decode("#0000FF"));
+		assertEquals(0xA52A2A, PackedColor.decode("0xa52a2a"));
+	}
+
+	/**
+	 * Tests that hue, saturation, and brightness are converted the same way as
+	 * Color.HSBtoRGB, including values outside of 0 to 1.
+	 */
+	@Test
+	public void testHsbToRgb()
+	{
+		Random random = new Random(499);
+		for (int i = 0; i < 100000; i++)
+		{
+			float hue = random.nextFloat() * 4 - 2;
+			float saturation = random.nextFloat() * 3 - 1;
+			float brightness = random.nextFloat() * 3 - 1;
+			if (i % 4 == 0)
+			{
+				saturation = 0;
+			}
+			assertEquals(Color.HSBtoRGB(hue, saturation, brightness) & 0xFFFFFF,
+					PackedColor.hsbToRgb(hue, saturation, brightness));
+		}
+		assertEquals(0xFF0000, PackedColor.hsbToRgb(0, 1, 1));
+		assertEquals(Color.HSBtoRGB(Float.NaN, 1, 1) & 0xFFFFFF, PackedColor.hsbToRgb(Float.NaN, 1, 1));
+	}
+
+	/**
+	 * Tests converting hue, saturation, and lightness.
+	 */
+	@Test
+	public void testHslToRgb()
+	{
+		assertEquals(0xFF0000, PackedColor.hslToRgb(0, 1, 0.5f));
+		assertEquals(0x00FF00, PackedColor.hslToRgb(1.0f / 3, 1, 0.5f));
+		assertEquals(0x000000, PackedColor.hslToRgb(0, 1, 0));
+		assertEquals(0xFFFFFF, PackedColor.hslToRgb(0, 1, 1));
+		assertEquals(0x808080, PackedColor.hslToRgb(0, 0, 0.5f));
+	}
+
+	/**
+	 * Tests the difference between colors and the threshold check.
+	 */
+	@Test
+	public void testInRange()
+	{
+		assertEquals(0, PackedColor.distance(0x123456, 0x123456));
+		assertEquals(PackedColor.MAXDISTANCE, PackedColor.distance(0x000000, 0xFFFFFF));
+		// black only matches black
+		assertTrue(PackedColor.inRange(PackedColor.BLACK, PackedColor.BLACK, 0));
+		assertFalse(PackedColor.inRange(PackedColor.BLACK, 0x010101, 765));
+		assertTrue(PackedColor.inRange(0x0000FF, 0x000080, 150));
+		assertFalse(PackedColor.inRange(0x0000FF, 0x000000, 150));
+		// the threshold is kept between 0 and 765
+		assertTrue(PackedColor.inRange(0xFFFFFF, 0x000000, 1000));
+		assertFalse(PackedColor.inRange(0x0000FF, 0x0000FE, -5));
+	}
+}
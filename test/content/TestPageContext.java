@@ -0,0 +1,93 @@
+package content;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.select.Elements;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A class that contains all of the JUnit tests related to the PageContext
+ * class.
+ * @author Nick Rummel
+ *
+ */
+public class TestPageContext
+{
+	PageContext context;
+
+	/**
+	 * Parses the test page with a style sheet in the head before each test
+	 * case.
+	 * @throws IOException if the test page cannot be read
+	 */
+	@Before
+	public void init() throws IOException
+	{
+		context = PageContext.parse(new File("testset\\testPage2.html"), "UTF-8");
+	}
+
+	/**
+	 * Tests that the context keeps the Document it was created with.
+	 */
+	@Test
+	public void testGetDocument()
+	{
+		Document document = Jsoup.parse("<html><body><p>Text</p></body></html>");
+		context = new PageContext(document);
+		assertEquals(document, context.getDocument());
+	}
+
+	/**
+	 * Tests that the text elements are only retrieved once and are in the same
+	 * order as before (paragraphs, then headings).
+	 */
+	@Test
+	public void testGetTextElements()
+	{
+		Elements allElements = context.getTextElements();
+		assertEquals(3, allElements.size());
+		assertEquals("p", allElements.get(0).tagName());
+		assertEquals("h1", allElements.get(1).tagName());
+		assertEquals("h2", allElements.get(2).tagName());
+
+		// the same list is returned the second time
+		assertTrue(allElements == context.getTextElements());
+	}
+
+	/**
+	 * Tests that the style sheets are found in the head and in the document.
+	 */
+	@Test
+	public void testGetStyleSheets()
+	{
+		assertEquals("style", context.getHeadStyleSheet().tagName());
+		assertEquals(context.getHeadStyleSheet(), context.getFirstStyleSheet());
+
+		// page without any style tags
+		context = new PageContext(Jsoup.parse("<html><body><p>Text</p></body></html>"));
+		assertNull(context.getHeadStyleSheet());
+		assertNull(context.getFirstStyleSheet());
+	}
+
+	/**
+	 * Tests that the visual feature detection can use a Document that was
+	 * already parsed without a file.
+	 */
+	@Test
+	public void testDocumentConstructor()
+	{
+		Document document = context.getDocument();
+		VisualFeatureDetection vfd = new VisualFeatureDetection(document);
+		assertNull(vfd.getFile());
+		assertNull(vfd.getFilePath());
+		assertEquals(document, vfd.doc);
+		assertEquals(3, vfd.getAllTextElements().size());
+		assertTrue(vfd.articleTitleExists());
+	}
+}
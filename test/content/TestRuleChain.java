@@ -0,0 +1,165 @@
+package content;
+
+import static org.junit.Assert.*;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A class that contains all of the JUnit tests related to the RuleChain class.
+ * @author Nick Rummel
+ *
+ */
+public class TestRuleChain
+{
+	ArticleRule slowRule;
+
+	ArticleRule selectiveRule;
+
+	Element longText;
+
+	Element shortText;
+
+	/**
+	 * Creates a slow rule that always passes and a fast rule that only passes
+	 * for short text before each test case.
+	 */
+	@Before
+	public void init()
+	{
+		slowRule = new ArticleRule("slow")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				long end = System.nanoTime() + 20000;
+				while (System.nanoTime() < end)
+				{
+					// wait to make the rule costly
+				}
+				return true;
+			}
+		};
+		selectiveRule = new ArticleRule("selective")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return textSet.text().length() < 10;
+			}
+		};
+		longText = Jsoup.parse("<p>This text is too long</p>").select("p").first();
+		shortText = Jsoup.parse("<p>Short</p>").select("p").first();
+	}
+
+	/**
+	 * Tests that the rules start in the order they were given.
+	 */
+	@Test
+	public void testInitialOrder()
+	{
+		RuleChain chain = new RuleChain(slowRule, selectiveRule);
+		ArticleRule[] order = chain.getRuleOrder();
+		assertSame(slowRule, order[0]);
+		assertSame(selectiveRule, order[1]);
+	}
+
+	/**
+	 * Tests that the cheap rule that rejects elements is moved to the front,
+	 * and that the outcome does not change.
+	 */
+	@Test
+	public void testReorder()
+	{
+		RuleChain chain = new RuleChain(slowRule, selectiveRule);
+		// check enough times for a slow first check to fade from the average
+		for (int i = 0; i < RuleChain.REORDERINTERVAL * 4; i++)
+		{
+			assertFalse(chain.matches(null, longText));
+			assertTrue(chain.matches(null, shortText));
+		}
+		ArticleRule[] order = chain.getRuleOrder();
+		assertSame(selectiveRule, order[0]);
+		assertSame(slowRule, order[1]);
+
+		// the slow rule is no longer checked for long text
+		long slowEvaluations = chain.getEvaluations(slowRule);
+		assertFalse(chain.matches(null, longText));
+		assertEquals(slowEvaluations, chain.getEvaluations(slowRule));
+		assertTrue(chain.matches(null, shortText));
+		assertEquals(slowEvaluations + 1, chain.getEvaluations(slowRule));
+	}
+
+	/**
+	 * Tests the statistics gathered for each rule.
+	 */
+	@Test
+	public void testStatistics()
+	{
+		RuleChain chain = new RuleChain(selectiveRule, slowRule);
+		chain.matches(null, longText);
+		chain.matches(null, shortText);
+		assertEquals(2, chain.getEvaluations(selectiveRule));
+		assertEquals(0.5, chain.getPassRate(selectiveRule), 0.0);
+		assertEquals(1, chain.getEvaluations(slowRule));
+		assertEquals(1.0, chain.getPassRate(slowRule), 0.0);
+		assertTrue(chain.getAverageCost(slowRule) > 0.0);
+
+		// a rule that is not in the chain
+		assertEquals(0, chain.getEvaluations(new ArticleRule("other")
+		{
+			@Override
+			public boolean matches(VisualFeatureDetection vfd, Element textSet)
+			{
+				return false;
+			}
+		}));
+	}
+
+	/**
+	 * Tests that the article rule chains find the same features as checking
+	 * each rule in the original order.
+	 */
+	@Test
+	public void testArticleRules()
+	{
+		VisualFeatureDetection vfd = new VisualFeatureDetection("testset\\testPage1.html");
+		for (Element textSet : vfd.getAllTextElements())
+		{
+			assertEquals(vfd.articleTitleFontSizeDetection(textSet) && vfd.articleTitleFontColorDetection(textSet)
+					&& vfd.articleTitleTopHalfOfPageDetection(textSet) && vfd.articleTitlePageDownDetection(textSet)
+					&& vfd.articleTitleTextLengthDetection(textSet) && vfd.articleTitleHyperLinkDetection(textSet),
+					vfd.articleTitleRulesMatch(textSet));
+		}
+		assertEquals(6, vfd.getContext().getRuleChain(ArticleRules.TITLE).getRuleOrder().length);
+	}
+
+	/**
+	 * Tests that each page keeps its own rule chains, so checking one page
+	 * does not change the statistics or order of another.
+	 */
+	@Test
+	public void testRuleChainsPerPage()
+	{
+		VisualFeatureDetection first = new VisualFeatureDetection("testset\\testPage1.html");
+		for (Element textSet : first.getAllTextElements())
+		{
+			first.articleTitleRulesMatch(textSet);
+		}
+		RuleChain firstChain = first.getContext().getRuleChain(ArticleRules.TITLE);
+		assertSame(firstChain, first.getContext().getRuleChain(ArticleRules.TITLE));
+		assertTrue(firstChain.getEvaluations(ArticleRules.TITLE[0]) > 0);
+
+		VisualFeatureDetection second = new VisualFeatureDetection("testset\\testPage1.html");
+		RuleChain secondChain = second.getContext().getRuleChain(ArticleRules.TITLE);
+		assertNotSame(firstChain, secondChain);
+		assertEquals(0, secondChain.getEvaluations(ArticleRules.TITLE[0]));
+		ArticleRule[] order = secondChain.getRuleOrder();
+		for (int i = 0; i < order.length; i++)
+		{
+			assertSame(ArticleRules.TITLE[i], order[i]);
+		}
+	}
+}
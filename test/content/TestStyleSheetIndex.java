@@ -0,0 +1,74 @@
+package content;
+
+import static org.junit.Assert.*;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.Test;
+
+/**
+ * A class that contains all of the JUnit tests related to the StyleSheetIndex
+ * class.
+ * @author Nick Rummel
+ *
+ */
+public class TestStyleSheetIndex
+{
+	/**
+	 * Builds the style sheet index for a page with the given CSS in the head.
+	 * @param css the internal CSS
+	 * @return the StyleSheetIndex of the page
+	 */
+	private StyleSheetIndex createIndex(String css)
+	{
+		Document doc = Jsoup.parse("<html><head><style>" + css + "</style></head><body><p>Text</p></body></html>");
+		PageContext context = new PageContext(doc);
+		return context.getStyleSheetIndex();
+	}
+
+	/**
+	 * Tests that the declared values are found for each tag.
+	 */
+	@Test
+	public void testGetDeclaration()
+	{
+		StyleSheetIndex index = createIndex("p {color: red; font-size:12px;}\nh5 {color: gray; font-size: 9px;}");
+		assertTrue(index.hasDeclaration("p", "font-size"));
+		assertTrue(index.getDeclaration("p", "font-size").startsWith(":12px;"));
+		assertTrue(index.hasDeclaration("h5", "color"));
+		assertTrue(index.getDeclaration("h5", "color").startsWith(": gray;"));
+
+		// h1 is not in the style sheet
+		assertFalse(index.hasDeclaration("h1", "font-size"));
+		assertNull(index.getDeclaration("h1", "font-size"));
+	}
+
+	/**
+	 * Tests that a page without a style sheet has no declarations.
+	 */
+	@Test
+	public void testNoStyleSheet()
+	{
+		StyleSheetIndex index = new StyleSheetIndex(null, null);
+		assertFalse(index.hasDeclaration("p", "font-size"));
+		assertFalse(index.hasDeclaration("p", "color"));
+
+		// style sheet without any font sizes
+		index = createIndex("body {background-color:#CCC;}");
+		assertFalse(index.hasDeclaration("p", "font-size"));
+	}
+
+	/**
+	 * Tests that a tag is declared when its value comes before the tag, but no
+	 * value is found after it.
+	 */
+	@Test
+	public void testDeclarationWithoutValue()
+	{
+		// "px" contains the p tag, so p is declared, but the p rule is after
+		// the last font-size
+		StyleSheetIndex index = createIndex("h1{font-size:20px} p{color:red}");
+		assertTrue(index.hasDeclaration("p", "font-size"));
+		assertNull(index.getDeclaration("p", "font-size"));
+	}
+}
@@ -0,0 +1,86 @@
+package content;
+
+import static org.junit.Assert.*;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A class that contains all of the JUnit tests related to the TextLengthIndex
+ * class.
+ * @author Nick Rummel
+ *
+ */
+public class TestTextLengthIndex
+{
+	PageContext context;
+
+	TextLengthIndex index;
+
+	/**
+	 * Builds the index for a small document with text of different lengths
+	 * before each test case.
+	 */
+	@Before
+	public void init()
+	{
+		context = new PageContext(Jsoup.parse("<html><body><p id=\"a\">Twelve chars</p><h1 id=\"b\">Short</h1>"
+				+ "<span id=\"c\">Five!</span><p id=\"d\"></p><h2 id=\"e\">This heading is a lot longer</h2>"
+				+ "</body></html>"));
+		index = context.getTextLengthIndex();
+	}
+
+	/**
+	 * Tests that the candidates are the elements inside the window, in the
+	 * order of the text elements.
+	 */
+	@Test
+	public void testGetCandidates()
+	{
+		// lengths are 12, 5, 5, 0, and 28
+		Elements candidates = index.getCandidates(3, 25);
+		assertEquals(3, candidates.size());
+		assertEquals("a", candidates.get(0).id());
+		assertEquals("c", candidates.get(1).id());
+		assertEquals("b", candidates.get(2).id());
+
+		// the window does not include its ends
+		assertEquals(1, index.getCandidates(5, 28).size());
+		assertEquals("a", index.getCandidates(5, 28).get(0).id());
+		assertEquals(0, index.getCandidates(28, 2000000000).size());
+		assertEquals(5, index.getCandidates(-1, 2000000000).size());
+		assertEquals(0, index.getCandidates(12, 5).size());
+	}
+
+	/**
+	 * Tests that the candidates are the same as checking the length of every
+	 * text element.
+	 */
+	@Test
+	public void testCountCandidates()
+	{
+		int[][] windows =
+		{
+			{ 8, 50 },
+			{ 0, 19 },
+			{ 3, 25 },
+			{ 20, 2000000000 } };
+		for (int i = 0; i < windows.length; i++)
+		{
+			int count = 0;
+			for (Element element : context.getTextElements())
+			{
+				if (element.text().length() > windows[i][0] && element.text().length() < windows[i][1])
+				{
+					count++;
+				}
+			}
+			assertEquals(count, index.countCandidates(windows[i][0], windows[i][1]));
+			assertEquals(count, index.getCandidates(windows[i][0], windows[i][1]).size());
+		}
+		assertEquals(5, index.size());
+	}
+}
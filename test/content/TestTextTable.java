@@ -0,0 +1,102 @@
+package content;
+
+import static org.junit.Assert.*;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A class that contains all of the JUnit tests related to the TextTable class.
+ * @author Nick Rummel
+ *
+ */
+public class TestTextTable
+{
+	Document doc;
+
+	TextTable table;
+
+	/**
+	 * Creates the text table for a small document before each test case.
+	 */
+	@Before
+	public void init()
+	{
+		doc = Jsoup.parse("<html><body><div id=\"outer\"><h1>Breaking   News</h1><p id=\"para\">By "
+				+ "<span>Nick</span>  Rummel</p></div><p id=\"empty\"></p></body></html>");
+		table = new TextTable(new DocumentOrderIndex(doc));
+	}
+
+	/**
+	 * Tests that the saved text is the same as the element's text.
+	 */
+	@Test
+	public void testGetText()
+	{
+		for (Element element : doc.getAllElements())
+		{
+			assertEquals(element.text(), table.getText(element));
+			// the second lookup is the saved text
+			assertSame(table.getText(element), table.getText(element));
+		}
+		assertEquals("", table.getText(doc.getElementById("empty")));
+
+		// an element from another document is not saved, but still has text
+		assertEquals("Other", table.getText(Jsoup.parse("<p>Other</p>").body()));
+	}
+
+	/**
+	 * Tests the lower case text and the length of the text.
+	 */
+	@Test
+	public void testLowerCaseAndLength()
+	{
+		Element para = doc.getElementById("para");
+		assertEquals("by nick rummel", table.getLowerCaseText(para));
+		assertEquals(14, table.getLength(para));
+		assertEquals("breaking news by nick rummel", table.getLowerCaseText(doc.getElementById("outer")));
+		assertEquals(0, table.getLength(doc.getElementById("empty")));
+		// the lower case text is a piece of the page's lower case text
+		assertNotNull(table.pageLowerCaseText);
+	}
+
+	/**
+	 * Tests the frequent word features of an element's text.
+	 */
+	@Test
+	public void testGetWordFeatures()
+	{
+		Element para = doc.getElementById("para");
+		assertEquals(VisualFeatureDetection.AUTHORFEATURE, table.getWordFeatures(para));
+		// the second lookup is the saved features
+		assertEquals(VisualFeatureDetection.AUTHORFEATURE, table.getWordFeatures(para));
+		assertEquals(0, table.getWordFeatures(doc.getElementById("empty")));
+		assertEquals(VisualFeatureDetection.SOURCEFEATURE,
+				table.getWordFeatures(Jsoup.parse("<p>From Reuters</p>").body()));
+	}
+
+	/**
+	 * Tests that the text built in one walk is the same as each element's
+	 * text for whitespace that is kept, br and block elements, non-breaking
+	 * and invisible spaces, and a capital sigma that is lower cased by the
+	 * letters around it.
+	 */
+	@Test
+	public void testTextMatchesElementText()
+	{
+		doc = Jsoup.parse("<html><body><div> <b>One</b><div>Two</div>Three<br>Four \u00a0 "
+				+ "Fi\u200bve</div><pre>  keep\n   this </pre><p>  <span> </span> <i>six</i> </p>"
+				+ "<ul><li>A</li> <li>B</li></ul><p>\u039f\u0394\u039f\u03a3 \u03a3A</p><p></p></body></html>");
+		table = new TextTable(new DocumentOrderIndex(doc));
+		for (Element element : doc.getAllElements())
+		{
+			assertEquals(element.text(), table.getText(element));
+			assertEquals(element.text().toLowerCase(), table.getLowerCaseText(element));
+			assertEquals(element.text().length(), table.getLength(element));
+		}
+		assertNull(table.pageLowerCaseText);
+	}
+}
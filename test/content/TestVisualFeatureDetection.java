@@ -2,7 +2,6 @@ package content;
 
 import static org.junit.Assert.*;
 
-import java.awt.Color;
 import java.io.File;
 
 import org.jsoup.nodes.Document;
@@ -157,8 +156,8 @@ public class TestVisualFeatureDetection
 	@Test
 	public void testCheckColorInRangeBlack()
 	{
-		Color black = new Color(0, 0, 0);
-		assertTrue(vfd.checkColorInRange(black, new Color(0, 0, 0), 50));
+		int black = PackedColor.rgb(0, 0, 0);
+		assertTrue(vfd.checkColorInRange(black, PackedColor.rgb(0, 0, 0), 50));
 	}
 
 	/**
@@ -168,21 +167,21 @@ public class TestVisualFeatureDetection
 	@Test
 	public void testCheckColorInRangeBlue()
 	{
-		Color blue = Color.decode("#0000FF");
+		int blue = PackedColor.decode("#0000FF");
 		// check black against blue
-		assertFalse(vfd.checkColorInRange(blue, new Color(0, 0, 0), 150));
+		assertFalse(vfd.checkColorInRange(blue, PackedColor.rgb(0, 0, 0), 150));
 		// check red against blue
-		assertFalse(vfd.checkColorInRange(blue, Color.decode("#FF0000"), 150));
+		assertFalse(vfd.checkColorInRange(blue, PackedColor.decode("#FF0000"), 150));
 		// check green against blue
-		assertFalse(vfd.checkColorInRange(blue, Color.decode("#008000"), 150));
+		assertFalse(vfd.checkColorInRange(blue, PackedColor.decode("#008000"), 150));
 		// check yellow against blue
-		assertFalse(vfd.checkColorInRange(blue, Color.decode("#FFFF00"), 150));
+		assertFalse(vfd.checkColorInRange(blue, PackedColor.decode("#FFFF00"), 150));
 		// check magenta against blue
-		assertFalse(vfd.checkColorInRange(blue, Color.decode("#FF00FF"), 150));
+		assertFalse(vfd.checkColorInRange(blue, PackedColor.decode("#FF00FF"), 150));
 		// check cyan against blue
-		assertFalse(vfd.checkColorInRange(blue, Color.decode("#00FFFF"), 150));
+		assertFalse(vfd.checkColorInRange(blue, PackedColor.decode("#00FFFF"), 150));
 		// check navy against blue
-		assertTrue(vfd.checkColorInRange(blue, Color.decode("#000080"), 150));
+		assertTrue(vfd.checkColorInRange(blue, PackedColor.decode("#000080"), 150));
 	}
 
 	/**
@@ -1447,4 +1446,49 @@ public class TestVisualFeatureDetection
 		assertFalse(vfd.articleRelatedNewsLinksExists());
 	}
 
+	/**
+	 * Tests that the feature mask from one walk of the page matches calling
+	 * each of the feature methods on its own.
+	 */
+	@Test
+	public void testArticleFeatureMask()
+	{
+		for (int page = 1; page <= 21; page++)
+		{
+			vfd.setFilePath("testset\\testPage" + page + ".html");
+			int features = vfd.articleFeatureMask();
+			assertEquals(vfd.articleAuthorExists(), (features & VisualFeatureDetection.AUTHORFEATURE) != 0);
+			assertEquals(vfd.articleCategoryExists(), (features & VisualFeatureDetection.CATEGORYFEATURE) != 0);
+			assertEquals(vfd.articleCommentLinkExists(), (features & VisualFeatureDetection.COMMENTLINKFEATURE) != 0);
+			assertEquals(vfd.articleContentExists(), (features & VisualFeatureDetection.CONTENTFEATURE) != 0);
+			assertEquals(vfd.articlePublicationDateExists(),
+					(features & VisualFeatureDetection.PUBLICATIONDATEFEATURE) != 0);
+			assertEquals(vfd.articleRelatedNewsLinksExists(),
+					(features & VisualFeatureDetection.RELATEDNEWSLINKSFEATURE) != 0);
+			assertEquals(vfd.articleSourceExists(), (features & VisualFeatureDetection.SOURCEFEATURE) != 0);
+			assertEquals(vfd.articleTitleExists(), (features & VisualFeatureDetection.TITLEFEATURE) != 0);
+		}
+	}
+
+	/**
+	 * Tests that asking for some of the features gives the same bits as the
+	 * mask of all eight features, with no other bits set.
+	 */
+	@Test
+	public void testArticleFeatureMaskSubset()
+	{
+		for (int page = 1; page <= 21; page++)
+		{
+			vfd.setFilePath("testset\\testPage" + page + ".html");
+			int features = vfd.articleFeatureMask();
+			for (int feature = 1; feature <= VisualFeatureDetection.TITLEFEATURE; feature <<= 1)
+			{
+				assertEquals(features & feature, vfd.articleFeatureMask(feature));
+			}
+			int some = VisualFeatureDetection.TITLEFEATURE | VisualFeatureDetection.CONTENTFEATURE;
+			assertEquals(features & some, vfd.articleFeatureMask(some));
+			assertEquals(0, vfd.articleFeatureMask(0));
+		}
+	}
+
 }
@@ -0,0 +1,88 @@
+package content;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.select.Elements;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A class that contains all of the JUnit tests related to the VisualLineIndex
+ * class.
+ * @author Nick Rummel
+ *
+ */
+public class TestVisualLineIndex
+{
+	Document doc;
+
+	VisualLineIndex index;
+
+	/**
+	 * Builds the index for the test page that has a heading after about 50 line
+	 * breaks before each test case.
+	 * @throws IOException if the test page cannot be read
+	 */
+	@Before
+	public void init() throws IOException
+	{
+		doc = Jsoup.parse(new File("testset\\testPage7.html"), "UTF-8");
+		index = new VisualLineIndex(doc);
+	}
+
+	/**
+	 * Tests that the paragraph is on the first page and the heading is not.
+	 */
+	@Test
+	public void testIsVisibleWithoutPagingDown()
+	{
+		assertTrue(index.isVisibleWithoutPagingDown("text text text text text"));
+		assertFalse(index.isVisibleWithoutPagingDown("Blank Title"));
+		// text that is not on the page at all
+		assertFalse(index.isVisibleWithoutPagingDown("missing text"));
+		// the result is the same the second time it is looked up
+		assertFalse(index.isVisibleWithoutPagingDown("Blank Title"));
+	}
+
+	/**
+	 * Tests that looking up the joined pages gives the same answer as finding
+	 * the last line containing the text for every text element.
+	 */
+	@Test
+	public void testMatchesLastLineContaining()
+	{
+		String[] paths =
+		{ "testset\\testPage2.html", "testset\\testPage7.html", "testset\\testPage12.html" };
+		for (int i = 0; i < paths.length; i++)
+		{
+			VisualFeatureDetection vfd = new VisualFeatureDetection(paths[i]);
+			VisualLineIndex lines = new VisualLineIndex(vfd.doc);
+			Elements allElements = vfd.getAllTextElements();
+			for (int j = 0; j < allElements.size(); j++)
+			{
+				String text = allElements.get(j).text();
+				int line = lines.lastLineContaining(text);
+				assertEquals(line > -1 && line <= 40, lines.isVisibleWithoutPagingDown(text));
+			}
+		}
+	}
+
+	/**
+	 * Tests that an empty text is only visible when the page fits on the first
+	 * page, since every line contains it.
+	 */
+	@Test
+	public void testEmptyText()
+	{
+		assertFalse(index.isVisibleWithoutPagingDown(""));
+
+		index = new VisualLineIndex(Jsoup.parse("<html><body><p>Text</p></body></html>"));
+		assertTrue(index.getLineCount() <= 41);
+		assertTrue(index.isVisibleWithoutPagingDown(""));
+	}
+}
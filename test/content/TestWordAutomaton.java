@@ -0,0 +1,93 @@
+package content;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * A class that contains all of the JUnit tests related to the WordAutomaton
+ * class.
+ * @author Nick Rummel
+ *
+ */
+public class TestWordAutomaton
+{
+	/**
+	 * Tests that words that overlap or are inside other words are all found.
+	 */
+	@Test
+	public void testOverlappingWords()
+	{
+		WordAutomaton words = new WordAutomaton(new String[]
+		{ "he", "she", "his", "hers" }, new int[]
+		{ 1, 2, 4, 8 }, new boolean[]
+		{ false, false, false, false });
+		assertEquals(1 | 2 | 8, words.scan("ushers"));
+		assertEquals(4, words.scan("this"));
+		assertEquals(0, words.scan("hi"));
+		assertEquals(0, words.scan(""));
+		// words are matched in the same case only
+		assertEquals(0, words.scan("SHE"));
+	}
+
+	/**
+	 * Tests that whole words must not be part of a longer word.
+	 */
+	@Test
+	public void testWholeWords()
+	{
+		WordAutomaton words = new WordAutomaton(new String[]
+		{ "by", "related news", ">" }, new int[]
+		{ 1, 2, 4 }, new boolean[]
+		{ true, true, false });
+		assertEquals(1, words.scan("by"));
+		assertEquals(1, words.scan("written by: staff"));
+		assertEquals(0, words.scan("nearby"));
+		assertEquals(0, words.scan("bystander"));
+		// a later match of the word still counts
+		assertEquals(1, words.scan("abyss by the sea"));
+		assertEquals(2, words.scan("(related news)"));
+		assertEquals(0, words.scan("unrelated news"));
+		// characters past 'z' are not letters
+		assertEquals(1, words.scan("\u00e9by\u00e9"));
+		// words that do not need to stand by themselves
+		assertEquals(4, words.scan("home>world"));
+	}
+
+	/**
+	 * Tests that words with the same feature bit share it, and that a bad word
+	 * list is not built.
+	 */
+	@Test
+	public void testWordLists()
+	{
+		WordAutomaton words = new WordAutomaton(new String[]
+		{ "from", "source", "source" }, new int[]
+		{ 1, 1, 2 }, new boolean[]
+		{ true, true, true });
+		assertEquals(1, words.scan("source: ap"));
+		assertEquals(1 + "from".length() + "source".length(), words.size());
+		try
+		{
+			new WordAutomaton(new String[]
+			{ "" }, new int[]
+			{ 1 }, new boolean[]
+			{ true });
+			fail("An empty word should not be allowed");
+		}
+		catch (IllegalArgumentException e)
+		{
+		}
+		try
+		{
+			new WordAutomaton(new String[]
+			{ "caf\u00e9" }, new int[]
+			{ 1 }, new boolean[]
+			{ true });
+			fail("A non-ASCII word should not be allowed");
+		}
+		catch (IllegalArgumentException e)
+		{
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package id3;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * A class that contains all of the JUnit tests related to the BitColumns
+ * class.
+ * @author Nick Rummel
+ *
+ */
+public class TestBitColumns
+{
+	/**
+	 * Tests packing booleans into bitsets across more than one long.
+	 */
+	@Test
+	public void testToBits()
+	{
+		boolean[] values = new boolean[130];
+		values[0] = true;
+		values[63] = true;
+		values[64] = true;
+		values[129] = true;
+		long[] bits = BitColumns.toBits(values);
+		assertEquals(3, bits.length);
+		assertEquals(1L | (1L << 63), bits[0]);
+		assertEquals(1L, bits[1]);
+		assertEquals(2L, bits[2]);
+		assertEquals(4, BitColumns.count(bits));
+		assertEquals(0, BitColumns.words(0));
+		assertEquals(1, BitColumns.words(64));
+		assertEquals(2, BitColumns.words(65));
+	}
+
+	/**
+	 * Tests the counts used by the information gain.
+	 */
+	@Test
+	public void testCounts()
+	{
+		boolean[] actualData =
+		{ true, true, false, false, true, false, true, false, false, true };
+		boolean[][] randomData =
+		{
+				{ false, true, false, false, false, true, true, false, false, true },
+				{ false, false, true, true, false, false, false, false, false, false } };
+		BitColumns data = new BitColumns(actualData, randomData);
+		assertEquals(2, data.getAttributeCount());
+		assertEquals(10, data.size());
+		assertEquals(10, data.getLabelSize());
+		assertEquals(5, data.getLabelCount());
+		assertEquals(4, data.countYes(0));
+		assertEquals(3, data.countYesAndActualYes(0));
+		assertEquals(4, data.countNoAndActualNo(0));
+		assertEquals(2, data.countYes(1));
+		assertEquals(0, data.countYesAndActualYes(1));
+		assertEquals(3, data.countNoAndActualNo(1));
+	}
+
+	/**
+	 * Tests that only rows in both the actual data and the columns are
+	 * counted when their lengths are different.
+	 */
+	@Test
+	public void testDifferentLengths()
+	{
+		boolean[] actualData = new boolean[70];
+		boolean[][] randomData = new boolean[1][200];
+		BitColumns data = new BitColumns(actualData, randomData);
+		// rows 70 to 199 have no actual data, so they are not counted
+		assertEquals(70, data.countNoAndActualNo(0));
+		assertEquals(200, data.size());
+
+		data = new BitColumns(new boolean[200], new boolean[1][70]);
+		assertEquals(70, data.countNoAndActualNo(0));
+	}
+}
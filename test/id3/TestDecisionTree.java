@@ -3,6 +3,8 @@ package id3;
 import static org.junit.Assert.*;
 
 import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -197,4 +199,499 @@ public class TestDecisionTree
 		tree.printTree();
 	}
 
+	/**
+	 * Tests that the recursive builder makes the same tree as the example
+	 * built by hand, with leaves decided by the majority of the rows when no
+	 * attribute has any gain.
+	 */
+	@Test
+	public void testBuildTreeRecursive()
+	{
+		String[] descriptions =
+		{ "Question 1", "Question 2", "Question 3" };
+		boolean[] actualData =
+		{ true, true, false, false, true, false, true, false, false, true };
+		boolean[][] randomData =
+		{
+				{ false, true, false, false, false, true, true, false, false, true },
+				{ false, false, true, true, false, false, false, false, false, false },
+				{ true, true, false, true, false, true, true, false, true, true }
+
+		};
+		tree.buildTree(actualData, randomData, descriptions);
+
+		TreeNode root = tree.getRoot();
+		assertEquals("Question 2", root.getNodeDescription());
+		assertEquals(0, root.getNodeId());
+		assertEquals(DecisionTree.ALWAYSNO, root.getYesBranch().getNodeDescription());
+		TreeNode no = root.getNoBranch();
+		assertEquals("Question 1", no.getNodeDescription());
+		assertEquals(2, no.getNodeId());
+		// 3 of the 4 rows with question 1 are articles, and 2 of the 4 without
+		assertEquals(DecisionTree.ALWAYSYES, no.getYesBranch().getNodeDescription());
+		assertEquals(DecisionTree.ALWAYSNO, no.getNoBranch().getNodeDescription());
+		assertEquals(4, no.getNoBranch().getNodeId());
+	}
+
+	/**
+	 * Tests that data that is all articles or all non-articles gives a single
+	 * leaf.
+	 */
+	@Test
+	public void testBuildTreePureData()
+	{
+		boolean[][] randomData =
+		{
+				{ true, false, true } };
+		tree.buildTree(new boolean[]
+		{ true, true, true }, randomData, new String[]
+		{ "Question 1" });
+		assertEquals(DecisionTree.ALWAYSYES, tree.getRoot().getNodeDescription());
+		assertNull(tree.getRoot().getYesBranch());
+
+		tree.buildTree(new boolean[]
+		{ false, false, false }, randomData, new String[]
+		{ "Question 1" });
+		assertEquals(DecisionTree.ALWAYSNO, tree.getRoot().getNodeDescription());
+		assertNull(tree.getRoot().getNoBranch());
+	}
+
+	/**
+	 * Tests that the builder goes as deep as the data needs, using each
+	 * attribute once on a path, when a document is only an article if it has
+	 * every attribute.
+	 */
+	@Test
+	public void testBuildTreeDeep()
+	{
+		int attributes = 10;
+		int rows = 1 << attributes;
+		boolean[] actualData = new boolean[rows];
+		boolean[][] randomData = new boolean[attributes][rows];
+		String[] descriptions = new String[attributes];
+		for (int j = 0; j < attributes; j++)
+		{
+			descriptions[j] = "Question " + (j + 1);
+		}
+		for (int i = 0; i < rows; i++)
+		{
+			for (int j = 0; j < attributes; j++)
+			{
+				randomData[j][i] = (i & (1 << j)) != 0;
+			}
+			actualData[i] = i == rows - 1;
+		}
+		tree.buildTree(actualData, randomData, descriptions);
+
+		// each yes branch asks another question until the last one
+		TreeNode curNode = tree.getRoot();
+		ArrayList<String> used = new ArrayList<String>();
+		while (curNode.getYesBranch() != null)
+		{
+			assertFalse(used.contains(curNode.getNodeDescription()));
+			used.add(curNode.getNodeDescription());
+			assertEquals(DecisionTree.ALWAYSNO, curNode.getNoBranch().getNodeDescription());
+			curNode = curNode.getYesBranch();
+		}
+		assertEquals(attributes, used.size());
+		assertEquals(DecisionTree.ALWAYSYES, curNode.getNodeDescription());
+		// the builder does not change the data
+		for (int i = 0; i < rows; i++)
+		{
+			assertEquals(i == rows - 1, actualData[i]);
+			assertEquals((i & 1) != 0, randomData[0][i]);
+		}
+	}
+
+	/**
+	 * Tests that every builder can use more than 64 attributes, when a
+	 * document is only an article if it has each of the last few attributes.
+	 */
+	@Test
+	public void testBuildTreeManyAttributes()
+	{
+		int attributes = 130;
+		int needed = 6;
+		int rows = 1 << needed;
+		boolean[] actualData = new boolean[rows];
+		boolean[][] randomData = new boolean[attributes][rows];
+		String[] descriptions = new String[attributes];
+		for (int j = 0; j < attributes; j++)
+		{
+			descriptions[j] = "Question " + (j + 1);
+		}
+		for (int i = 0; i < rows; i++)
+		{
+			for (int j = 0; j < needed; j++)
+			{
+				randomData[attributes - needed + j][i] = (i & (1 << j)) != 0;
+			}
+			actualData[i] = i == rows - 1;
+		}
+		tree.buildTree(actualData, randomData, descriptions);
+
+		TreeNode curNode = tree.getRoot();
+		ArrayList<String> used = new ArrayList<String>();
+		while (curNode.getYesBranch() != null)
+		{
+			assertFalse(used.contains(curNode.getNodeDescription()));
+			used.add(curNode.getNodeDescription());
+			curNode = curNode.getYesBranch();
+		}
+		assertEquals(needed, used.size());
+		assertEquals("Question " + (attributes - needed + 1), used.get(0));
+		assertEquals(DecisionTree.ALWAYSYES, curNode.getNodeDescription());
+
+		ForkJoinPool pool = new ForkJoinPool(4);
+		DecisionTree parallel = new DecisionTree(null);
+		parallel.buildTree(actualData, randomData, descriptions, pool, 1);
+		pool.shutdown();
+		assertSameTree(tree.getRoot(), parallel.getRoot());
+		DecisionTree levelWise = new DecisionTree(null);
+		levelWise.buildTreeLevelWise(actualData, randomData, descriptions);
+		assertSameTree(tree.getRoot(), levelWise.getRoot());
+	}
+
+	/**
+	 * Tests that the builder rejects arrays whose lengths do not match.
+	 */
+	@Test
+	public void testBuildTreeBadData()
+	{
+		boolean[] actualData = new boolean[2];
+		try
+		{
+			tree.buildTree(actualData, new boolean[1][3], new String[1]);
+			fail("Expected an IllegalArgumentException");
+		}
+		catch (IllegalArgumentException e)
+		{
+			// expected
+		}
+		try
+		{
+			tree.buildTree(actualData, new boolean[2][2], new String[1]);
+			fail("Expected an IllegalArgumentException");
+		}
+		catch (IllegalArgumentException e)
+		{
+			// expected
+		}
+		assertNull(tree.getRoot());
+	}
+
+	/**
+	 * Tests that the parallel builder makes the same tree as the sequential
+	 * builder, whether every node is forked or none are.
+	 */
+	@Test
+	public void testBuildTreeParallelMatchesSequential()
+	{
+		Random random = new Random(499);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		int[] thresholds =
+		{ 1, 16, 256, Integer.MAX_VALUE };
+		for (int trial = 0; trial < 20; trial++)
+		{
+			int rows = 1 + random.nextInt(2000);
+			boolean[] actualData = new boolean[rows];
+			boolean[][] randomData = new boolean[1 + random.nextInt(12)][rows];
+			String[] descriptions = new String[randomData.length];
+			for (int j = 0; j < randomData.length; j++)
+			{
+				descriptions[j] = "Question " + (j + 1);
+			}
+			for (int i = 0; i < rows; i++)
+			{
+				for (int j = 0; j < randomData.length; j++)
+				{
+					randomData[j][i] = random.nextBoolean();
+				}
+				// an article depends on the first attributes, with some noise
+				actualData[i] = random.nextInt(10) == 0 ? random.nextBoolean()
+						: randomData[0][i] && (randomData.length == 1 || !randomData[1][i]);
+			}
+			tree.buildTree(actualData, randomData, descriptions);
+			TreeNode sequential = tree.getRoot();
+			for (int t = 0; t < thresholds.length; t++)
+			{
+				DecisionTree parallel = new DecisionTree(null);
+				parallel.buildTree(actualData, randomData, descriptions, pool, thresholds[t]);
+				assertSameTree(sequential, parallel.getRoot());
+			}
+		}
+		pool.shutdown();
+	}
+
+	/**
+	 * Tests that the builders make the same tree when they calculate the
+	 * gains of a node's attributes in chunks in a pool, which they do when
+	 * there are at least SCANTHRESHOLD attributes.
+	 */
+	@Test
+	public void testBuildTreeParallelScan()
+	{
+		Random random = new Random(1024);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		for (int trial = 0; trial < 4; trial++)
+		{
+			int rows = 200 + random.nextInt(1500);
+			boolean[] actualData = new boolean[rows];
+			boolean[][] randomData = new boolean[DecisionTree.SCANTHRESHOLD + random.nextInt(100)][rows];
+			String[] descriptions = new String[randomData.length];
+			for (int j = 0; j < randomData.length; j++)
+			{
+				descriptions[j] = "Question " + (j + 1);
+			}
+			int last = randomData.length - 1;
+			for (int i = 0; i < rows; i++)
+			{
+				for (int j = 0; j < randomData.length; j++)
+				{
+					randomData[j][i] = random.nextBoolean();
+				}
+				// an article depends on the first and last attributes
+				actualData[i] = random.nextInt(10) == 0 ? random.nextBoolean()
+						: randomData[0][i] && !randomData[last][i];
+			}
+			tree.buildTree(actualData, randomData, descriptions);
+			TreeNode sequential = tree.getRoot();
+			DecisionTree parallel = new DecisionTree(null);
+			parallel.buildTree(actualData, randomData, descriptions, pool, 1);
+			assertSameTree(sequential, parallel.getRoot());
+			parallel.buildTree(actualData, randomData, descriptions, pool, 256);
+			assertSameTree(sequential, parallel.getRoot());
+			DecisionTree levelWise = new DecisionTree(null);
+			levelWise.buildTreeLevelWise(actualData, randomData, descriptions, pool);
+			assertSameTree(sequential, levelWise.getRoot());
+			levelWise.buildTreeLevelWise(actualData, randomData, descriptions);
+			assertSameTree(sequential, levelWise.getRoot());
+		}
+		pool.shutdown();
+	}
+
+	/**
+	 * Tests that the level-wise builder makes the same tree as the recursive
+	 * builder, including the example built by hand and data deep enough to
+	 * use every attribute.
+	 */
+	@Test
+	public void testBuildTreeLevelWiseMatchesRecursive()
+	{
+		Random random = new Random(25);
+		for (int trial = 0; trial < 40; trial++)
+		{
+			int rows = random.nextInt(2000);
+			boolean[] actualData = new boolean[rows];
+			boolean[][] randomData = new boolean[1 + random.nextInt(12)][rows];
+			String[] descriptions = new String[randomData.length];
+			for (int j = 0; j < randomData.length; j++)
+			{
+				descriptions[j] = "Question " + (j + 1);
+			}
+			for (int i = 0; i < rows; i++)
+			{
+				for (int j = 0; j < randomData.length; j++)
+				{
+					randomData[j][i] = random.nextBoolean();
+				}
+				actualData[i] = random.nextInt(8) == 0 ? random.nextBoolean()
+						: randomData[0][i] ^ (randomData.length > 2 && randomData[2][i]);
+			}
+			tree.buildTree(actualData, randomData, descriptions);
+			DecisionTree levelWise = new DecisionTree(null);
+			levelWise.buildTreeLevelWise(actualData, randomData, descriptions);
+			assertSameTree(tree.getRoot(), levelWise.getRoot());
+		}
+
+		String[] descriptions =
+		{ "Question 1", "Question 2", "Question 3" };
+		boolean[] actualData =
+		{ true, true, false, false, true, false, true, false, false, true };
+		boolean[][] randomData =
+		{
+				{ false, true, false, false, false, true, true, false, false, true },
+				{ false, false, true, true, false, false, false, false, false, false },
+				{ true, true, false, true, false, true, true, false, true, true }
+
+		};
+		tree.buildTree(actualData, randomData, descriptions);
+		DecisionTree levelWise = new DecisionTree(null);
+		levelWise.buildTreeLevelWise(actualData, randomData, descriptions);
+		assertSameTree(tree.getRoot(), levelWise.getRoot());
+		assertEquals("Question 2", levelWise.getRoot().getNodeDescription());
+	}
+
+	/**
+	 * Checks that two trees have the same IDs and descriptions in the same
+	 * places.
+	 * @param expected the root of the expected tree
+	 * @param actual the root of the tree being checked
+	 */
+	private void assertSameTree(TreeNode expected, TreeNode actual)
+	{
+		if (expected == null)
+		{
+			assertNull(actual);
+			return;
+		}
+		assertNotNull(actual);
+		assertEquals(expected.getNodeId(), actual.getNodeId());
+		assertEquals(expected.getNodeDescription(), actual.getNodeDescription());
+		assertSameTree(expected.getYesBranch(), actual.getYesBranch());
+		assertSameTree(expected.getNoBranch(), actual.getNoBranch());
+	}
+
+	/**
+	 * Tests that indices past the small Integer cache are still counted when
+	 * they are found in both lists.
+	 */
+	@Test
+	public void testCountOfIndicesFoundLargeIndices()
+	{
+		ArrayList<Integer> results = new ArrayList<Integer>();
+		ArrayList<Integer> actual = new ArrayList<Integer>();
+		for (int i = 100; i < 300; i++)
+		{
+			results.add(i);
+			if (i % 2 == 0)
+			{
+				actual.add(i);
+			}
+		}
+		assertEquals(100, tree.countOfIndicesFound(results, actual));
+	}
+
+	/**
+	 * Tests that the bitset gain calculation gives the same index as the
+	 * counts from lists of indices, for data with more rows than a long has
+	 * bits and actual data that is longer than the results.
+	 */
+	@Test
+	public void testGetIndexOfLargestInfoGainMatchesCounts()
+	{
+		Random random = new Random(330);
+		for (int trial = 0; trial < 200; trial++)
+		{
+			int rows = 1 + random.nextInt(300);
+			boolean[] actualData = new boolean[rows + random.nextInt(40)];
+			boolean[][] randomData = new boolean[1 + random.nextInt(14)][rows];
+			for (int i = 0; i < actualData.length; i++)
+			{
+				actualData[i] = random.nextBoolean();
+			}
+			for (int j = 0; j < randomData.length; j++)
+			{
+				for (int i = 0; i < rows; i++)
+				{
+					// make some attributes follow the actual data
+					randomData[j][i] = random.nextInt(4) == 0 ? random.nextBoolean() : actualData[i] ^ (j % 2 == 0);
+				}
+			}
+			assertEquals(indexOfLargestGainFromCounts(actualData, randomData),
+					tree.getIndexOfLargestInfoGain(actualData, randomData));
+		}
+	}
+
+	/**
+	 * Tests that the parallel attribute scan gives the same index as the
+	 * sequential scan for wide data, including when several attributes have
+	 * the same gain, for any chunk size.
+	 */
+	@Test
+	public void testGetIndexOfLargestInfoGainParallel()
+	{
+		Random random = new Random(1000);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		int[] chunkSizes =
+		{ 1, 7, DecisionTree.GAINCHUNKSIZE, 10000 };
+		for (int trial = 0; trial < 20; trial++)
+		{
+			int rows = 1 + random.nextInt(200);
+			boolean[] actualData = new boolean[rows];
+			boolean[][] randomData = new boolean[1 + random.nextInt(600)][];
+			for (int i = 0; i < rows; i++)
+			{
+				actualData[i] = random.nextBoolean();
+			}
+			for (int j = 0; j < randomData.length; j++)
+			{
+				// repeat earlier attributes so that gains are equal
+				if (j > 0 && random.nextInt(3) == 0)
+				{
+					randomData[j] = randomData[random.nextInt(j)].clone();
+				}
+				else
+				{
+					randomData[j] = new boolean[rows];
+					for (int i = 0; i < rows; i++)
+					{
+						randomData[j][i] = random.nextInt(3) == 0 ? random.nextBoolean() : actualData[i];
+					}
+				}
+			}
+			BitColumns data = new BitColumns(actualData, randomData);
+			int expected = tree.getIndexOfLargestInfoGain(data);
+			for (int c = 0; c < chunkSizes.length; c++)
+			{
+				assertEquals(expected, tree.getIndexOfLargestInfoGain(data, pool, chunkSizes[c]));
+			}
+		}
+
+		// a perfect attribute and attributes with no gain
+		boolean[] actualData =
+		{ true, false, true, false };
+		boolean[][] randomData =
+		{
+				{ true, true, false, false },
+				{ true, true, true, false },
+				{ true, false, true, false },
+				{ true, false, true, false } };
+		assertEquals(-4, tree.getIndexOfLargestInfoGain(new BitColumns(actualData, randomData), pool, 1));
+		assertEquals(-4, tree.getIndexOfLargestInfoGain(actualData, randomData));
+		boolean[][] noGain =
+		{
+				{ true, true, false, false } };
+		assertEquals(-1, tree.getIndexOfLargestInfoGain(new BitColumns(actualData, noGain), pool, 1));
+		pool.shutdown();
+	}
+
+	/**
+	 * Finds the index with the largest gain from lists of indices, the way the
+	 * gain was calculated before the data was packed into bitsets.
+	 * @param actual the original data that the document is an article or not.
+	 * @param results 2D array containing the data of each feature being found.
+	 * @return the index of feature with the largest gain
+	 */
+	private int indexOfLargestGainFromCounts(boolean[] actual, boolean[][] results)
+	{
+		ArrayList<Integer> actualYes = tree.countOfBooleans(actual, true);
+		ArrayList<Integer> actualNo = tree.countOfBooleans(actual, false);
+		double[] gain = new double[results.length];
+		for (int i = 0; i < results.length; i++)
+		{
+			ArrayList<Integer> yes = tree.countOfBooleans(results[i], true);
+			ArrayList<Integer> no = tree.countOfBooleans(results[i], false);
+			gain[i] = tree.gain(actualYes.size(), actual.length, yes.size(), no.size(), results[i].length,
+					tree.countOfIndicesFound(yes, actualYes), tree.countOfIndicesFound(no, actualNo));
+		}
+		int largest = 0;
+		for (int i = 1; i < gain.length; i++)
+		{
+			if (gain[i] > gain[largest])
+			{
+				largest = i;
+			}
+		}
+		if (largest == 0 && gain[largest] == 0)
+		{
+			largest = -1;
+		}
+		else if (gain[largest] == 1)
+		{
+			largest = -2 - largest;
+		}
+		return largest;
+	}
+
 }
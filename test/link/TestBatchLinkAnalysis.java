@@ -0,0 +1,68 @@
+package link;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * A class that contains all of the JUnit tests related to the
+ * BatchLinkAnalysis class.
+ * @author Nick Rummel
+ */
+public class TestBatchLinkAnalysis
+{
+	/**
+	 * A constant for the URLs used by the tests.
+	 */
+	private static final String[] URLS =
+	{ "theverge.com/2018/9/20/17883242/amazon-alexa-event-2018-news-recap-echo-auto-dot-sub-link-auto-microwave",
+			"yahoo.com/news/science/", "yahoo.com/news/cruz-orourke-face-off-023824069.html",
+			"abcnews.go.com/US/story?id=56957729", "cnn.com/videos/us/2018/10/02/", "", "fox.com/photo-gallery",
+			"site.com/a_abcdefgh" };
+
+	/**
+	 * Tests that the batch gives every URL the same features as LinkAnalysis.
+	 */
+	@Test
+	public void testAnalyzeMatchesLinkAnalysis()
+	{
+		UrlArena arena = new UrlArena(64, 2);
+		for (int i = 0; i < URLS.length; i++)
+		{
+			arena.add(URLS[i]);
+		}
+		LinkFeatureBatch batch = new BatchLinkAnalysis().analyze(arena);
+		assertEquals(URLS.length, batch.size());
+		for (int i = 0; i < URLS.length; i++)
+		{
+			LinkAnalysis la = new LinkAnalysis(URLS[i]);
+			assertEquals(URLS[i], la.linkFeatureMask(), batch.getFeatures(i));
+			assertEquals(URLS[i], la.linkHasFourSlashes(), batch.has(i, LinkAnalysis.FOURSLASHESFEATURE));
+			assertEquals(URLS[i], la.linkHasIDNumber(), batch.has(i, LinkAnalysis.IDNUMBERFEATURE));
+		}
+	}
+
+	/**
+	 * Tests that the counts add up over more than one batch.
+	 */
+	@Test
+	public void testMetrics()
+	{
+		BatchLinkAnalysis analysis = new BatchLinkAnalysis();
+		assertEquals(0, analysis.getUrlsPerSecond(), 0);
+		UrlArena arena = new UrlArena(64, 2);
+		arena.add("cnn.com/us/");
+		arena.add("fox.com/");
+		analysis.analyze(arena);
+		arena.clear();
+		arena.add("abc.com/");
+		analysis.analyze(arena);
+		assertEquals(3, analysis.getUrlCount());
+		assertEquals(27, analysis.getByteCount());
+		assertTrue(analysis.getElapsedNanos() >= 0);
+		analysis.resetMetrics();
+		assertEquals(0, analysis.getUrlCount());
+		assertEquals(0, analysis.getByteCount());
+		assertEquals(0, analysis.getElapsedNanos());
+	}
+}
@@ -188,4 +188,35 @@ public class TestLinkAnalysis
 		assertFalse(la.linkDoesNotEndWithSlash());
 	}
 
+	/**
+	 * Tests that the feature mask has the same features as each link rule,
+	 * and that it changes with the URL.
+	 */
+	@Test
+	public void testLinkFeatureMask()
+	{
+		String[] urls =
+		{ "theverge.com/2018/9/20/17883242/amazon-alexa-event-2018-news-recap-echo-auto-dot-sub-link-auto-microwave",
+				"cbsnews.com/news/trump-mulls-inviting-saudi-crown-prince-mohammad-bin-salman-to-un-nuclear-meeting/",
+				"yahoo.com/news/photos-week-9-14-9-220000561.html", "abcnews.go.com/US/story?id=56957729",
+				"nytimes.com/section/technology" };
+		for (int i = 0; i < urls.length; i++)
+		{
+			la.setURL(urls[i]);
+			int features = la.linkFeatureMask();
+			assertEquals(la.linkHasFourSlashes(), (features & LinkAnalysis.FOURSLASHESFEATURE) != 0);
+			assertEquals(la.linkHasIDNumber(), (features & LinkAnalysis.IDNUMBERFEATURE) != 0);
+			assertEquals(la.linkHasDate(), (features & LinkAnalysis.DATEFEATURE) != 0);
+			assertEquals(la.linkHasLongerLength(), (features & LinkAnalysis.LONGERLENGTHFEATURE) != 0);
+			assertEquals(la.linkDoesNotContainReservedWord(), (features & LinkAnalysis.NORESERVEDWORDFEATURE) != 0);
+			assertEquals(la.linkDoesNotEndWithSlash(), (features & LinkAnalysis.NOENDSLASHFEATURE) != 0);
+			assertEquals(la.countSlashes() >= 4, la.linkHasFourSlashes());
+		}
+		// the mask is found again when the URL changes
+		la.setURL("yahoo.com/news/science/");
+		assertEquals(LinkAnalysis.NORESERVEDWORDFEATURE, la.linkFeatureMask());
+		la.setURL("yahoo.com/news/science");
+		assertEquals(LinkAnalysis.NORESERVEDWORDFEATURE | LinkAnalysis.NOENDSLASHFEATURE, la.linkFeatureMask());
+	}
+
 }
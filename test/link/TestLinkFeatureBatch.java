@@ -0,0 +1,62 @@
+package link;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * A class that contains all of the JUnit tests related to the
+ * LinkFeatureBatch class.
+ * @author Nick Rummel
+ */
+public class TestLinkFeatureBatch
+{
+	/**
+	 * Tests saving feature masks and reading them back by feature and by URL,
+	 * across more than one word of the bitsets.
+	 */
+	@Test
+	public void testSetAndHas()
+	{
+		LinkFeatureBatch batch = new LinkFeatureBatch(130);
+		batch.set(0, LinkAnalysis.FOURSLASHESFEATURE);
+		batch.set(64, LinkAnalysis.DATEFEATURE | LinkAnalysis.NOENDSLASHFEATURE);
+		batch.set(129, LinkAnalysis.ALLFEATURES);
+		assertEquals(130, batch.size());
+		assertTrue(batch.has(0, LinkAnalysis.FOURSLASHESFEATURE));
+		assertFalse(batch.has(0, LinkAnalysis.DATEFEATURE));
+		assertTrue(batch.has(64, LinkAnalysis.NOENDSLASHFEATURE));
+		assertFalse(batch.has(65, LinkAnalysis.NOENDSLASHFEATURE));
+		assertEquals(LinkAnalysis.DATEFEATURE | LinkAnalysis.NOENDSLASHFEATURE, batch.getFeatures(64));
+		assertEquals(LinkAnalysis.ALLFEATURES, batch.getFeatures(129));
+		assertEquals(0, batch.getFeatures(1));
+		assertEquals(2, batch.count(LinkAnalysis.FOURSLASHESFEATURE));
+		assertEquals(2, batch.count(LinkAnalysis.NOENDSLASHFEATURE));
+		assertEquals(3, batch.getBits(LinkAnalysis.DATEFEATURE).length);
+	}
+
+	/**
+	 * Tests that a value that is not one feature bit is not accepted.
+	 */
+	@Test
+	public void testNotAFeature()
+	{
+		LinkFeatureBatch batch = new LinkFeatureBatch(1);
+		try
+		{
+			batch.has(0, LinkAnalysis.DATEFEATURE | LinkAnalysis.IDNUMBERFEATURE);
+			fail("Two features at once should not be accepted");
+		}
+		catch (IllegalArgumentException e)
+		{
+		}
+		try
+		{
+			batch.count(64);
+			fail("A bit past the six features should not be accepted");
+		}
+		catch (IllegalArgumentException e)
+		{
+		}
+	}
+}
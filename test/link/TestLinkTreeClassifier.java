@@ -0,0 +1,107 @@
+package link;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import id3.DecisionTree;
+import id3.TreeNode;
+
+/**
+ * A class that contains all of the JUnit tests related to the
+ * LinkTreeClassifier class.
+ * @author Nick Rummel
+ */
+public class TestLinkTreeClassifier
+{
+	LinkTreeClassifier classifier;
+
+	/**
+	 * Builds a tree that marks a URL as an article when it has four slashes,
+	 * or when it has an ID number and does not end with a slash.
+	 */
+	@Before
+	public void init()
+	{
+		DecisionTree tree = new DecisionTree(new TreeNode(0, "Link Has Four Slashes?"));
+		tree.addNodeToBranch(new TreeNode(1, "Always Yes"), 0, true);
+		tree.addNodeToBranch(new TreeNode(2, "Link Has ID Number?"), 0, false);
+		tree.addNodeToBranch(new TreeNode(3, "Link Does Not End With Slash?"), 2, true);
+		tree.addNodeToBranch(new TreeNode(4, "Always No"), 2, false);
+		classifier = new LinkTreeClassifier(tree);
+	}
+
+	/**
+	 * Tests walking the tree with feature masks.
+	 */
+	@Test
+	public void testIsArticleFeatures()
+	{
+		assertTrue(classifier.isArticle(LinkAnalysis.FOURSLASHESFEATURE));
+		assertTrue(classifier.isArticle(LinkAnalysis.IDNUMBERFEATURE | LinkAnalysis.NOENDSLASHFEATURE));
+		assertFalse(classifier.isArticle(LinkAnalysis.IDNUMBERFEATURE));
+		assertFalse(classifier.isArticle(LinkAnalysis.NOENDSLASHFEATURE));
+	}
+
+	/**
+	 * Tests classifying URLs, with and without a scheme.
+	 */
+	@Test
+	public void testIsArticleURL()
+	{
+		assertTrue(classifier.isArticle("https://www.cnn.com/2018/10/02/politics/index.html"));
+		assertTrue(classifier.isArticle("abcnews.go.com/US/story?id=56957729"));
+		assertFalse(classifier.isArticle("http://www.cnn.com/us/"));
+		assertEquals(3, classifier.getUrlCount());
+		assertEquals(2, classifier.getArticleCount());
+	}
+
+	/**
+	 * Tests that a tree with an attribute that is not a link attribute cannot
+	 * be walked.
+	 */
+	@Test
+	public void testNotALinkAttribute()
+	{
+		DecisionTree tree = new DecisionTree(new TreeNode(0, "Article Title Exists?"));
+		try
+		{
+			new LinkTreeClassifier(tree).isArticle(0);
+			fail("A visual feature should not be used by the link classifier");
+		}
+		catch (IllegalArgumentException e)
+		{
+		}
+	}
+
+	/**
+	 * Tests dropping the scheme of a URL.
+	 */
+	@Test
+	public void testStripScheme()
+	{
+		assertEquals("www.cnn.com/us", LinkTreeClassifier.stripScheme("https://www.cnn.com/us"));
+		assertEquals("www.cnn.com/us", LinkTreeClassifier.stripScheme("HTTP://www.cnn.com/us"));
+		assertEquals("www.cnn.com/us", LinkTreeClassifier.stripScheme("www.cnn.com/us"));
+		assertEquals("ftp://cnn.com", LinkTreeClassifier.stripScheme("ftp://cnn.com"));
+	}
+
+	/**
+	 * Tests writing a decision for each URL of a stream.
+	 */
+	@Test
+	public void testClassifyAll() throws IOException
+	{
+		String list = "abcnews.go.com/US/story?id=56957729\nwww.cnn.com/us/\n";
+		UrlStreamReader in = new UrlStreamReader(new ByteArrayInputStream(list.getBytes(StandardCharsets.UTF_8)));
+		StringWriter out = new StringWriter();
+		assertEquals(2, classifier.classifyAll(in, out));
+		assertEquals("abcnews.go.com/US/story?id=56957729,1\nwww.cnn.com/us/,0\n", out.toString());
+	}
+}
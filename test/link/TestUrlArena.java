@@ -0,0 +1,127 @@
+package link;
+
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+/**
+ * A class that contains all of the JUnit tests related to the UrlArena class.
+ * @author Nick Rummel
+ */
+public class TestUrlArena
+{
+	/**
+	 * Tests adding URLs to an arena, including one that makes it grow.
+	 */
+	@Test
+	public void testAdd()
+	{
+		UrlArena arena = new UrlArena(4, 1);
+		arena.add("cnn.com/us/");
+		arena.add("");
+		arena.add("yahoo.com/news/cruz-orourke-face-off-023824069.html");
+		assertEquals(3, arena.size());
+		assertEquals("cnn.com/us/", arena.getURL(0));
+		assertEquals("", arena.getURL(1));
+		assertEquals("yahoo.com/news/cruz-orourke-face-off-023824069.html", arena.getURL(2));
+		assertEquals(11, arena.getLength(0));
+		assertEquals(11, arena.getStart(2));
+		assertEquals(62, arena.byteCount());
+		assertEquals('c', arena.charAt(0));
+	}
+
+	/**
+	 * Tests that characters above 0xFF are saved as the replacement byte and
+	 * that Latin-1 characters are kept.
+	 */
+	@Test
+	public void testAddNonAscii()
+	{
+		UrlArena arena = new UrlArena(16, 1);
+		arena.add("site.com/caf\u00e9/\u2603");
+		assertEquals("site.com/caf\u00e9/?", arena.getURL(0));
+	}
+
+	/**
+	 * Tests that clearing an arena removes the URLs so the memory can be used
+	 * again.
+	 */
+	@Test
+	public void testClear()
+	{
+		UrlArena arena = new UrlArena(16, 4);
+		arena.add("cnn.com/us/");
+		arena.clear();
+		assertEquals(0, arena.size());
+		assertEquals(0, arena.byteCount());
+		arena.add("fox.com/");
+		assertEquals("fox.com/", arena.getURL(0));
+	}
+
+	/**
+	 * Tests an arena over a buffer that already has the URLs in it.
+	 */
+	@Test
+	public void testWrapBuffer()
+	{
+		ByteBuffer bytes = ByteBuffer.wrap("cnn.com/fox.com/news".getBytes());
+		UrlArena arena = new UrlArena(bytes, new int[]
+		{ 0, 8, 20 }, 2);
+		assertEquals("cnn.com/", arena.getURL(0));
+		assertEquals("fox.com/news", arena.getURL(1));
+		try
+		{
+			new UrlArena(bytes, new int[]
+			{ 0, 8, 21 }, 2);
+			fail("Offsets past the end of the buffer should not be used");
+		}
+		catch (IllegalArgumentException e)
+		{
+		}
+		try
+		{
+			new UrlArena(bytes, new int[]
+			{ 0, 8 }, 2);
+			fail("There must be one more offset than the number of URLs");
+		}
+		catch (IllegalArgumentException e)
+		{
+		}
+	}
+
+	/**
+	 * Tests that an arena over a caller's buffer cannot be changed, so the
+	 * caller's offsets and a read-only buffer are never written.
+	 */
+	@Test
+	public void testWrappedArenaIsReadOnly()
+	{
+		int[] offsets =
+		{ 0, 8, 20, 0 };
+		ByteBuffer bytes = ByteBuffer.wrap("cnn.com/fox.com/news".getBytes()).asReadOnlyBuffer();
+		UrlArena arena = new UrlArena(bytes, offsets, 2);
+		assertTrue(arena.isReadOnly());
+		assertFalse(new UrlArena(16, 1).isReadOnly());
+		try
+		{
+			arena.add("abc.com/");
+			fail("URLs should not be added to a wrapped arena");
+		}
+		catch (UnsupportedOperationException e)
+		{
+		}
+		try
+		{
+			arena.clear();
+			fail("A wrapped arena should not be cleared");
+		}
+		catch (UnsupportedOperationException e)
+		{
+		}
+		assertEquals(2, arena.size());
+		assertEquals(0, offsets[3]);
+		assertEquals("fox.com/news", arena.getURL(1));
+	}
+}
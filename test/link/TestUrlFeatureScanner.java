@@ -0,0 +1,114 @@
+package link;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * A class that contains all of the JUnit tests related to the
+ * UrlFeatureScanner class.
+ * @author Nick Rummel
+ */
+public class TestUrlFeatureScanner
+{
+	/**
+	 * Tests all six features of an article URL and a section URL.
+	 */
+	@Test
+	public void testScan()
+	{
+		assertEquals(
+				LinkAnalysis.FOURSLASHESFEATURE | LinkAnalysis.IDNUMBERFEATURE | LinkAnalysis.DATEFEATURE
+						| LinkAnalysis.LONGERLENGTHFEATURE | LinkAnalysis.NORESERVEDWORDFEATURE
+						| LinkAnalysis.NOENDSLASHFEATURE,
+				UrlFeatureScanner.scan(
+						"theverge.com/2018/9/20/17883242/amazon-alexa-event-2018-news-recap-echo-auto-dot-sub-link-auto-microwave"));
+		assertEquals(LinkAnalysis.NORESERVEDWORDFEATURE, UrlFeatureScanner.scan("yahoo.com/news/science/"));
+		assertEquals(LinkAnalysis.NORESERVEDWORDFEATURE | LinkAnalysis.NOENDSLASHFEATURE,
+				UrlFeatureScanner.scan(""));
+	}
+
+	/**
+	 * Tests the ways an ID number can be in a URL.
+	 */
+	@Test
+	public void testIDNumber()
+	{
+		// the whole part is a number
+		assertTrue(hasID("cnn.com/12345678"));
+		assertTrue(hasID("cnn.com/+1234567"));
+		assertFalse(hasID("cnn.com/00000001"));
+		// after a title, with or without .html
+		assertTrue(hasID("yahoo.com/news/cruz-orourke-face-off-023824069.html"));
+		assertTrue(hasID("fox.com/news-story-1234567"));
+		assertFalse(hasID("fox.com/news-story-1234567a"));
+		// as a parameter
+		assertTrue(hasID("abcnews.go.com/US/story?id=56957729"));
+		assertTrue(hasID("abc.com/story?x=1&id=56957729&page=two"));
+		// a value that ends with a number is read all the way to the end
+		assertFalse(hasID("abc.com/story?x=1&id=56957729&page=2"));
+		// a long word after an underscore
+		assertTrue(hasID("site.com/a_abcdefgh"));
+		assertFalse(hasID("site.com/abc_defg_hij"));
+		// the part must have more than 7 characters
+		assertFalse(hasID("cnn.com/2000000"));
+	}
+
+	/**
+	 * Tests that numbers too large for an int are not ID numbers, the same as
+	 * Integer.parseInt has always read them.
+	 */
+	@Test
+	public void testIDNumberOutOfRange()
+	{
+		assertTrue(hasID("cnn.com/2147483647"));
+		assertFalse(hasID("cnn.com/2147483648"));
+		assertFalse(hasID("cnn.com/story-99999999999"));
+		assertFalse(hasID("abc.com/story?id=99999999999"));
+	}
+
+	/**
+	 * Tests finding a yyyy/mm/dd date.
+	 */
+	@Test
+	public void testDate()
+	{
+		assertTrue(hasFeature("cnn.com/2018/09/20/news", LinkAnalysis.DATEFEATURE));
+		assertTrue(hasFeature("cnn.com/2018/9/2", LinkAnalysis.DATEFEATURE));
+		assertFalse(hasFeature("cnn.com/2018/09/news/20", LinkAnalysis.DATEFEATURE));
+		assertFalse(hasFeature("cnn.com/2018/09/", LinkAnalysis.DATEFEATURE));
+		assertFalse(hasFeature("cnn.com/18/09/20", LinkAnalysis.DATEFEATURE));
+	}
+
+	/**
+	 * Tests finding reserve words anywhere in the URL.
+	 */
+	@Test
+	public void testReserveWords()
+	{
+		assertFalse(hasFeature("cnn.com/videos/tech", LinkAnalysis.NORESERVEDWORDFEATURE));
+		assertFalse(hasFeature("nbc.com/show/episode-5", LinkAnalysis.NORESERVEDWORDFEATURE));
+		assertTrue(hasFeature("nbc.com/show/Episode-5", LinkAnalysis.NORESERVEDWORDFEATURE));
+	}
+
+	/**
+	 * Checks if a URL has an ID number.
+	 * @param url the URL
+	 * @return true if the ID number feature is set
+	 */
+	private boolean hasID(String url)
+	{
+		return hasFeature(url, LinkAnalysis.IDNUMBERFEATURE);
+	}
+
+	/**
+	 * Checks if a URL has a feature.
+	 * @param url the URL
+	 * @param feature the feature bit
+	 * @return true if the feature is set
+	 */
+	private boolean hasFeature(String url, int feature)
+	{
+		return (UrlFeatureScanner.scan(url) & feature) != 0;
+	}
+}
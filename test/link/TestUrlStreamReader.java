@@ -0,0 +1,142 @@
+package link;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.Test;
+
+/**
+ * A class that contains all of the JUnit tests related to the UrlStreamReader
+ * class.
+ * @author Nick Rummel
+ */
+public class TestUrlStreamReader
+{
+	/**
+	 * A constant for a small sitemap with a comment, a namespace prefix, an
+	 * entity and a CDATA section.
+	 */
+	private static final String SITEMAP = "\uFEFF<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+			+ "<!-- <loc>https://www.cnn.com/comment</loc> -->\n"
+			+ "<urlset xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\"\n"
+			+ "  xmlns:s=\"http://www.sitemaps.org/schemas/sitemap/0.9\">\n"
+			+ "<url><loc> https://www.cnn.com/us </loc><lastmod>2018-10-02</lastmod></url>\n"
+			+ "<url><loc>https://abcnews.go.com/US/story?id=56957729&amp;x=1</loc></url>\n"
+			+ "<url><s:loc><![CDATA[https://www.bbc.com/news/a]b]]></s:loc></url>\n"
+			+ "<url><location>https://www.bbc.com/news</location><loc/></url>\n" + "</urlset>\n";
+
+	/**
+	 * Tests reading the URLs of a sitemap.
+	 */
+	@Test
+	public void testSitemap() throws IOException
+	{
+		UrlStreamReader in = new UrlStreamReader(stream(SITEMAP.getBytes(StandardCharsets.UTF_8)));
+		assertTrue(in.isXML());
+		assertEquals("https://www.cnn.com/us", in.next());
+		assertEquals("https://abcnews.go.com/US/story?id=56957729&x=1", in.next());
+		assertEquals("https://www.bbc.com/news/a]b", in.next());
+		assertNull(in.next());
+		assertNull(in.next());
+		in.close();
+	}
+
+	/**
+	 * Tests that loc elements of extensions, such as image:loc, and loc
+	 * elements nested inside an extension element are skipped.
+	 */
+	@Test
+	public void testSitemapExtensions() throws IOException
+	{
+		String sitemap = "<urlset xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\"\n"
+				+ "  xmlns:image=\"http://www.google.com/schemas/sitemap-image/1.1\"\n"
+				+ "  xmlns:video='http://www.google.com/schemas/sitemap-video/1.1'>\n"
+				+ "<url><loc>https://www.cnn.com/us</loc>\n"
+				+ "<image:image><image:loc>https://www.cnn.com/a.jpg</image:loc></image:image>\n"
+				+ "<video:video><video:player/><loc>https://www.cnn.com/v.mp4</loc></video:video>\n"
+				+ "<extra xmlns=\"http://example.com/extra\"><loc>https://www.cnn.com/extra</loc></extra>\n"
+				+ "<x:loc>https://www.cnn.com/undeclared</x:loc></url>\n"
+				+ "<url><loc>https://www.foxnews.com/politics</loc></url>\n" + "</urlset>\n";
+		UrlStreamReader in = new UrlStreamReader(stream(sitemap.getBytes(StandardCharsets.UTF_8)));
+		assertEquals("https://www.cnn.com/us", in.next());
+		assertEquals("https://www.foxnews.com/politics", in.next());
+		assertNull(in.next());
+		in.close();
+	}
+
+	/**
+	 * Tests reading a list of URLs, skipping blank lines and comments.
+	 */
+	@Test
+	public void testList() throws IOException
+	{
+		String list = "www.cnn.com/us\r\n\n# not a URL\n  www.foxnews.com/politics  \nwww.bbc.com/news";
+		UrlStreamReader in = new UrlStreamReader(stream(list.getBytes(StandardCharsets.UTF_8)));
+		assertFalse(in.isXML());
+		assertEquals("www.cnn.com/us", in.next());
+		assertEquals("www.foxnews.com/politics", in.next());
+		assertEquals("www.bbc.com/news", in.next());
+		assertNull(in.next());
+		in.close();
+	}
+
+	/**
+	 * Tests that gzip compressed input is found and decompressed.
+	 */
+	@Test
+	public void testGzip() throws IOException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		GZIPOutputStream gzip = new GZIPOutputStream(bytes);
+		gzip.write(SITEMAP.getBytes(StandardCharsets.UTF_8));
+		gzip.close();
+		UrlStreamReader in = new UrlStreamReader(stream(bytes.toByteArray()));
+		assertTrue(in.isXML());
+		assertEquals("https://www.cnn.com/us", in.next());
+		in.close();
+	}
+
+	/**
+	 * Tests that a URL longer than the most characters allowed is skipped.
+	 */
+	@Test
+	public void testTooLong() throws IOException
+	{
+		StringBuilder list = new StringBuilder();
+		for (int i = 0; i <= UrlStreamReader.MAXURLLENGTH; i++)
+		{
+			list.append('a');
+		}
+		list.append("\nwww.cnn.com/us\n");
+		UrlStreamReader in = new UrlStreamReader(stream(list.toString().getBytes(StandardCharsets.UTF_8)));
+		assertEquals("www.cnn.com/us", in.next());
+		assertNull(in.next());
+		in.close();
+	}
+
+	/**
+	 * Tests that empty input has no URLs.
+	 */
+	@Test
+	public void testEmpty() throws IOException
+	{
+		UrlStreamReader in = new UrlStreamReader(stream(new byte[0]));
+		assertNull(in.next());
+		in.close();
+	}
+
+	/**
+	 * Creates a stream of bytes.
+	 * @param bytes the bytes
+	 * @return the stream
+	 */
+	private static ByteArrayInputStream stream(byte[] bytes)
+	{
+		return new ByteArrayInputStream(bytes);
+	}
+}
@@ -0,0 +1,127 @@
+package link;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A class that contains all of the JUnit tests related to the UrlTemplateTrie
+ * class.
+ * @author Nick Rummel
+ */
+public class TestUrlTemplateTrie
+{
+	UrlTemplateTrie trie;
+
+	/**
+	 * Learns a few labelled URLs from the data set before each test case.
+	 */
+	@Before
+	public void init()
+	{
+		trie = new UrlTemplateTrie();
+		trie.learn("abcnews.go.com/International/journey-home-underway-remains-us-soldiers-killed-korean/story?id=56957729",
+				true);
+		trie.learn("abcnews.go.com/US", false);
+		trie.learn("abcnews.go.com/Sports", false);
+		trie.learn("www.cnn.com/2018/10/02/politics/trump-kavanaugh-fbi/index.html", true);
+		trie.learn("www.cnn.com/us", false);
+	}
+
+	/**
+	 * Tests building the template of a URL.
+	 */
+	@Test
+	public void testTemplate()
+	{
+		assertEquals(Arrays.asList("abcnews.go.com", "us", "*", "story", "?id=#"),
+				UrlTemplateTrie.template("https://abcnews.go.com/US/a-long-story-title/story?id=56957729"));
+		assertEquals(Arrays.asList("www.cnn.com", "#", "#", "#", "politics", "*", "index.html"),
+				UrlTemplateTrie.template("www.cnn.com/2018/10/02/politics/trump-kavanaugh-fbi/index.html"));
+		assertEquals(Arrays.asList("www.bbc.com", "world-news", "/"),
+				UrlTemplateTrie.template("www.bbc.com/world-news/"));
+		assertEquals(Arrays.asList("www.bbc.com"), UrlTemplateTrie.template("www.bbc.com"));
+		assertEquals(Arrays.asList("www.bbc.com", "*"), UrlTemplateTrie.template("www.bbc.com//news-45678901"));
+	}
+
+	/**
+	 * Tests building the general template of a URL.
+	 */
+	@Test
+	public void testGeneralize()
+	{
+		assertEquals(Arrays.asList("www.cnn.com", "#", "@", "*", "/", "?id=#"), UrlTemplateTrie
+				.generalize(UrlTemplateTrie.template("www.cnn.com/2018/politics/trump-kavanaugh-fbi/?id=1")));
+	}
+
+	/**
+	 * Tests classifying URLs whose templates were learned.
+	 */
+	@Test
+	public void testClassify()
+	{
+		assertEquals(UrlTemplateTrie.ARTICLE,
+				trie.classify("https://abcnews.go.com/International/another-long-story-title/story?id=56966621"));
+		assertEquals(UrlTemplateTrie.NOTARTICLE, trie.classify("abcnews.go.com/us"));
+		assertEquals(UrlTemplateTrie.ARTICLE,
+				trie.classify("www.cnn.com/2018/10/03/politics/another-story-title/index.html"));
+	}
+
+	/**
+	 * Tests that the general template is used when the exact template was not
+	 * learned.
+	 */
+	@Test
+	public void testClassifyGeneral()
+	{
+		assertEquals(UrlTemplateTrie.NOTARTICLE, trie.classify("abcnews.go.com/Politics"));
+		assertEquals(UrlTemplateTrie.ARTICLE,
+				trie.classify("www.cnn.com/2018/10/03/health/another-story-title/index.html"));
+	}
+
+	/**
+	 * Tests that unseen hosts and templates, and templates seen as often for
+	 * both labels, are unknown.
+	 */
+	@Test
+	public void testClassifyUnknown()
+	{
+		assertFalse(trie.hasHost("www.bbc.com/news"));
+		assertEquals(UrlTemplateTrie.UNKNOWN, trie.classify("www.bbc.com/news"));
+		assertTrue(trie.hasHost("https://www.cnn.com/videos"));
+		assertEquals(UrlTemplateTrie.UNKNOWN, trie.classify("www.cnn.com/videos/us/"));
+		trie.learn("www.cnn.com/us", true);
+		assertEquals(UrlTemplateTrie.UNKNOWN, trie.classify("www.cnn.com/us"));
+	}
+
+	/**
+	 * Tests that a template needs enough labelled URLs to be used.
+	 */
+	@Test
+	public void testMinimumSupport()
+	{
+		trie = new UrlTemplateTrie(2);
+		trie.learn("www.cnn.com/us", false);
+		assertEquals(UrlTemplateTrie.UNKNOWN, trie.classify("www.cnn.com/us"));
+		trie.learn("www.cnn.com/us", false);
+		assertEquals(UrlTemplateTrie.NOTARTICLE, trie.classify("www.cnn.com/us"));
+	}
+
+	/**
+	 * Tests that templates that share a prefix share nodes.
+	 */
+	@Test
+	public void testSize()
+	{
+		trie = new UrlTemplateTrie();
+		assertEquals(1, trie.size());
+		trie.learn("www.cnn.com/2018/10/02/politics/trump-kavanaugh-fbi/index.html", true);
+		// both URLs have the same template and general template
+		int size = trie.size();
+		trie.learn("www.cnn.com/2018/10/03/politics/another-story-title/index.html", true);
+		assertEquals(size, trie.size());
+	}
+}